@@ -0,0 +1,80 @@
+package com.teambind.payment.adapter.in.kafka.wire;
+
+import com.teambind.payment.adapter.in.kafka.dto.ReservationConfirmedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 확정 이벤트 역직렬화 비용 - 전용 스트리밍 파서 vs 이전 설정(Spring JsonDeserializer, 고정 타입)
+ * - 모르는 필드가 섞인 실제 형식의 레코드를 순환하며 측정 (같은 입력 반복에 의한 분기 예측/캐시 왜곡 방지)
+ * - 이전 설정은 JacksonUtils 기본 ObjectMapper(JavaTimeModule, 모르는 필드 무시) + 타입 헤더 미사용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ReservationConfirmedEventDeserializerBenchmark {
+	
+	private static final String TOPIC = "complete-reservation-info";
+	private static final int CORPUS_SIZE = 1024;
+	
+	private final ReservationConfirmedEventDeserializer streaming = new ReservationConfirmedEventDeserializer();
+	private final JsonDeserializer<ReservationConfirmedEvent> springJson =
+			new JsonDeserializer<>(ReservationConfirmedEvent.class, false);
+	
+	private byte[][] records;
+	private int cursor;
+	
+	@Setup
+	public void setUp() {
+		records = realisticCorpus(CORPUS_SIZE);
+	}
+	
+	@TearDown
+	public void tearDown() {
+		streaming.close();
+		springJson.close();
+	}
+	
+	@Benchmark
+	public ReservationConfirmedEvent streamingParser() {
+		return streaming.deserialize(TOPIC, records[next()]);
+	}
+	
+	@Benchmark
+	public ReservationConfirmedEvent springJsonDeserializer() {
+		return springJson.deserialize(TOPIC, records[next()]);
+	}
+	
+	private int next() {
+		cursor = (cursor + 1) & (CORPUS_SIZE - 1);
+		return cursor;
+	}
+	
+	// 예약 서버 발행 형식 - 수신 측이 쓰지 않는 필드(roomId, options)를 포함해 skipChildren 경로까지 측정
+	private static byte[][] realisticCorpus(int size) {
+		Random random = new Random(42);
+		byte[][] corpus = new byte[size][];
+		for (int i = 0; i < size; i++) {
+			String checkInDate = String.format("2025-%02d-%02dT15:00:00", random.nextInt(12) + 1, random.nextInt(28) + 1);
+			String json = "{\"topic\":\"" + TOPIC + "\",\"eventType\":\"RESERVATION_CONFIRMED\",\"reservationId\":\"RSV-"
+					+ random.nextInt(1_000_000) + "\",\"roomId\":" + random.nextInt(500)
+					+ ",\"totalPrice\":" + (random.nextInt(100) + 1) * 1000L
+					+ ",\"checkInDate\":\"" + checkInDate
+					+ "\",\"options\":[{\"name\":\"breakfast\",\"price\":15000}]"
+					+ ",\"occurredAt\":\"2025-01-10T09:30:15.123456789\"}";
+			corpus[i] = json.getBytes(StandardCharsets.UTF_8);
+		}
+		return corpus;
+	}
+}
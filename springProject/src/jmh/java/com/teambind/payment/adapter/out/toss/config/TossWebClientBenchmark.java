@@ -0,0 +1,101 @@
+package com.teambind.payment.adapter.out.toss.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.teambind.payment.adapter.out.toss.TossPaymentAdapter;
+import com.teambind.payment.adapter.out.toss.dto.TossPaymentConfirmRequest;
+import com.teambind.payment.adapter.out.toss.dto.TossPaymentConfirmResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토스 승인 요청 구성 비용 (네트워크 전송 제외 - 구독하지 않은 Mono까지)
+ * - 이전 방식: 호출마다 공용 WebClient.Builder로 WebClient 생성(코덱/커넥터 초기화) + secretKey Base64 인코딩
+ * - 현재 방식: 공유 tossWebClient(base-url, TossClientConfig.authorizationHeader로 미리 계산한 인증 헤더) 재사용
+ * - 공용 Builder는 Spring Boot 자동 설정과 같이 애플리케이션 ObjectMapper 기반 Jackson 코덱을 등록
+ * - 호출당 할당량은 -prof gc로 측정 (./gradlew jmh -PjmhIncludes=TossWebClient -PjmhProfilers=gc)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class TossWebClientBenchmark {
+	
+	private static final String BASE_URL = "https://api.tosspayments.com";
+	private static final String SECRET_KEY = "test_sk_zXLkKEypNArWmo50nX3lmeaxYG5R";
+	
+	private final TossPaymentConfirmRequest request =
+			new TossPaymentConfirmRequest("tgen_20250110093015abcdEF", "ORDER-7f3c2a1e", 50000L);
+	
+	private ConnectionProvider connectionProvider;
+	private WebClient.Builder webClientBuilder;
+	private WebClient tossWebClient;
+	
+	@Setup
+	public void setUp() {
+		ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+		webClientBuilder = WebClient.builder()
+				.codecs(configurer -> {
+					configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+					configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+				});
+		
+		connectionProvider = ConnectionProvider.builder("toss-benchmark").build();
+		tossWebClient = webClientBuilder.clone()
+				.baseUrl(BASE_URL)
+				.clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider).keepAlive(true)))
+				.defaultHeader(HttpHeaders.AUTHORIZATION, TossClientConfig.authorizationHeader(SECRET_KEY))
+				.defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.build();
+	}
+	
+	@TearDown
+	public void tearDown() {
+		connectionProvider.dispose();
+	}
+	
+	@Benchmark
+	public Mono<TossPaymentConfirmResponse> buildClientPerCall() {
+		String encodedKey = Base64.getEncoder()
+				.encodeToString((SECRET_KEY + ":").getBytes(StandardCharsets.UTF_8));
+		
+		return webClientBuilder.build()
+				.post()
+				.uri(BASE_URL + "/v1/payments/confirm")
+				.header(HttpHeaders.AUTHORIZATION, "Basic " + encodedKey)
+				.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.header(TossPaymentAdapter.IDEMPOTENCY_KEY_HEADER, "idem-1")
+				.bodyValue(request)
+				.retrieve()
+				.bodyToMono(TossPaymentConfirmResponse.class);
+	}
+	
+	@Benchmark
+	public Mono<TossPaymentConfirmResponse> sharedClient() {
+		return tossWebClient
+				.post()
+				.uri("/v1/payments/confirm")
+				.header(TossPaymentAdapter.IDEMPOTENCY_KEY_HEADER, "idem-1")
+				.bodyValue(request)
+				.retrieve()
+				.bodyToMono(TossPaymentConfirmResponse.class);
+	}
+}
@@ -0,0 +1,78 @@
+package com.teambind.payment.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.teambind.payment.domain.EventType;
+import com.teambind.payment.domain.OutboxPayloadCorpus;
+import com.teambind.payment.domain.PayloadCodec;
+import com.teambind.payment.domain.PaymentEvent;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox 이벤트 Kafka 값 직렬화 비용 (PaymentEventPublisher.sendEventToKafka)
+ * - 이전 방식: 저장된 JSON을 Object 트리로 파싱 후 JsonSerializer(타입 헤더 없음)로 다시 직렬화
+ * - 현재 방식: 저장된 payload 바이트를 ByteArraySerializer로 그대로 전달
+ * - 이벤트당 할당량은 -prof gc로 측정 (./gradlew jmh -PjmhIncludes=OutboxKafkaValue -PjmhProfilers=gc → gc.alloc.rate.norm)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class OutboxKafkaValueBenchmark {
+	
+	private static final String TOPIC = "payment-completed";
+	private static final int CORPUS_SIZE = 1024;
+	private static final EventType[] EVENT_TYPES = {
+			EventType.PAYMENT_COMPLETED, EventType.PAYMENT_CANCELLED, EventType.REFUND_COMPLETED
+	};
+	
+	private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+	private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>().noTypeInfo();
+	private final ByteArraySerializer byteArraySerializer = new ByteArraySerializer();
+	
+	private PaymentEvent[] events;
+	private int cursor;
+	
+	@Setup
+	public void setUp() {
+		List<String> corpus = OutboxPayloadCorpus.realistic(CORPUS_SIZE);
+		events = new PaymentEvent[CORPUS_SIZE];
+		for (int i = 0; i < CORPUS_SIZE; i++) {
+			events[i] = PaymentEvent.create("PAY-" + i, EVENT_TYPES[i % 3], corpus.get(i), PayloadCodec.JSON_TEXT);
+		}
+	}
+	
+	@TearDown
+	public void tearDown() {
+		jsonSerializer.close();
+		byteArraySerializer.close();
+	}
+	
+	@Benchmark
+	public byte[] parseAndReserialize() throws JsonProcessingException {
+		Object eventPayload = objectMapper.readValue(events[next()].getPayload(), Object.class);
+		return jsonSerializer.serialize(TOPIC, eventPayload);
+	}
+	
+	@Benchmark
+	public byte[] rawBytes() {
+		return byteArraySerializer.serialize(TOPIC, events[next()].getPayloadBytes());
+	}
+	
+	private int next() {
+		cursor = (cursor + 1) & (CORPUS_SIZE - 1);
+		return cursor;
+	}
+}
@@ -0,0 +1,43 @@
+package com.teambind.payment.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 Outbox payload 코퍼스
+ * - PayloadCodecTest와 같은 분포 - 실제 ID 형식(UUID 기반)의 결제 완료 / 결제 취소 / 환불 완료 이벤트 JSON
+ */
+public final class OutboxPayloadCorpus {
+	
+	private OutboxPayloadCorpus() {
+	}
+	
+	public static List<String> realistic(int size) {
+		Random random = new Random(42);
+		List<String> corpus = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			String paymentId = "PAY-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+			String reservationId = "RSV-" + random.nextInt(1_000_000);
+			long amount = (random.nextInt(100) + 1) * 1000L;
+			String at = String.format("2025-%02d-%02dT%02d:%02d:%02d",
+					random.nextInt(12) + 1, random.nextInt(28) + 1,
+					random.nextInt(24), random.nextInt(60), random.nextInt(60));
+			corpus.add(switch (i % 3) {
+				case 0 -> "{\"paymentId\":\"" + paymentId + "\",\"reservationId\":\"" + reservationId
+						+ "\",\"orderId\":\"ORDER-" + UUID.randomUUID() + "\",\"paymentKey\":\"tgen_"
+						+ UUID.randomUUID().toString().replace("-", "") + "\",\"amount\":" + amount
+						+ ",\"method\":\"CARD\",\"paidAt\":\"" + at + "\"}";
+				case 1 -> "{\"paymentId\":\"" + paymentId + "\",\"reservationId\":\"" + reservationId
+						+ "\",\"orderId\":\"ORDER-" + UUID.randomUUID() + "\",\"amount\":" + amount
+						+ ",\"cancelledAt\":\"" + at + "\"}";
+				default -> "{\"topic\":\"refund-completed\",\"eventType\":\"RefundCompleted\",\"refundId\":\"REF-"
+						+ random.nextInt(100_000) + "\",\"paymentId\":\"" + paymentId + "\",\"reservationId\":\""
+						+ reservationId + "\",\"originalAmount\":" + amount + ",\"refundAmount\":" + (amount * 9 / 10)
+						+ ",\"reason\":\"사용자 요청\",\"completedAt\":\"" + at + "\"}";
+			});
+		}
+		return corpus;
+	}
+}
@@ -0,0 +1,56 @@
+package com.teambind.payment.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox payload 코덱 인코딩/디코딩 비용 (이벤트 저장 시 encode, 발행 시 decode)
+ * - 결제 완료/결제 취소/환불 완료 이벤트를 섞은 코퍼스를 순환하며 측정 (같은 입력 반복에 의한 분기 예측/캐시 왜곡 방지)
+ * - 저장 크기 비율은 PayloadCodecTest의 코퍼스 테스트에서 검증
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class PayloadCodecBenchmark {
+	
+	private static final int CORPUS_SIZE = 1024;
+	
+	@Param({"JSON_TEXT", "DEFLATE_DICT_V1"})
+	private PayloadCodec codec;
+	
+	private String[] payloads;
+	private byte[][] stored;
+	private int cursor;
+	
+	@Setup
+	public void setUp() {
+		payloads = OutboxPayloadCorpus.realistic(CORPUS_SIZE).toArray(String[]::new);
+		stored = new byte[CORPUS_SIZE][];
+		for (int i = 0; i < CORPUS_SIZE; i++) {
+			stored[i] = codec.encode(payloads[i]);
+		}
+	}
+	
+	@Benchmark
+	public byte[] encode() {
+		return codec.encode(payloads[next()]);
+	}
+	
+	@Benchmark
+	public byte[] decode() {
+		return codec.decode(stored[next()]);
+	}
+	
+	private int next() {
+		cursor = (cursor + 1) & (CORPUS_SIZE - 1);
+		return cursor;
+	}
+}
@@ -26,6 +26,7 @@ public enum ErrorCode {
 	PAYMENT_NOT_COMPLETED("PAYMENT_005", "Payment not completed", HttpStatus.BAD_REQUEST),
 	INVALID_PAYMENT_STATUS("PAYMENT_006", "Invalid payment status", HttpStatus.BAD_REQUEST),
 	PAYMENT_CONFIRMATION_FAILED("PAYMENT_007", "Payment confirmation failed", HttpStatus.BAD_GATEWAY),
+	PAYMENT_CONFIRMATION_IN_PROGRESS("PAYMENT_008", "Payment confirmation in progress", HttpStatus.CONFLICT),
 	
 	// 환불 관련 에러 (REFUND_0XX)
 	REFUND_NOT_FOUND("REFUND_001", "Refund not found", HttpStatus.NOT_FOUND),
@@ -39,6 +40,7 @@ public enum ErrorCode {
 	TOSS_API_ERROR("TOSS_001", "Toss API error", HttpStatus.BAD_GATEWAY),
 	TOSS_API_TIMEOUT("TOSS_002", "Toss API timeout", HttpStatus.GATEWAY_TIMEOUT),
 	TOSS_INVALID_RESPONSE("TOSS_003", "Invalid Toss API response", HttpStatus.BAD_GATEWAY),
+	TOSS_API_UNAVAILABLE("TOSS_004", "Toss API temporarily unavailable", HttpStatus.SERVICE_UNAVAILABLE),
 	
 	// 시스템 에러 (SYSTEM_0XX)
 	INTERNAL_SERVER_ERROR("SYSTEM_001", "Internal server error", HttpStatus.INTERNAL_SERVER_ERROR),
@@ -1,20 +1,38 @@
 package com.teambind.payment.adapter.in.kafka.config;
 
 import com.teambind.payment.adapter.in.kafka.dto.ReservationConfirmedEvent;
+import com.teambind.payment.adapter.in.kafka.wire.ReservationConfirmedEventDeserializer;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.ContainerProperties;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.ExponentialBackOff;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @EnableKafka
@@ -22,27 +40,97 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class KafkaConsumerConfig {
 	
+	// @RetryableTopic 기본 DLT 접미사와 동일
+	private static final String DLT_SUFFIX = "-dlt";
+	
 	private final KafkaProperties kafkaProperties;
 	
+	// 배치 모드에서 한 번에 처리할 최대 레코드 수 (= 한 번의 multi-row INSERT 크기)
+	@Value("${kafka.reservation-consumer.max-poll-records:500}")
+	private int batchMaxPollRecords;
+	
+	// 배치/병렬 모드 재시도 - 실패 레코드부터 지수 백오프로 재전달, 소진 시 DLT(<topic>-dlt)로 이동 (record 모드 DLT와 동일 토픽)
+	@Value("${kafka.reservation-consumer.batch-retry.initial-interval-ms:1000}")
+	private long batchRetryInitialIntervalMs;
+	
+	@Value("${kafka.reservation-consumer.batch-retry.multiplier:2.0}")
+	private double batchRetryMultiplier;
+	
+	@Value("${kafka.reservation-consumer.batch-retry.max-interval-ms:30000}")
+	private long batchRetryMaxIntervalMs;
+	
+	@Value("${kafka.reservation-consumer.batch-retry.max-elapsed-ms:300000}")
+	private long batchRetryMaxElapsedMs;
+	
 	@Bean
 	public ConsumerFactory<String, ReservationConfirmedEvent> consumerFactory() {
 		Map<String, Object> props = new HashMap<>();
 		props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.getBootstrapServers());
 		props.put(ConsumerConfig.GROUP_ID_CONFIG, kafkaProperties.getConsumer().getGroupId());
 		props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-		props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+		props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
 		props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
 		props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false); // 수동 커밋
-		props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-		props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, ReservationConfirmedEvent.class.getName());
 		
+		// 예약 확정 이벤트 전용 스트리밍 역직렬화기 (타입 헤더/신뢰 패키지 없이 고정 타입으로만 변환)
+		// 역직렬화 실패 시 예외 대신 null 값 + 예외 헤더로 전달 → 잘못된 JSON 한 건이 파티션을 막지 않음
 		return new DefaultKafkaConsumerFactory<>(
 				props,
 				new StringDeserializer(),
-				new JsonDeserializer<>(ReservationConfirmedEvent.class, false)
+				new ErrorHandlingDeserializer<>(new ReservationConfirmedEventDeserializer())
 		);
 	}
 	
+	// 재시도/DLT 토픽 발행용 템플릿 - 역직렬화 실패 레코드는 원본 바이트, 처리 실패 레코드는 JSON으로 전달
+	@Bean
+	public KafkaTemplate<String, Object> reservationRetryKafkaTemplate() {
+		Map<String, Object> props = new HashMap<>();
+		props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.getBootstrapServers());
+		props.put(ProducerConfig.ACKS_CONFIG, "all");
+		props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+		
+		Map<Class<?>, Serializer<?>> valueSerializers = new LinkedHashMap<>();
+		valueSerializers.put(byte[].class, new ByteArraySerializer());
+		valueSerializers.put(ReservationConfirmedEvent.class, new JsonSerializer<ReservationConfirmedEvent>().noTypeInfo());
+		
+		return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+				props,
+				new StringSerializer(),
+				new DelegatingByTypeSerializer(valueSerializers)
+		));
+	}
+	
+	// 배치/병렬 모드 DLT 발행 - 역직렬화 실패 레코드는 원본 바이트 그대로, 검증/처리 실패 레코드는 JSON으로 전달
+	@Bean
+	public DeadLetterPublishingRecoverer reservationDeadLetterRecoverer(KafkaTemplate<String, Object> reservationRetryKafkaTemplate) {
+		return new DeadLetterPublishingRecoverer(reservationRetryKafkaTemplate,
+				(record, exception) -> new TopicPartition(record.topic() + DLT_SUFFIX, -1));
+	}
+	
+	// 배치/병렬 모드 DLT 토픽 - record 모드는 @RetryableTopic이 생성
+	@Bean
+	@ConditionalOnExpression("'${kafka.reservation-consumer.mode:record}' != 'record' && ${kafka.reservation-consumer.retry.auto-create-topics:true}")
+	public NewTopic reservationDeadLetterTopic(
+			@Value("${kafka.topics.reservation-confirmed}") String reservationTopic,
+			@Value("${kafka.reservation-consumer.retry.replication-factor:1}") short replicationFactor
+	) {
+		return TopicBuilder.name(reservationTopic + DLT_SUFFIX)
+				.replicas(replicationFactor)
+				.build();
+	}
+	
+	// 배치 리스너 에러 핸들러 - BatchListenerFailedException의 위치 이전 레코드는 커밋하고 실패 레코드부터 재전달
+	// 재시도 소진 시 실패 레코드만 DLT로 보내고 나머지는 계속 처리
+	// 역직렬화/검증 실패 레코드는 리스너가 ReservationDeadLetterHandler로 직접 DLT 발행 (여기로 오는 것은 일시적 실패뿐)
+	@Bean
+	public DefaultErrorHandler reservationBatchErrorHandler(DeadLetterPublishingRecoverer reservationDeadLetterRecoverer) {
+		ExponentialBackOff backOff = new ExponentialBackOff(batchRetryInitialIntervalMs, batchRetryMultiplier);
+		backOff.setMaxInterval(batchRetryMaxIntervalMs);
+		backOff.setMaxElapsedTime(batchRetryMaxElapsedMs);
+		
+		return new DefaultErrorHandler(reservationDeadLetterRecoverer, backOff);
+	}
+	
 	@Bean
 	public ConcurrentKafkaListenerContainerFactory<String, ReservationConfirmedEvent> kafkaListenerContainerFactory() {
 		ConcurrentKafkaListenerContainerFactory<String, ReservationConfirmedEvent> factory =
@@ -51,4 +139,20 @@ public class KafkaConsumerConfig {
 		factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL); // 수동 ACK
 		return factory;
 	}
+	
+	// 배치 리스너 (kafka.reservation-consumer.mode=batch) - poll 단위로 받아 한 번에 ACK
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<String, ReservationConfirmedEvent> batchKafkaListenerContainerFactory(
+			DefaultErrorHandler reservationBatchErrorHandler
+	) {
+		ConcurrentKafkaListenerContainerFactory<String, ReservationConfirmedEvent> factory =
+				new ConcurrentKafkaListenerContainerFactory<>();
+		factory.setConsumerFactory(consumerFactory());
+		factory.setBatchListener(true);
+		factory.setCommonErrorHandler(reservationBatchErrorHandler);
+		factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL); // 수동 ACK
+		factory.getContainerProperties().getKafkaConsumerProperties()
+				.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(batchMaxPollRecords));
+		return factory;
+	}
 }
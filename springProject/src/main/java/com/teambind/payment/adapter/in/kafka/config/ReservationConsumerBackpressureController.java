@@ -0,0 +1,151 @@
+package com.teambind.payment.adapter.in.kafka.config;
+
+import com.teambind.payment.application.service.BackpressurePolicy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 확정 이벤트 Consumer 백프레셔 컨트롤러
+ * - DB가 느려지면 예약 확정 토픽 파티션 소비를 일시 중단(pause)하고 커넥션 풀이 회복되면 재개(resume)
+ * - 풀 대기 시간: hikaricp.connections.acquire 타이머의 측정 구간 평균, 대기 스레드: hikaricp.connections.pending
+ * - 결제 준비 지연: 리스너 처리 시간(spring.kafka.listener 타이머, 배치/병렬 모드는 poll 단위)의 측정 구간 평균
+ * - 판단은 BackpressurePolicy(EWMA + 히스테리시스), 상태는 health(reservationConsumerBackpressure)와 게이지로 노출
+ * - 노드 단위 제어 (각 노드가 자신의 컨테이너만 중단/재개)
+ */
+@Component
+@ConditionalOnProperty(name = "kafka.reservation-consumer.backpressure.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ReservationConsumerBackpressureController {
+	
+	// 모드(record/batch/parallel)와 관계없이 예약 확정 리스너가 사용하는 ID
+	public static final String LISTENER_ID = "reservationConfirmed";
+	
+	private final KafkaListenerEndpointRegistry listenerEndpointRegistry;
+	private final MeterRegistry meterRegistry;
+	private final BackpressurePolicy policy;
+	
+	// 직전 측정 시점의 누적 타이머 값 (구간 평균 계산용)
+	private TimerTotals lastPoolAcquire = TimerTotals.EMPTY;
+	private TimerTotals lastListener = TimerTotals.EMPTY;
+	
+	public ReservationConsumerBackpressureController(
+			KafkaListenerEndpointRegistry listenerEndpointRegistry,
+			MeterRegistry meterRegistry,
+			@Value("${kafka.reservation-consumer.backpressure.ewma-alpha:0.3}") double alpha,
+			@Value("${kafka.reservation-consumer.backpressure.pause-pool-wait-ms:200}") long pausePoolWaitMs,
+			@Value("${kafka.reservation-consumer.backpressure.resume-pool-wait-ms:20}") long resumePoolWaitMs,
+			@Value("${kafka.reservation-consumer.backpressure.pause-prepare-latency-ms:1000}") long pausePrepareLatencyMs,
+			@Value("${kafka.reservation-consumer.backpressure.pause-pending-threads:5}") int pausePendingThreads,
+			@Value("${kafka.reservation-consumer.backpressure.min-pause-ms:5000}") long minPauseMs) {
+		this.listenerEndpointRegistry = listenerEndpointRegistry;
+		this.meterRegistry = meterRegistry;
+		this.policy = new BackpressurePolicy(alpha,
+				Duration.ofMillis(pausePoolWaitMs),
+				Duration.ofMillis(resumePoolWaitMs),
+				Duration.ofMillis(pausePrepareLatencyMs),
+				pausePendingThreads,
+				Duration.ofMillis(minPauseMs));
+		
+		Gauge.builder("kafka.reservation.consumer.paused", policy, p -> p.isPaused() ? 1 : 0)
+				.description("DB 포화로 예약 확정 이벤트 소비가 중단되었는지 여부 (1: 중단)")
+				.register(meterRegistry);
+		Gauge.builder("kafka.reservation.consumer.pool.wait", policy, BackpressurePolicy::poolWaitMs)
+				.description("커넥션 풀 대기 시간 EWMA")
+				.baseUnit("milliseconds")
+				.register(meterRegistry);
+		Gauge.builder("kafka.reservation.consumer.prepare.latency", policy, BackpressurePolicy::prepareLatencyMs)
+				.description("결제 준비(리스너 처리) 지연 EWMA")
+				.baseUnit("milliseconds")
+				.register(meterRegistry);
+	}
+	
+	@Scheduled(fixedDelayString = "${kafka.reservation-consumer.backpressure.check-interval-ms:1000}")
+	public void evaluate() {
+		MessageListenerContainer container = listenerEndpointRegistry.getListenerContainer(LISTENER_ID);
+		if (container == null || !container.isRunning()) {
+			return;
+		}
+		
+		try {
+			TimerTotals poolAcquire = TimerTotals.of(meterRegistry.find("hikaricp.connections.acquire").timers());
+			TimerTotals listener = TimerTotals.of(meterRegistry.find("spring.kafka.listener").timers().stream()
+					.filter(timer -> {
+						String name = timer.getId().getTag("name");
+						return name != null && name.startsWith(LISTENER_ID);
+					})
+					.toList());
+			int pendingThreads = (int) meterRegistry.find("hikaricp.connections.pending").gauges().stream()
+					.mapToDouble(Gauge::value)
+					.sum();
+			
+			// 구간 내 커넥션 획득이 없으면 대기도 없는 것으로 간주
+			double poolWaitMs = poolAcquire.meanSince(lastPoolAcquire).orElse(0);
+			OptionalDouble prepareLatencyMs = listener.meanSince(lastListener);
+			lastPoolAcquire = poolAcquire;
+			lastListener = listener;
+			
+			switch (policy.evaluate(poolWaitMs, pendingThreads, prepareLatencyMs, System.currentTimeMillis())) {
+				case PAUSE -> {
+					container.pause();
+					log.warn("DB 포화 감지 - 예약 확정 이벤트 소비 중단 - poolWaitMs: {}, prepareLatencyMs: {}, pendingThreads: {}",
+							policy.poolWaitMs(), policy.prepareLatencyMs(), pendingThreads);
+				}
+				case RESUME -> {
+					container.resume();
+					log.info("커넥션 풀 회복 - 예약 확정 이벤트 소비 재개 - poolWaitMs: {}, pendingThreads: {}",
+							policy.poolWaitMs(), pendingThreads);
+				}
+				case NONE -> {
+				}
+			}
+		} catch (Exception e) {
+			log.error("예약 확정 Consumer 백프레셔 평가 중 오류 발생", e);
+		}
+	}
+	
+	public BackpressurePolicy policy() {
+		return policy;
+	}
+	
+	public boolean isContainerPaused() {
+		MessageListenerContainer container = listenerEndpointRegistry.getListenerContainer(LISTENER_ID);
+		return container != null && container.isPauseRequested();
+	}
+	
+	private record TimerTotals(long count, double totalMs) {
+		
+		private static final TimerTotals EMPTY = new TimerTotals(0, 0);
+		
+		private static TimerTotals of(Collection<Timer> timers) {
+			long count = 0;
+			double totalMs = 0;
+			for (Timer timer : timers) {
+				count += timer.count();
+				totalMs += timer.totalTime(TimeUnit.MILLISECONDS);
+			}
+			return new TimerTotals(count, totalMs);
+		}
+		
+		// 직전 누적값 대비 구간 평균 (구간 내 기록이 없으면 empty)
+		private OptionalDouble meanSince(TimerTotals previous) {
+			long countDelta = count - previous.count;
+			if (countDelta <= 0) {
+				return OptionalDouble.empty();
+			}
+			return OptionalDouble.of((totalMs - previous.totalMs) / countDelta);
+		}
+	}
+}
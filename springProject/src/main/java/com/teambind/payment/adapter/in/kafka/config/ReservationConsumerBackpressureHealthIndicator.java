@@ -0,0 +1,37 @@
+package com.teambind.payment.adapter.in.kafka.config;
+
+import com.teambind.payment.application.service.BackpressurePolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 예약 확정 Consumer 백프레셔 상태 (actuator health: reservationConsumerBackpressure)
+ * - 소비 중단은 DB 보호를 위한 정상 동작이므로 UP을 유지하고 state(RUNNING | PAUSED)와 지표를 상세로 노출
+ */
+@Component
+@ConditionalOnProperty(name = "kafka.reservation-consumer.backpressure.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ReservationConsumerBackpressureHealthIndicator implements HealthIndicator {
+	
+	private final ReservationConsumerBackpressureController backpressureController;
+	
+	@Override
+	public Health health() {
+		BackpressurePolicy policy = backpressureController.policy();
+		Health.Builder builder = Health.up()
+				.withDetail("state", policy.isPaused() ? "PAUSED" : "RUNNING")
+				.withDetail("containerPaused", backpressureController.isContainerPaused())
+				.withDetail("poolWaitMs", Math.round(policy.poolWaitMs()))
+				.withDetail("prepareLatencyMs", Math.round(policy.prepareLatencyMs()))
+				.withDetail("pendingThreads", policy.pendingThreads());
+		if (policy.isPaused()) {
+			builder.withDetail("pausedSince", Instant.ofEpochMilli(policy.pausedAtMs()).toString());
+		}
+		return builder.build();
+	}
+}
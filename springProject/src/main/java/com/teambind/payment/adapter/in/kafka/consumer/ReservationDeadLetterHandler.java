@@ -0,0 +1,49 @@
+package com.teambind.payment.adapter.in.kafka.consumer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배치/병렬 Consumer의 재처리 불가 레코드 DLT 발행
+ * - record 모드의 @RetryableTopic(exclude = IllegalArgumentException)과 같은 기준으로 재시도 없이 DLT(<topic>-dlt)로 이동
+ * - 역직렬화 실패: ErrorHandlingDeserializer는 실패 시 null 값 + 예외 헤더로 전달하므로 배치 리스너가 직접 골라내야 함 → 원본 바이트 그대로 발행
+ * - 검증 실패(IllegalArgumentException): 재처리해도 성공할 수 없는 요청 → 이벤트 JSON과 원인을 헤더에 담아 발행
+ * - DLT 발행 실패 시 예외를 던짐 (호출 측이 해당 레코드부터 재전달)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationDeadLetterHandler {
+	
+	private static final LogAccessor HEADER_LOGGER = new LogAccessor(ReservationDeadLetterHandler.class);
+	
+	private final DeadLetterPublishingRecoverer reservationDeadLetterRecoverer;
+	
+	// 값이 없는 레코드 처리 - 역직렬화 실패면 DLT로 보내고, 예외 헤더가 없는 null 값(tombstone)은 건너뜀
+	public void handleUndeserializable(ConsumerRecord<String, ?> record) {
+		DeserializationException exception = SerializationUtils.getExceptionFromHeader(
+				record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, HEADER_LOGGER);
+		if (exception == null) {
+			log.warn("Empty ReservationConfirmedEvent skipped - partition: {}, offset: {}, key: {}",
+					record.partition(), record.offset(), record.key());
+			return;
+		}
+		
+		log.error("Undeserializable ReservationConfirmedEvent sent to DLT - partition: {}, offset: {}, key: {}, error: {}",
+				record.partition(), record.offset(), record.key(), exception.getMessage());
+		reservationDeadLetterRecoverer.accept(record, exception);
+	}
+	
+	// 검증 실패 레코드 처리
+	public void handleInvalid(ConsumerRecord<String, ?> record, IllegalArgumentException exception) {
+		log.error("Invalid ReservationConfirmedEvent sent to DLT - partition: {}, offset: {}, key: {}, error: {}",
+				record.partition(), record.offset(), record.key(), exception.getMessage());
+		reservationDeadLetterRecoverer.accept(record, exception);
+	}
+}
@@ -0,0 +1,121 @@
+package com.teambind.payment.adapter.in.kafka.consumer;
+
+import com.teambind.payment.adapter.in.kafka.config.ReservationConsumerBackpressureController;
+import com.teambind.payment.adapter.in.kafka.dto.ReservationConfirmedEvent;
+import com.teambind.payment.application.service.PaymentPrepareService;
+import com.teambind.payment.application.service.PaymentPrepareService.BatchPrepareResult;
+import com.teambind.payment.application.service.PaymentPrepareService.PrepareRequest;
+import com.teambind.payment.application.service.PaymentPrepareService.RejectedRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예약 확정 이벤트 배치 Consumer (kafka.reservation-consumer.mode=batch)
+ * - poll 단위로 받은 이벤트를 한 번의 multi-row INSERT로 결제 준비 후 배치 전체를 한 번에 ACK
+ * - 예약 서비스 백로그 해소(flush) 시 건별 조회/저장 트랜잭션 없이 처리
+ * - 역직렬화 실패/검증 실패 레코드는 재시도 없이 DLT로 보내고 나머지 레코드만 처리 (record 모드와 같은 기준)
+ * - 일괄 저장 실패 시 건별로 다시 처리해 실패 레코드 위치를 BatchListenerFailedException으로 전달
+ *   → 에러 핸들러가 앞선 레코드는 커밋하고 실패 레코드부터 재전달, 재시도 소진 시 실패 레코드만 DLT로 이동
+ */
+@Component
+@ConditionalOnProperty(name = "kafka.reservation-consumer.mode", havingValue = "batch")
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationEventBatchConsumer {
+	
+	private final PaymentPrepareService paymentPrepareService;
+	private final ReservationDeadLetterHandler reservationDeadLetterHandler;
+	
+	@KafkaListener(
+			id = ReservationConsumerBackpressureController.LISTENER_ID,
+			topics = "${kafka.topics.reservation-confirmed}",
+			groupId = "${spring.kafka.consumer.group-id}",
+			containerFactory = "batchKafkaListenerContainerFactory"
+	)
+	public void consumeReservationConfirmedBatch(
+			List<ConsumerRecord<String, ReservationConfirmedEvent>> records,
+			Acknowledgment acknowledgment
+	) {
+		ConsumerRecord<String, ReservationConfirmedEvent> first = records.get(0);
+		ConsumerRecord<String, ReservationConfirmedEvent> last = records.get(records.size() - 1);
+		log.info("Received ReservationConfirmedEvent batch - size: {}, topic: {}, offsets: {}-{}",
+				records.size(), first.topic(), first.offset(), last.offset());
+		
+		List<PrepareRequest> requests = new ArrayList<>(records.size());
+		// 요청 위치 → 레코드 위치 (역직렬화 실패 레코드는 요청에서 제외)
+		List<Integer> recordIndexes = new ArrayList<>(records.size());
+		for (int index = 0; index < records.size(); index++) {
+			ConsumerRecord<String, ReservationConfirmedEvent> record = records.get(index);
+			ReservationConfirmedEvent event = record.value();
+			if (event == null) {
+				sendToDeadLetter(record, index, () -> reservationDeadLetterHandler.handleUndeserializable(record));
+				continue;
+			}
+			requests.add(new PrepareRequest(event.reservationId(), event.totalPrice(), event.checkInDate()));
+			recordIndexes.add(index);
+		}
+		
+		// Dual Path Architecture - Kafka 이벤트 경로로 결제 준비 (배치)
+		BatchPrepareResult result;
+		try {
+			result = paymentPrepareService.preparePayments(requests);
+		} catch (RuntimeException e) {
+			// 일괄 INSERT는 전체 롤백되므로 건별로 다시 처리해 실패 레코드를 찾음 (결제 준비는 멱등이므로 재처리 안전)
+			log.warn("Payment batch prepare failed, retrying one by one - size: {}, error: {}", records.size(), e.getMessage());
+			prepareOneByOne(records);
+			acknowledgment.acknowledge();
+			return;
+		}
+		log.info("Payment batch prepared from reservation events - size: {}, prepared: {}, rejected: {}",
+				records.size(), result.prepared(), result.rejected().size());
+		
+		// 검증 실패 레코드는 저장 커밋 이후 DLT로 보냄 - 발행 실패 시 해당 레코드부터 재전달 (앞선 레코드는 이미 저장됨)
+		for (RejectedRequest rejected : result.rejected()) {
+			int index = recordIndexes.get(rejected.index());
+			ConsumerRecord<String, ReservationConfirmedEvent> record = records.get(index);
+			sendToDeadLetter(record, index, () -> reservationDeadLetterHandler.handleInvalid(record, rejected.cause()));
+		}
+		
+		acknowledgment.acknowledge();
+	}
+	
+	// 재처리 불가 레코드 DLT 발행 - 발행 실패 시 해당 레코드부터 재전달 (에러 핸들러가 재시도 후 DLT 발행)
+	private void sendToDeadLetter(ConsumerRecord<String, ReservationConfirmedEvent> record, int index, Runnable publish) {
+		try {
+			publish.run();
+		} catch (RuntimeException e) {
+			throw new BatchListenerFailedException(
+					"DLT 발행 실패 - partition: " + record.partition() + ", offset: " + record.offset(), e, index);
+		}
+	}
+	
+	// 건별 결제 준비 - 첫 실패 레코드 위치를 에러 핸들러에 전달
+	private void prepareOneByOne(List<ConsumerRecord<String, ReservationConfirmedEvent>> records) {
+		for (int index = 0; index < records.size(); index++) {
+			ConsumerRecord<String, ReservationConfirmedEvent> record = records.get(index);
+			ReservationConfirmedEvent event = record.value();
+			// 역직렬화 실패 레코드는 이미 DLT로 보냄
+			if (event == null || paymentPrepareService.isRecentlyPrepared(event.reservationId())) {
+				continue;
+			}
+			try {
+				paymentPrepareService.preparePayment(event.reservationId(), event.totalPrice(), event.checkInDate());
+			} catch (IllegalArgumentException e) {
+				// 재처리해도 성공할 수 없는 요청 - 배치 경로와 동일하게 DLT로 보냄
+				sendToDeadLetter(record, index, () -> reservationDeadLetterHandler.handleInvalid(record, e));
+			} catch (RuntimeException e) {
+				throw new BatchListenerFailedException(
+						"결제 준비 실패 - partition: " + record.partition() + ", offset: " + record.offset(), e, index);
+			}
+		}
+	}
+}
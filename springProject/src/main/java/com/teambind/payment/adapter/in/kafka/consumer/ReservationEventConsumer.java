@@ -1,29 +1,56 @@
 package com.teambind.payment.adapter.in.kafka.consumer;
 
+import com.teambind.payment.adapter.in.kafka.config.ReservationConsumerBackpressureController;
 import com.teambind.payment.adapter.in.kafka.dto.ReservationConfirmedEvent;
 import com.teambind.payment.application.service.PaymentPrepareService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.DltStrategy;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
 /**
  * Reservation Service로부터 예약 확정 이벤트를 수신하는 Consumer
  * - Dual Path Architecture의 Kafka 이벤트 경로
  * - 예약 확정 시 자동으로 결제를 PREPARED 상태로 생성
+ * - 레코드 단위 처리 (기본 모드, 배치 모드는 ReservationEventBatchConsumer)
+ * - 처리 실패 레코드는 지연이 증가하는 재시도 토픽(-retry-0, -retry-1, ...)으로 넘기고 원 파티션은 계속 진행
+ * - 재시도 소진, 잘못된 요청(IllegalArgumentException), 역직렬화 실패 레코드는 DLT(-dlt)로 이동
  */
 @Component
+@ConditionalOnProperty(name = "kafka.reservation-consumer.mode", havingValue = "record", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class ReservationEventConsumer {
 
 	private final PaymentPrepareService paymentPrepareService;
 
+	@RetryableTopic(
+			attempts = "${kafka.reservation-consumer.retry.attempts:4}",
+			backoff = @Backoff(
+					delayExpression = "${kafka.reservation-consumer.retry.initial-delay-ms:1000}",
+					multiplierExpression = "${kafka.reservation-consumer.retry.multiplier:4}",
+					maxDelayExpression = "${kafka.reservation-consumer.retry.max-delay-ms:60000}"
+			),
+			kafkaTemplate = "reservationRetryKafkaTemplate",
+			autoCreateTopics = "${kafka.reservation-consumer.retry.auto-create-topics:true}",
+			replicationFactor = "${kafka.reservation-consumer.retry.replication-factor:1}",
+			topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+			exclude = IllegalArgumentException.class,
+			// DLT 처리 실패 시 DLT로 되돌리지 않음 (역직렬화 불가 레코드의 무한 순환 방지)
+			dltStrategy = DltStrategy.FAIL_ON_ERROR
+	)
 	@KafkaListener(
+			id = ReservationConsumerBackpressureController.LISTENER_ID,
 			topics = "${kafka.topics.reservation-confirmed}",
 			groupId = "${spring.kafka.consumer.group-id}",
 			containerFactory = "kafkaListenerContainerFactory"
@@ -35,26 +62,41 @@ public class ReservationEventConsumer {
 			@Header(KafkaHeaders.OFFSET) Long offset,
 			Acknowledgment acknowledgment
 	) {
-		try {
-			log.info("Received ReservationConfirmedEvent - topic: {}, offset: {}, key: {}", topic, offset, key != null ? key : "null");
-			log.info("Processing reservation confirmed - reservationId: {}, totalPrice: {}, checkInDate: {}",
-					event.reservationId(), event.totalPrice(), event.checkInDate());
+		log.info("Received ReservationConfirmedEvent - topic: {}, offset: {}, key: {}", topic, offset, key != null ? key : "null");
+		log.info("Processing reservation confirmed - reservationId: {}, totalPrice: {}, checkInDate: {}",
+				event.reservationId(), event.totalPrice(), event.checkInDate());
 
-			// Dual Path Architecture - Kafka 이벤트 경로로 결제 준비
-			paymentPrepareService.preparePayment(
-					event.reservationId(),
-					event.totalPrice(),
-					event.checkInDate()
-			);
+		// 이 노드에서 이미 준비된 예약(재전달/API 선처리)은 DB 조회 없이 건너뜀
+		if (paymentPrepareService.isRecentlyPrepared(event.reservationId())) {
+			log.info("Duplicate reservation event skipped - reservationId: {}", event.reservationId());
+			acknowledgment.acknowledge();
+			return;
+		}
 
-			log.info("Payment prepared successfully from reservation event - reservationId: {}", event.reservationId());
+		// Dual Path Architecture - Kafka 이벤트 경로로 결제 준비
+		// 실패 시 예외를 전파하여 재시도 토픽으로 넘김 (원 레코드 오프셋은 발행 후 커밋)
+		paymentPrepareService.preparePayment(
+				event.reservationId(),
+				event.totalPrice(),
+				event.checkInDate()
+		);
 
-			acknowledgment.acknowledge();
+		log.info("Payment prepared successfully from reservation event - reservationId: {}", event.reservationId());
 
-		} catch (Exception e) {
-			log.error("Failed to process ReservationConfirmedEvent - topic: {}, offset: {}, error: {}",
-					topic, offset, e.getMessage(), e);
-			// Do not ACK on failure - will be reprocessed
-		}
+		acknowledgment.acknowledge();
+	}
+
+	// 재시도 소진/재시도 불가 레코드 - 원인과 위치만 남기고 커밋 (DLT에 원본이 보존되어 수동 재처리 가능)
+	@DltHandler
+	public void handleDeadLetter(
+			@Payload ReservationConfirmedEvent event,
+			@Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+			@Header(KafkaHeaders.OFFSET) Long offset,
+			@Header(value = KafkaHeaders.DLT_EXCEPTION_MESSAGE, required = false) String errorMessage,
+			Acknowledgment acknowledgment
+	) {
+		log.error("ReservationConfirmedEvent moved to DLT - topic: {}, offset: {}, reservationId: {}, error: {}",
+				topic, offset, event.reservationId(), errorMessage);
+		acknowledgment.acknowledge();
 	}
 }
@@ -0,0 +1,163 @@
+package com.teambind.payment.adapter.in.kafka.consumer;
+
+import com.teambind.payment.adapter.in.kafka.config.ReservationConsumerBackpressureController;
+import com.teambind.payment.adapter.in.kafka.dto.ReservationConfirmedEvent;
+import com.teambind.payment.application.service.PaymentPrepareService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 예약 확정 이벤트 병렬 Consumer (kafka.reservation-consumer.mode=parallel)
+ * - poll 단위로 받은 레코드를 reservationId별로 묶어 가상 스레드에서 병렬 처리 (같은 예약은 순서대로)
+ * - 동시 처리 수는 Semaphore로 제한 (DB 커넥션 풀 크기 이하로 설정) → 처리량이 파티션 수가 아닌 DB 용량에 비례
+ * - 역직렬화 실패/검증 실패 레코드는 재시도 없이 DLT로 보내고 나머지 레코드만 처리 (record 모드와 같은 기준)
+ * - 실패한 레코드 중 가장 앞선 위치 이전까지만 커밋하고 나머지는 재전달 (결제 준비는 멱등이므로 재처리 안전)
+ */
+@Component
+@ConditionalOnProperty(name = "kafka.reservation-consumer.mode", havingValue = "parallel")
+@Slf4j
+public class ReservationEventParallelConsumer {
+	
+	private static final int NO_FAILURE = Integer.MAX_VALUE;
+	
+	private final PaymentPrepareService paymentPrepareService;
+	private final ReservationDeadLetterHandler reservationDeadLetterHandler;
+	private final Semaphore inFlight;
+	private final Duration redeliveryBackoff;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	
+	public ReservationEventParallelConsumer(PaymentPrepareService paymentPrepareService,
+	                                        ReservationDeadLetterHandler reservationDeadLetterHandler,
+	                                        @Value("${kafka.reservation-consumer.parallelism:16}") int parallelism,
+	                                        @Value("${kafka.reservation-consumer.redelivery-backoff-ms:1000}") long redeliveryBackoffMs) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("병렬 처리 수는 1 이상이어야 합니다: " + parallelism);
+		}
+		
+		this.paymentPrepareService = paymentPrepareService;
+		this.reservationDeadLetterHandler = reservationDeadLetterHandler;
+		this.inFlight = new Semaphore(parallelism);
+		this.redeliveryBackoff = Duration.ofMillis(redeliveryBackoffMs);
+	}
+	
+	@KafkaListener(
+			id = ReservationConsumerBackpressureController.LISTENER_ID,
+			topics = "${kafka.topics.reservation-confirmed}",
+			groupId = "${spring.kafka.consumer.group-id}",
+			containerFactory = "batchKafkaListenerContainerFactory"
+	)
+	public void consumeReservationConfirmedInParallel(
+			List<ConsumerRecord<String, ReservationConfirmedEvent>> records,
+			Acknowledgment acknowledgment
+	) throws InterruptedException {
+		// reservationId별 레코드 위치 (poll 내 순서 유지)
+		Map<String, List<Integer>> indexesByKey = new LinkedHashMap<>();
+		int firstUnrecoveredIndex = NO_FAILURE;
+		for (int index = 0; index < records.size(); index++) {
+			ConsumerRecord<String, ReservationConfirmedEvent> record = records.get(index);
+			if (record.value() == null) {
+				// 역직렬화 실패 레코드는 DLT로 보냄 - 발행 실패 시 해당 레코드부터 재전달
+				if (!sendToDeadLetter(record, () -> reservationDeadLetterHandler.handleUndeserializable(record))) {
+					firstUnrecoveredIndex = Math.min(firstUnrecoveredIndex, index);
+				}
+				continue;
+			}
+			indexesByKey.computeIfAbsent(orderingKey(records.get(index)), key -> new ArrayList<>()).add(index);
+		}
+		
+		List<CompletableFuture<Integer>> keyFutures = new ArrayList<>(indexesByKey.size());
+		for (List<Integer> indexes : indexesByKey.values()) {
+			inFlight.acquire();
+			keyFutures.add(CompletableFuture.supplyAsync(() -> {
+				try {
+					return processInOrder(records, indexes);
+				} finally {
+					inFlight.release();
+				}
+			}, executor));
+		}
+		
+		int firstFailedIndex = Math.min(firstUnrecoveredIndex, keyFutures.stream()
+				.mapToInt(CompletableFuture::join)
+				.min()
+				.orElse(NO_FAILURE));
+		
+		if (firstFailedIndex == NO_FAILURE) {
+			log.info("Reservation events processed in parallel - size: {}, keys: {}", records.size(), indexesByKey.size());
+			acknowledgment.acknowledge();
+			return;
+		}
+		
+		// 실패 위치 이전까지만 커밋하고 실패 레코드부터 재전달
+		ConsumerRecord<String, ReservationConfirmedEvent> failed = records.get(firstFailedIndex);
+		log.warn("Reservation event batch partially processed - committing before partition: {}, offset: {}",
+				failed.partition(), failed.offset());
+		acknowledgment.nack(firstFailedIndex, redeliveryBackoff);
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+	
+	// 재처리 불가 레코드 DLT 발행 - 실패 시 false (호출 측이 해당 레코드부터 재전달)
+	private boolean sendToDeadLetter(ConsumerRecord<String, ReservationConfirmedEvent> record, Runnable publish) {
+		try {
+			publish.run();
+			return true;
+		} catch (RuntimeException e) {
+			log.error("Failed to send ReservationConfirmedEvent to DLT - partition: {}, offset: {}, error: {}",
+					record.partition(), record.offset(), e.getMessage(), e);
+			return false;
+		}
+	}
+	
+	// 같은 예약의 레코드는 순서대로 처리, 실패 시 이후 레코드는 처리하지 않고 실패 위치 반환
+	private int processInOrder(List<ConsumerRecord<String, ReservationConfirmedEvent>> records, List<Integer> indexes) {
+		for (int index : indexes) {
+			ConsumerRecord<String, ReservationConfirmedEvent> record = records.get(index);
+			ReservationConfirmedEvent event = record.value();
+			// 이 노드에서 이미 준비된 예약은 DB 조회 없이 건너뜀
+			if (paymentPrepareService.isRecentlyPrepared(event.reservationId())) {
+				continue;
+			}
+			try {
+				paymentPrepareService.preparePayment(event.reservationId(), event.totalPrice(), event.checkInDate());
+			} catch (IllegalArgumentException e) {
+				// 재처리해도 성공할 수 없는 요청 - DLT로 보내고 같은 예약의 다음 레코드 처리
+				if (!sendToDeadLetter(record, () -> reservationDeadLetterHandler.handleInvalid(record, e))) {
+					return index;
+				}
+			} catch (Exception e) {
+				log.error("Failed to process ReservationConfirmedEvent - partition: {}, offset: {}, error: {}",
+						record.partition(), record.offset(), e.getMessage(), e);
+				return index;
+			}
+		}
+		return NO_FAILURE;
+	}
+	
+	private String orderingKey(ConsumerRecord<String, ReservationConfirmedEvent> record) {
+		String reservationId = record.value().reservationId();
+		if (reservationId != null) {
+			return reservationId;
+		}
+		return record.key() != null ? record.key() : record.partition() + "-" + record.offset();
+	}
+}
@@ -1,13 +1,11 @@
 package com.teambind.payment.adapter.in.kafka.dto;
 
-import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
-
 import java.time.LocalDateTime;
 
 /**
  * 예약 서버에서 발행하는 예약 완료 이벤트
  * Topic: complete-reservation-info
+ * - 수신 시 ReservationConfirmedEventDeserializer로 변환 (필드 추가 시 함께 수정)
  */
 public record ReservationConfirmedEvent(
 		// 토픽명
@@ -23,11 +21,9 @@ public record ReservationConfirmedEvent(
 		Long totalPrice,
 		
 		// 체크인 날짜
-		@JsonDeserialize(using = LocalDateTimeDeserializer.class)
 		LocalDateTime checkInDate,
 		
 		// 이벤트 발생 시각
-		@JsonDeserialize(using = LocalDateTimeDeserializer.class)
 		LocalDateTime occurredAt
 ) {
 }
@@ -0,0 +1,188 @@
+package com.teambind.payment.adapter.in.kafka.wire;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.teambind.payment.adapter.in.kafka.dto.ReservationConfirmedEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 예약 확정 이벤트 전용 스트리밍 역직렬화기 (Jackson JsonParser)
+ * - 리플렉션/타입 헤더 없이 필드 이름으로 바로 분기하고, 모르는 필드는 skipChildren으로 건너뜀
+ * - 날짜는 파서 내부 문자 버퍼에서 ISO-8601(yyyy-MM-ddTHH:mm[:ss[.n]])을 직접 파싱, 그 외 형식만 문자열로 처리
+ * - 배열 형식 날짜([yyyy,M,d,H,m,s,n])도 지원 (재시도 토픽 발행 시 JsonSerializer 기본 형식)
+ * - 신뢰 패키지/기본 타입 설정이 필요 없으므로 임의 클래스 역직렬화 경로가 없음
+ */
+public class ReservationConfirmedEventDeserializer implements Deserializer<ReservationConfirmedEvent> {
+	
+	// JsonFactory는 스레드 안전하며 생성 비용이 크므로 공유
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+	
+	private static final int[] NANO_SCALE = {
+			0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+	};
+	
+	@Override
+	public ReservationConfirmedEvent deserialize(String topic, byte[] data) {
+		if (data == null) {
+			return null;
+		}
+		
+		try (JsonParser parser = JSON_FACTORY.createParser(data)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new SerializationException("ReservationConfirmedEvent JSON 객체가 아닙니다 - topic: " + topic);
+			}
+			
+			String eventTopic = null;
+			String eventType = null;
+			String reservationId = null;
+			Long totalPrice = null;
+			LocalDateTime checkInDate = null;
+			LocalDateTime occurredAt = null;
+			
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				switch (field) {
+					case "topic" -> eventTopic = readString(parser, value);
+					case "eventType" -> eventType = readString(parser, value);
+					case "reservationId" -> reservationId = readString(parser, value);
+					case "totalPrice" -> totalPrice = readLong(parser, value);
+					case "checkInDate" -> checkInDate = readDateTime(parser, value);
+					case "occurredAt" -> occurredAt = readDateTime(parser, value);
+					default -> parser.skipChildren();
+				}
+			}
+			
+			return new ReservationConfirmedEvent(eventTopic, eventType, reservationId, totalPrice, checkInDate, occurredAt);
+		} catch (SerializationException e) {
+			throw e;
+		} catch (IOException | RuntimeException e) {
+			throw new SerializationException("ReservationConfirmedEvent 역직렬화 실패 - topic: " + topic, e);
+		}
+	}
+	
+	private static String readString(JsonParser parser, JsonToken value) throws IOException {
+		if (value == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		if (!value.isScalarValue()) {
+			throw new SerializationException("문자열 필드에 " + value + " 값이 올 수 없습니다: " + parser.currentName());
+		}
+		return parser.getValueAsString();
+	}
+	
+	private static Long readLong(JsonParser parser, JsonToken value) throws IOException {
+		return switch (value) {
+			case VALUE_NULL -> null;
+			// 소수는 정수부만 사용 (long 범위를 벗어나면 예외)
+			case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getLongValue();
+			// 문자열 숫자 - 빈 문자열은 null, 숫자가 아니면 예외 (getValueAsLong처럼 0으로 바꾸지 않음)
+			case VALUE_STRING -> {
+				String text = parser.getText().trim();
+				yield text.isEmpty() ? null : Long.parseLong(text);
+			}
+			default -> throw new SerializationException("숫자 필드에 " + value + " 값이 올 수 없습니다: " + parser.currentName());
+		};
+	}
+	
+	private static LocalDateTime readDateTime(JsonParser parser, JsonToken value) throws IOException {
+		return switch (value) {
+			case VALUE_NULL -> null;
+			case VALUE_STRING -> {
+				int length = parser.getTextLength();
+				if (length == 0) {
+					yield null;
+				}
+				LocalDateTime parsed = parseIsoLocalDateTime(parser.getTextCharacters(), parser.getTextOffset(), length);
+				yield parsed != null ? parsed : parseLenient(parser.getText());
+			}
+			case START_ARRAY -> readDateTimeArray(parser);
+			default -> throw new SerializationException("날짜 필드에 " + value + " 값이 올 수 없습니다: " + parser.currentName());
+		};
+	}
+	
+	// yyyy-MM-ddTHH:mm[:ss[.fffffffff]] - 형식이 다르면 null (문자열 기반 파싱으로 위임)
+	static LocalDateTime parseIsoLocalDateTime(char[] text, int offset, int length) {
+		if (length < 16 || text[offset + 4] != '-' || text[offset + 7] != '-'
+				|| text[offset + 10] != 'T' || text[offset + 13] != ':') {
+			return null;
+		}
+		
+		int year = digits(text, offset, 4);
+		int month = digits(text, offset + 5, 2);
+		int day = digits(text, offset + 8, 2);
+		int hour = digits(text, offset + 11, 2);
+		int minute = digits(text, offset + 14, 2);
+		int second = 0;
+		int nano = 0;
+		
+		int position = offset + 16;
+		int end = offset + length;
+		if (position < end) {
+			if (text[position] != ':' || position + 3 > end) {
+				return null;
+			}
+			second = digits(text, position + 1, 2);
+			position += 3;
+			
+			if (position < end) {
+				int fractionDigits = end - position - 1;
+				if (text[position] != '.' || fractionDigits < 1 || fractionDigits > 9) {
+					return null;
+				}
+				int fraction = digits(text, position + 1, fractionDigits);
+				nano = fraction < 0 ? -1 : fraction * NANO_SCALE[fractionDigits];
+			}
+		}
+		
+		if ((year | month | day | hour | minute | second | nano) < 0) {
+			return null;
+		}
+		return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+	}
+	
+	// 숫자가 아닌 문자가 있으면 -1
+	private static int digits(char[] text, int offset, int count) {
+		int value = 0;
+		for (int i = offset; i < offset + count; i++) {
+			int digit = text[i] - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+	
+	// ISO 확장 형식 (UTC 'Z' 접미사는 LocalDateTimeDeserializer와 동일하게 UTC 기준 변환)
+	private static LocalDateTime parseLenient(String text) {
+		if (text.endsWith("Z")) {
+			return LocalDateTime.ofInstant(Instant.parse(text), ZoneOffset.UTC);
+		}
+		return LocalDateTime.parse(text);
+	}
+	
+	// [year, month, day, hour, minute(, second(, nano))]
+	private static LocalDateTime readDateTimeArray(JsonParser parser) throws IOException {
+		int[] parts = new int[7];
+		int count = 0;
+		JsonToken token;
+		while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+			if (token != JsonToken.VALUE_NUMBER_INT || count == parts.length) {
+				throw new SerializationException("날짜 배열 형식이 올바르지 않습니다: " + parser.currentName());
+			}
+			parts[count++] = parser.getIntValue();
+		}
+		if (count < 5) {
+			throw new SerializationException("날짜 배열 형식이 올바르지 않습니다: " + parser.currentName());
+		}
+		return LocalDateTime.of(parts[0], parts[1], parts[2], parts[3], parts[4], parts[5], parts[6]);
+	}
+}
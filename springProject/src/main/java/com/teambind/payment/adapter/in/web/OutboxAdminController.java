@@ -0,0 +1,69 @@
+package com.teambind.payment.adapter.in.web;
+
+import com.teambind.common.exceptions.application.UnauthorizedException;
+import com.teambind.payment.adapter.in.web.dto.DeadLetterReplayRequest;
+import com.teambind.payment.adapter.in.web.dto.DeadLetterReplayResponse;
+import com.teambind.payment.application.service.OutboxDeadLetterReplayService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+@RestController
+@RequestMapping("/api/v1/admin/outbox")
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxAdminController {
+	
+	// 관리자 토큰 헤더 - 설정된 토큰과 일치해야 호출 가능
+	static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+	
+	private final OutboxDeadLetterReplayService deadLetterReplayService;
+	
+	// 관리자 API 토큰 (미설정 시 모든 호출 거부)
+	@Value("${outbox.admin.token:}")
+	private String adminToken;
+	
+	// DLQ 재발행 시작 - 백그라운드로 속도 제한 재발행, 이미 실행 중이면 409
+	@PostMapping("/dlq/replay")
+	public ResponseEntity<DeadLetterReplayResponse> replayDeadLetters(
+			@RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String token,
+			@Valid @RequestBody DeadLetterReplayRequest request
+	) {
+		verifyAdminToken(token);
+		log.info("DLQ 재발행 요청 수신 - request: {}", request);
+		
+		return deadLetterReplayService.startReplay(request.toFilter())
+				.map(status -> ResponseEntity.status(HttpStatus.ACCEPTED).body(DeadLetterReplayResponse.from(status)))
+				.orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+	}
+	
+	// DLQ 재발행 진행 상태 (이 노드에서 실행 중이거나 마지막으로 실행된 재발행)
+	@GetMapping("/dlq/replay")
+	public ResponseEntity<DeadLetterReplayResponse> getReplayStatus(
+			@RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String token
+	) {
+		verifyAdminToken(token);
+		return deadLetterReplayService.currentStatus()
+				.map(status -> ResponseEntity.ok(DeadLetterReplayResponse.from(status)))
+				.orElseGet(() -> ResponseEntity.noContent().build());
+	}
+	
+	// 토큰 비교는 일정 시간 비교로 수행 (응답 시간으로 토큰 추측 방지)
+	private void verifyAdminToken(String token) {
+		if (token == null || token.isBlank()) {
+			throw UnauthorizedException.tokenMissing();
+		}
+		if (adminToken == null || adminToken.isBlank()
+				|| !MessageDigest.isEqual(adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+			log.warn("관리자 API 인증 실패 - 잘못된 토큰");
+			throw UnauthorizedException.tokenInvalid();
+		}
+	}
+}
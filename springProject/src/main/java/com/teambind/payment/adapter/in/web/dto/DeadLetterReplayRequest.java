@@ -0,0 +1,45 @@
+package com.teambind.payment.adapter.in.web.dto;
+
+import com.teambind.payment.domain.DeadLetterReplayFilter;
+import com.teambind.payment.domain.EventType;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+
+import java.time.LocalDateTime;
+
+public record DeadLetterReplayRequest(
+		// 이벤트 타입 (미지정 시 전체)
+		EventType eventType,
+		
+		// 집합 루트 ID (미지정 시 전체)
+		String aggregateId,
+		
+		// 원본 이벤트 생성 시각 범위 시작 (포함)
+		LocalDateTime from,
+		
+		// 원본 이벤트 생성 시각 범위 끝 (미포함)
+		LocalDateTime to,
+		
+		// 최대 재발행 건수 (미지정 시 1000)
+		@Positive(message = "최대 재발행 건수는 0보다 커야 합니다")
+		@Max(value = 100_000, message = "최대 재발행 건수는 100000 이하여야 합니다")
+		Integer limit
+) {
+	private static final int DEFAULT_LIMIT = 1000;
+	
+	@AssertTrue(message = "재발행 시작 시각은 종료 시각보다 앞서야 합니다")
+	public boolean isValidWindow() {
+		return from == null || to == null || from.isBefore(to);
+	}
+	
+	public DeadLetterReplayFilter toFilter() {
+		return new DeadLetterReplayFilter(
+				eventType,
+				aggregateId == null || aggregateId.isBlank() ? null : aggregateId,
+				from,
+				to,
+				limit != null ? limit : DEFAULT_LIMIT
+		);
+	}
+}
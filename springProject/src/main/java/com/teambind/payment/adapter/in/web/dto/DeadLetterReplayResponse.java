@@ -0,0 +1,43 @@
+package com.teambind.payment.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.teambind.payment.application.service.OutboxDeadLetterReplayService.ReplayStatus;
+import com.teambind.payment.domain.EventType;
+
+import java.time.LocalDateTime;
+
+public record DeadLetterReplayResponse(
+		// 재발행 진행 중 여부
+		boolean running,
+		
+		// 재발행 조건
+		EventType eventType,
+		String aggregateId,
+		LocalDateTime from,
+		LocalDateTime to,
+		int limit,
+		
+		// 현재까지 재발행된 건수
+		long replayedCount,
+		
+		// 재발행 시작/종료 시각
+		@JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+		LocalDateTime startedAt,
+		
+		@JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+		LocalDateTime finishedAt
+) {
+	public static DeadLetterReplayResponse from(ReplayStatus status) {
+		return new DeadLetterReplayResponse(
+				status.running(),
+				status.filter().eventType(),
+				status.filter().aggregateId(),
+				status.filter().from(),
+				status.filter().to(),
+				status.filter().limit(),
+				status.replayedCount(),
+				status.startedAt(),
+				status.finishedAt()
+		);
+	}
+}
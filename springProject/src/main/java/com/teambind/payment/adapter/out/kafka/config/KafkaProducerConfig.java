@@ -1,6 +1,7 @@
 package com.teambind.payment.adapter.out.kafka.config;
 
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -8,7 +9,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -19,23 +19,44 @@ public class KafkaProducerConfig {
 	@Value("${spring.kafka.bootstrap-servers}")
 	private String bootstrapServers;
 	
+	// 트랜잭션 발행 모드 - Outbox 레인 배치를 Kafka 트랜잭션으로 원자 커밋 (컨슈머는 read_committed 필요)
+	@Value("${outbox.dispatch.transactional:false}")
+	private boolean transactional;
+	
+	// 재시작해도 바뀌지 않는 인스턴스 식별자 (StatefulSet 순번 등) - transactional.id 접두사에 사용
+	// 재시작한 인스턴스가 같은 transactional.id로 이전 세대 프로듀서의 미완료 트랜잭션을 펜싱
+	// Deployment 파드 hostname은 재시작마다 바뀌어 펜싱이 되지 않으므로 사용하지 않음
+	@Value("${outbox.dispatch.instance-id:}")
+	private String instanceId;
+	
+	// Outbox payload는 이미 직렬화된 JSON이므로 재파싱/재직렬화 없이 바이트 그대로 전송
 	@Bean
-	public ProducerFactory<String, Object> producerFactory() {
+	public ProducerFactory<String, byte[]> producerFactory() {
 		Map<String, Object> props = new HashMap<>();
 		props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
 		props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-		props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+		props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
 		props.put(ProducerConfig.ACKS_CONFIG, "all");
 		props.put(ProducerConfig.RETRIES_CONFIG, 3);
 		props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 1);
 		props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
-		props.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
 		
-		return new DefaultKafkaProducerFactory<>(props);
+		DefaultKafkaProducerFactory<String, byte[]> factory = new DefaultKafkaProducerFactory<>(props);
+		if (transactional) {
+			factory.setTransactionIdPrefix(transactionIdPrefix());
+		}
+		return factory;
+	}
+	
+	private String transactionIdPrefix() {
+		if (instanceId == null || instanceId.isBlank()) {
+			throw new IllegalStateException("트랜잭션 발행 모드에는 고정 인스턴스 ID(outbox.dispatch.instance-id)가 필요합니다");
+		}
+		return "payment-outbox-" + instanceId + "-";
 	}
 	
 	@Bean
-	public KafkaTemplate<String, Object> kafkaTemplate() {
+	public KafkaTemplate<String, byte[]> kafkaTemplate() {
 		return new KafkaTemplate<>(producerFactory());
 	}
 }
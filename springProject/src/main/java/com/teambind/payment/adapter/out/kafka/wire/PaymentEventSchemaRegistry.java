@@ -0,0 +1,63 @@
+package com.teambind.payment.adapter.out.kafka.wire;
+
+import com.fasterxml.jackson.dataformat.avro.AvroSchema;
+import com.teambind.payment.adapter.out.kafka.dto.PaymentCancelledEvent;
+import com.teambind.payment.adapter.out.kafka.dto.PaymentCompletedEvent;
+import com.teambind.payment.adapter.out.kafka.dto.RefundCompletedEvent;
+import com.teambind.payment.domain.EventType;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 결제 이벤트 Avro 스키마 레지스트리 (로컬 대체 구현)
+ * - 스키마는 classpath의 avro/*.avsc 에서 로드
+ * - schema-id는 정규화된 스키마의 64비트 fingerprint(hex) → 외부 레지스트리 없이도 컨슈머가 스키마를 식별
+ */
+@Component
+public class PaymentEventSchemaRegistry {
+	
+	private final Map<EventType, EventSchema> schemasByEventType = new EnumMap<>(EventType.class);
+	
+	public PaymentEventSchemaRegistry() {
+		register(EventType.PAYMENT_COMPLETED, PaymentCompletedEvent.class, "avro/payment-completed.avsc");
+		register(EventType.PAYMENT_CANCELLED, PaymentCancelledEvent.class, "avro/payment-cancelled.avsc");
+		register(EventType.REFUND_COMPLETED, RefundCompletedEvent.class, "avro/refund-completed.avsc");
+	}
+	
+	public EventSchema get(EventType eventType) {
+		EventSchema eventSchema = schemasByEventType.get(eventType);
+		if (eventSchema == null) {
+			throw new IllegalArgumentException("등록되지 않은 이벤트 스키마입니다: " + eventType);
+		}
+		return eventSchema;
+	}
+	
+	// 컨슈머 측 schema-id 헤더 해석용
+	public Optional<EventSchema> findBySchemaId(String schemaId) {
+		return schemasByEventType.values().stream()
+				.filter(eventSchema -> eventSchema.schemaId().equals(schemaId))
+				.findFirst();
+	}
+	
+	private void register(EventType eventType, Class<?> payloadType, String location) {
+		try (InputStream inputStream = new ClassPathResource(location).getInputStream()) {
+			Schema schema = new Schema.Parser().parse(inputStream);
+			String schemaId = Long.toHexString(SchemaNormalization.parsingFingerprint64(schema));
+			schemasByEventType.put(eventType, new EventSchema(payloadType, new AvroSchema(schema), schemaId));
+		} catch (IOException e) {
+			throw new UncheckedIOException("Avro 스키마 로드 실패: " + location, e);
+		}
+	}
+	
+	public record EventSchema(Class<?> payloadType, AvroSchema avroSchema, String schemaId) {
+	}
+}
@@ -0,0 +1,86 @@
+package com.teambind.payment.adapter.out.kafka.wire;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.avro.AvroMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.teambind.payment.domain.EventType;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Outbox에 저장된 JSON payload를 토픽별 메시지 형식으로 변환
+ * - JSON 토픽: 저장된 바이트를 그대로 전송
+ * - AVRO 토픽: JSON → 이벤트 DTO → Avro 바이너리 변환 후 schema-id 헤더 부착
+ * - Outbox 저장 형식은 바꾸지 않으므로 토픽 형식을 전환해도 미발행 이벤트에 영향 없음
+ */
+@Component
+public class PaymentEventWireEncoder {
+	
+	public static final String CONTENT_TYPE_HEADER = "content-type";
+	public static final String SCHEMA_ID_HEADER = "schema-id";
+	public static final String EVENT_ID_HEADER = "event-id";
+	
+	private final ObjectMapper objectMapper;
+	private final PaymentEventSchemaRegistry schemaRegistry;
+	private final AvroMapper avroMapper;
+	private final Map<EventType, WireFormat> wireFormats = new EnumMap<>(EventType.class);
+	
+	public PaymentEventWireEncoder(ObjectMapper objectMapper,
+	                               PaymentEventSchemaRegistry schemaRegistry,
+	                               @Value("${kafka.wire-format.payment-completed:JSON}") WireFormat paymentCompletedFormat,
+	                               @Value("${kafka.wire-format.payment-cancelled:JSON}") WireFormat paymentCancelledFormat,
+	                               @Value("${kafka.wire-format.refund-completed:JSON}") WireFormat refundCompletedFormat) {
+		this.objectMapper = objectMapper;
+		this.schemaRegistry = schemaRegistry;
+		// 스키마에서 제외한 고정값 필드(topic, eventType 등)는 쓰지 않고 건너뜀
+		this.avroMapper = AvroMapper.builder()
+				.enable(JsonGenerator.Feature.IGNORE_UNKNOWN)
+				.addModule(new JavaTimeModule())
+				.build();
+		wireFormats.put(EventType.PAYMENT_COMPLETED, paymentCompletedFormat);
+		wireFormats.put(EventType.PAYMENT_CANCELLED, paymentCancelledFormat);
+		wireFormats.put(EventType.REFUND_COMPLETED, refundCompletedFormat);
+	}
+	
+	public ProducerRecord<String, byte[]> toRecord(String topic, EventType eventType, Long eventId, String key, byte[] jsonPayload) {
+		WireFormat wireFormat = wireFormats.get(eventType);
+		ProducerRecord<String, byte[]> record;
+		if (wireFormat == WireFormat.AVRO) {
+			PaymentEventSchemaRegistry.EventSchema eventSchema = schemaRegistry.get(eventType);
+			record = new ProducerRecord<>(topic, key, toAvro(jsonPayload, eventSchema));
+			record.headers().add(SCHEMA_ID_HEADER, eventSchema.schemaId().getBytes(StandardCharsets.UTF_8));
+		} else {
+			record = new ProducerRecord<>(topic, key, jsonPayload);
+		}
+		
+		record.headers().add(CONTENT_TYPE_HEADER, wireFormat.getContentType().getBytes(StandardCharsets.UTF_8));
+		// 컨슈머 멱등 처리 키 (Outbox eventId)
+		if (eventId != null) {
+			record.headers().add(EVENT_ID_HEADER, eventId.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		return record;
+	}
+	
+	// Avro 바이너리 → 이벤트 DTO (컨슈머 측 디코딩 및 검증용)
+	public <T> T fromAvro(byte[] avroPayload, EventType eventType, Class<T> payloadType) throws IOException {
+		return avroMapper.readerFor(payloadType)
+				.with(schemaRegistry.get(eventType).avroSchema())
+				.readValue(avroPayload);
+	}
+	
+	private byte[] toAvro(byte[] jsonPayload, PaymentEventSchemaRegistry.EventSchema eventSchema) {
+		try {
+			Object payload = objectMapper.readValue(jsonPayload, eventSchema.payloadType());
+			return avroMapper.writer(eventSchema.avroSchema()).writeValueAsBytes(payload);
+		} catch (IOException e) {
+			throw new IllegalStateException("Avro 변환 실패 - schemaId: " + eventSchema.schemaId(), e);
+		}
+	}
+}
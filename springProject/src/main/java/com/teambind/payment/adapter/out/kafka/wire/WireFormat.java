@@ -0,0 +1,14 @@
+package com.teambind.payment.adapter.out.kafka.wire;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum WireFormat {
+	JSON("application/json"),     // 기존 JSON (미전환 컨슈머 호환)
+	AVRO("application/avro");     // 스키마 기반 바이너리 (schema-id 헤더로 스키마 식별)
+	
+	// content-type 헤더 값
+	private final String contentType;
+}
@@ -0,0 +1,184 @@
+package com.teambind.payment.adapter.out.persistence;
+
+import com.teambind.payment.application.port.out.PaymentEventDeadLetterRepository;
+import com.teambind.payment.domain.DeadLetterReplayFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outbox DLQ 어댑터
+ * - 소진 이벤트 이동/재발행은 엔티티 로딩 없이 네이티브 SQL로 처리
+ * - 이동/재발행 대상 행은 먼저 FOR UPDATE로 잠가 동시 발행 결과 반영/중복 재발행과 겹치지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentEventDeadLetterAdapter implements PaymentEventDeadLetterRepository {
+	
+	private static final String FIND_EXHAUSTED_EVENT_IDS = """
+			SELECT event_id
+			FROM payment_events
+			WHERE status = 'FAILED'
+			  AND retry_count >= :maxRetryCount
+			  AND (claimed_until IS NULL OR claimed_until < :now)
+			ORDER BY event_id
+			LIMIT :limit
+			""";
+	
+	private static final String LOCK_EXHAUSTED_EVENTS = """
+			SELECT event_id
+			FROM payment_events
+			WHERE event_id IN (:eventIds)
+			  AND status = 'FAILED'
+			  AND retry_count >= :maxRetryCount
+			FOR UPDATE
+			""";
+	
+	private static final String COPY_TO_DLQ = """
+			INSERT INTO payment_events_dlq
+			    (event_id, aggregate_id, event_type, payload, payload_codec, payload_binary,
+			     retry_count, created_at, last_error_message, error_history, dead_lettered_at)
+			SELECT event_id, aggregate_id, event_type, payload, payload_codec, payload_binary,
+			       retry_count, created_at, error_message, error_history, :now
+			FROM payment_events
+			WHERE event_id IN (:eventIds)
+			""";
+	
+	private static final String DELETE_EVENTS = """
+			DELETE FROM payment_events
+			WHERE event_id IN (:eventIds)
+			""";
+	
+	private static final String FIND_MAX_REPLAYABLE_DLQ_ID = """
+			SELECT MAX(dlq_id)
+			FROM payment_events_dlq
+			WHERE replayed_at IS NULL
+			""";
+	
+	private static final String LOCK_REPLAYABLE = """
+			SELECT dlq_id
+			FROM payment_events_dlq
+			WHERE dlq_id IN (:dlqIds)
+			  AND replayed_at IS NULL
+			FOR UPDATE
+			""";
+	
+	// 원래 event_id/created_at을 유지하여 컨슈머 중복 제거(event-id 헤더)와 aggregate 내 순서 보존
+	private static final String COPY_TO_OUTBOX = """
+			INSERT INTO payment_events
+			    (event_id, aggregate_id, event_type, payload, payload_codec, payload_binary,
+			     status, retry_count, created_at, error_history)
+			SELECT event_id, aggregate_id, event_type, payload, payload_codec, payload_binary,
+			       'PENDING', 0, created_at, error_history
+			FROM payment_events_dlq
+			WHERE dlq_id IN (:dlqIds)
+			""";
+	
+	private static final String MARK_REPLAYED = """
+			UPDATE payment_events_dlq
+			SET replayed_at = :now
+			WHERE dlq_id IN (:dlqIds)
+			""";
+	
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	
+	@Override
+	public List<Long> findExhaustedEventIds(int maxRetryCount, int limit) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("maxRetryCount", maxRetryCount)
+				.addValue("now", LocalDateTime.now())
+				.addValue("limit", limit);
+		return jdbcTemplate.queryForList(FIND_EXHAUSTED_EVENT_IDS, params, Long.class);
+	}
+	
+	@Override
+	@Transactional
+	public int moveToDeadLetter(List<Long> eventIds, int maxRetryCount) {
+		if (eventIds.isEmpty()) {
+			return 0;
+		}
+		
+		List<Long> lockedIds = jdbcTemplate.queryForList(LOCK_EXHAUSTED_EVENTS, new MapSqlParameterSource()
+				.addValue("eventIds", eventIds)
+				.addValue("maxRetryCount", maxRetryCount), Long.class);
+		if (lockedIds.isEmpty()) {
+			return 0;
+		}
+		
+		jdbcTemplate.update(COPY_TO_DLQ, new MapSqlParameterSource()
+				.addValue("eventIds", lockedIds)
+				.addValue("now", LocalDateTime.now()));
+		return jdbcTemplate.update(DELETE_EVENTS, new MapSqlParameterSource("eventIds", lockedIds));
+	}
+	
+	@Override
+	public Optional<Long> findMaxReplayableDlqId() {
+		return Optional.ofNullable(jdbcTemplate.queryForObject(
+				FIND_MAX_REPLAYABLE_DLQ_ID,
+				new MapSqlParameterSource(),
+				Long.class
+		));
+	}
+	
+	@Override
+	public List<Long> findReplayableDlqIds(DeadLetterReplayFilter filter, long afterDlqId, long upToDlqId, int limit) {
+		StringBuilder sql = new StringBuilder("""
+				SELECT dlq_id
+				FROM payment_events_dlq
+				WHERE dlq_id > :afterDlqId
+				  AND dlq_id <= :upToDlqId
+				  AND replayed_at IS NULL
+				""");
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("afterDlqId", afterDlqId)
+				.addValue("upToDlqId", upToDlqId)
+				.addValue("limit", limit);
+		
+		// 지정된 조건만 WHERE 절에 추가
+		if (filter.eventType() != null) {
+			sql.append("  AND event_type = :eventType\n");
+			params.addValue("eventType", filter.eventType().name());
+		}
+		if (filter.aggregateId() != null) {
+			sql.append("  AND aggregate_id = :aggregateId\n");
+			params.addValue("aggregateId", filter.aggregateId());
+		}
+		if (filter.from() != null) {
+			sql.append("  AND created_at >= :from\n");
+			params.addValue("from", filter.from());
+		}
+		if (filter.to() != null) {
+			sql.append("  AND created_at < :to\n");
+			params.addValue("to", filter.to());
+		}
+		sql.append("ORDER BY dlq_id\nLIMIT :limit\n");
+		
+		return jdbcTemplate.queryForList(sql.toString(), params, Long.class);
+	}
+	
+	@Override
+	@Transactional
+	public int replay(List<Long> dlqIds) {
+		if (dlqIds.isEmpty()) {
+			return 0;
+		}
+		
+		List<Long> lockedIds = jdbcTemplate.queryForList(
+				LOCK_REPLAYABLE, new MapSqlParameterSource("dlqIds", dlqIds), Long.class);
+		if (lockedIds.isEmpty()) {
+			return 0;
+		}
+		
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("dlqIds", lockedIds)
+				.addValue("now", LocalDateTime.now());
+		jdbcTemplate.update(COPY_TO_OUTBOX, params);
+		return jdbcTemplate.update(MARK_REPLAYED, params);
+	}
+}
@@ -1,20 +1,107 @@
 package com.teambind.payment.adapter.out.persistence;
 
 import com.teambind.payment.domain.EventStatus;
+import com.teambind.payment.domain.EventType;
 import com.teambind.payment.domain.PaymentEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PaymentEventJpaRepository extends JpaRepository<PaymentEvent, Long> {
 	
+	// Hibernate: lock timeout -2 → SKIP LOCKED
+	String SKIP_LOCKED = "-2";
+	
+	// 같은 aggregate의 앞선 이벤트가 아직 발행되지 않았으면 선점하지 않음 (재시도 대기 중인 선행 이벤트 추월 방지)
+	String NO_OLDER_UNPUBLISHED = "AND NOT EXISTS (SELECT 1 FROM PaymentEvent p WHERE p.aggregateId = e.aggregateId " +
+			"AND p.eventId < e.eventId AND p.status <> com.teambind.payment.domain.EventStatus.PUBLISHED) ";
+	
+	// 같은 aggregate에 발행되지 않은 이벤트가 있는지 (idx_aggregate_status 사용)
+	boolean existsByAggregateIdAndStatusNot(String aggregateId, EventStatus status);
+	
 	// 발행 대기중인 이벤트 조회 (생성 시각 오름차순)
 	List<PaymentEvent> findByStatusOrderByCreatedAtAsc(EventStatus status, Pageable pageable);
 	
+	// 상태별 이벤트 수 (idx_status_created 인덱스 범위 카운트)
+	long countByStatus(EventStatus status);
+	
+	// 타입별 발행 대기 이벤트 선점 (SELECT ... FOR UPDATE SKIP LOCKED, idx_status_type_created 사용)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+	@Query("SELECT e FROM PaymentEvent e WHERE e.status = com.teambind.payment.domain.EventStatus.PENDING " +
+			"AND e.eventType = :eventType AND e.createdAt < :createdBefore " +
+			"AND (e.claimedUntil IS NULL OR e.claimedUntil < :now) " + NO_OLDER_UNPUBLISHED + "ORDER BY e.createdAt ASC")
+	List<PaymentEvent> claimPendingEvents(@Param("eventType") EventType eventType,
+	                                      @Param("createdBefore") LocalDateTime createdBefore,
+	                                      @Param("now") LocalDateTime now,
+	                                      Pageable pageable);
+	
 	// 재시도 가능한 실패 이벤트 조회 (재시도 횟수가 최대값 미만)
 	@Query("SELECT e FROM PaymentEvent e WHERE e.status = 'FAILED' AND e.retryCount < :maxRetryCount ORDER BY e.createdAt ASC")
 	List<PaymentEvent> findFailedEventsForRetry(@Param("maxRetryCount") int maxRetryCount, Pageable pageable);
+	
+	// 타입별 재발행 시각이 도래한 실패 이벤트 선점 (SELECT ... FOR UPDATE SKIP LOCKED, idx_status_type_next_attempt 사용)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+	@Query("SELECT e FROM PaymentEvent e WHERE e.status = com.teambind.payment.domain.EventStatus.FAILED " +
+			"AND e.eventType = :eventType AND e.nextAttemptAt <= :now AND e.retryCount < :maxRetryCount " +
+			"AND (e.claimedUntil IS NULL OR e.claimedUntil < :now) " + NO_OLDER_UNPUBLISHED + "ORDER BY e.nextAttemptAt ASC")
+	List<PaymentEvent> claimDueFailedEvents(@Param("eventType") EventType eventType,
+	                                        @Param("maxRetryCount") int maxRetryCount,
+	                                        @Param("now") LocalDateTime now,
+	                                        Pageable pageable);
+	
+	// 선점 임대 설정 - 선점 트랜잭션 커밋 후에도 임대 만료 전까지 다른 워커의 선점 대상에서 제외
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE PaymentEvent e SET e.claimedBy = :claimedBy, e.claimedUntil = :claimedUntil WHERE e.eventId IN :eventIds")
+	int leaseAll(@Param("eventIds") List<Long> eventIds,
+	             @Param("claimedBy") String claimedBy,
+	             @Param("claimedUntil") LocalDateTime claimedUntil);
+	
+	// 발행 완료 일괄 처리 (선점 임대 해제) - 임대를 가진 선점의 미발행 행만
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE PaymentEvent e SET e.status = com.teambind.payment.domain.EventStatus.PUBLISHED, " +
+			"e.publishedAt = :publishedAt, e.errorMessage = NULL, e.claimedBy = NULL, e.claimedUntil = NULL " +
+			"WHERE e.eventId IN :eventIds AND e.claimedBy = :owner " +
+			"AND e.status <> com.teambind.payment.domain.EventStatus.PUBLISHED")
+	int markAllAsPublished(@Param("eventIds") List<Long> eventIds,
+	                       @Param("owner") String owner,
+	                       @Param("publishedAt") LocalDateTime publishedAt);
+	
+	// 발행 실패 일괄 처리 (재시도 횟수 증가, 실패 이력 누적, 다음 재발행 시각 설정, 선점 임대 해제)
+	// 재발행 시각은 행마다 [earliestAttemptAt, earliestAttemptAt + jitterMillis] 범위의 무작위 시각 (동시 실패 분산)
+	// TIMESTAMPADD/RAND는 MariaDB와 테스트용 H2(MySQL 모드) 모두에서 동작 (DATE_ADD ... INTERVAL <식>은 H2 미지원)
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = "UPDATE payment_events SET status = 'FAILED', error_message = :errorMessage, " +
+			"error_history = CONCAT(COALESCE(error_history, ''), :historyEntry), retry_count = retry_count + 1, " +
+			"next_attempt_at = TIMESTAMPADD(MICROSECOND, FLOOR(RAND() * (:jitterMillis + 1)) * 1000, :earliestAttemptAt), " +
+			"claimed_by = NULL, claimed_until = NULL " +
+			"WHERE event_id IN (:eventIds) AND claimed_by = :owner AND status <> 'PUBLISHED'",
+			nativeQuery = true)
+	int markAllAsFailed(@Param("eventIds") List<Long> eventIds,
+	                    @Param("owner") String owner,
+	                    @Param("errorMessage") String errorMessage,
+	                    @Param("historyEntry") String historyEntry,
+	                    @Param("earliestAttemptAt") LocalDateTime earliestAttemptAt,
+	                    @Param("jitterMillis") long jitterMillis);
+	
+	// 선점 임대 해제 (발행하지 않고 스윕에 넘길 때) - owner가 가진 임대만
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE PaymentEvent e SET e.claimedBy = NULL, e.claimedUntil = NULL " +
+			"WHERE e.eventId IN :eventIds AND e.claimedBy = :owner")
+	int releaseAll(@Param("eventIds") List<Long> eventIds, @Param("owner") String owner);
 }
@@ -2,11 +2,16 @@ package com.teambind.payment.adapter.out.persistence;
 
 import com.teambind.payment.application.port.out.PaymentEventRepository;
 import com.teambind.payment.domain.EventStatus;
+import com.teambind.payment.domain.EventType;
+import com.teambind.payment.domain.OutboxLease;
 import com.teambind.payment.domain.PaymentEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +39,16 @@ public class PaymentEventRepositoryAdapter implements PaymentEventRepository {
 		);
 	}
 	
+	@Override
+	public long countPendingEvents() {
+		return jpaRepository.countByStatus(EventStatus.PENDING);
+	}
+	
+	@Override
+	public boolean hasUnpublishedEvents(String aggregateId) {
+		return jpaRepository.existsByAggregateIdAndStatusNot(aggregateId, EventStatus.PUBLISHED);
+	}
+	
 	@Override
 	public List<PaymentEvent> findFailedEventsForRetry(int maxRetryCount, int limit) {
 		return jpaRepository.findFailedEventsForRetry(
@@ -41,4 +56,70 @@ public class PaymentEventRepositoryAdapter implements PaymentEventRepository {
 				PageRequest.of(0, limit)
 		);
 	}
+	
+	@Override
+	@Transactional
+	public List<PaymentEvent> claimPendingEvents(EventType eventType, LocalDateTime createdBefore, OutboxLease lease, int limit) {
+		List<PaymentEvent> events = jpaRepository.claimPendingEvents(
+				eventType,
+				createdBefore,
+				lease.acquiredAt(),
+				PageRequest.of(0, limit)
+		);
+		return leaseAll(events, lease);
+	}
+	
+	@Override
+	@Transactional
+	public List<PaymentEvent> claimDueFailedEvents(EventType eventType, int maxRetryCount, OutboxLease lease, int limit) {
+		List<PaymentEvent> events = jpaRepository.claimDueFailedEvents(
+				eventType,
+				maxRetryCount,
+				lease.acquiredAt(),
+				PageRequest.of(0, limit)
+		);
+		return leaseAll(events, lease);
+	}
+	
+	private List<PaymentEvent> leaseAll(List<PaymentEvent> events, OutboxLease lease) {
+		if (!events.isEmpty()) {
+			List<Long> eventIds = events.stream()
+					.map(PaymentEvent::getEventId)
+					.toList();
+			jpaRepository.leaseAll(eventIds, lease.owner(), lease.expiresAt());
+		}
+		return events;
+	}
+	
+	@Override
+	public int markAllAsPublished(List<Long> eventIds, String owner, LocalDateTime publishedAt) {
+		if (eventIds.isEmpty()) {
+			return 0;
+		}
+		return jpaRepository.markAllAsPublished(eventIds, owner, publishedAt);
+	}
+	
+	@Override
+	public int markAllAsFailed(List<Long> eventIds, String owner, String errorMessage,
+	                           LocalDateTime earliestAttemptAt, Duration jitter) {
+		if (eventIds.isEmpty()) {
+			return 0;
+		}
+		return jpaRepository.markAllAsFailed(
+				eventIds,
+				owner,
+				errorMessage,
+				PaymentEvent.errorHistoryEntry(LocalDateTime.now(), errorMessage),
+				earliestAttemptAt,
+				jitter.toMillis()
+		);
+	}
+	
+	@Override
+	public int releaseAll(List<Long> eventIds, String owner) {
+		if (eventIds.isEmpty()) {
+			return 0;
+		}
+		return jpaRepository.releaseAll(eventIds, owner);
+	}
 }
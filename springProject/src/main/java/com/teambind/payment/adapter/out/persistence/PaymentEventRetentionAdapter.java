@@ -0,0 +1,100 @@
+package com.teambind.payment.adapter.out.persistence;
+
+import com.teambind.payment.application.port.out.PaymentEventRetentionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outbox 보존 정책 어댑터
+ * - 대량 이동/삭제는 엔티티 로딩 없이 네이티브 SQL로 처리
+ * - 모든 조회는 PUBLISHED 상태로 한정하여 발행 대기/재시도 행과 락이 겹치지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentEventRetentionAdapter implements PaymentEventRetentionRepository {
+	
+	private static final String FIND_MAX_EVENT_ID = """
+			SELECT MAX(event_id)
+			FROM payment_events
+			WHERE status = 'PUBLISHED'
+			  AND created_at < :cutoff
+			""";
+	
+	private static final String FIND_EVENT_IDS = """
+			SELECT event_id
+			FROM payment_events
+			WHERE event_id > :afterEventId
+			  AND event_id <= :upToEventId
+			  AND status = 'PUBLISHED'
+			  AND created_at < :cutoff
+			ORDER BY event_id
+			LIMIT :limit
+			""";
+	
+	private static final String COPY_TO_ARCHIVE = """
+			INSERT INTO payment_events_archive
+			    (event_id, aggregate_id, event_type, payload, payload_codec, payload_binary,
+			     status, retry_count, next_attempt_at, created_at, published_at, error_message, error_history)
+			SELECT event_id, aggregate_id, event_type, payload, payload_codec, payload_binary,
+			       status, retry_count, next_attempt_at, created_at, published_at, error_message, error_history
+			FROM payment_events
+			WHERE event_id IN (:eventIds)
+			  AND status = 'PUBLISHED'
+			""";
+	
+	private static final String DELETE_EVENTS = """
+			DELETE FROM payment_events
+			WHERE event_id IN (:eventIds)
+			  AND status = 'PUBLISHED'
+			""";
+	
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	
+	@Override
+	public Optional<Long> findMaxPublishedEventIdBefore(LocalDateTime cutoff) {
+		return Optional.ofNullable(jdbcTemplate.queryForObject(
+				FIND_MAX_EVENT_ID,
+				new MapSqlParameterSource("cutoff", cutoff),
+				Long.class
+		));
+	}
+	
+	@Override
+	public List<Long> findPublishedEventIdsBefore(LocalDateTime cutoff, long afterEventId, long upToEventId, int limit) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("cutoff", cutoff)
+				.addValue("afterEventId", afterEventId)
+				.addValue("upToEventId", upToEventId)
+				.addValue("limit", limit);
+		return jdbcTemplate.queryForList(FIND_EVENT_IDS, params, Long.class);
+	}
+	
+	@Override
+	@Transactional
+	public int moveToArchive(List<Long> eventIds) {
+		if (eventIds.isEmpty()) {
+			return 0;
+		}
+		
+		MapSqlParameterSource params = new MapSqlParameterSource("eventIds", eventIds);
+		jdbcTemplate.update(COPY_TO_ARCHIVE, params);
+		return jdbcTemplate.update(DELETE_EVENTS, params);
+	}
+	
+	@Override
+	@Transactional
+	public int deleteAll(List<Long> eventIds) {
+		if (eventIds.isEmpty()) {
+			return 0;
+		}
+		
+		return jdbcTemplate.update(DELETE_EVENTS, new MapSqlParameterSource("eventIds", eventIds));
+	}
+}
@@ -1,15 +1,37 @@
 package com.teambind.payment.adapter.out.persistence;
 
 import com.teambind.payment.domain.Payment;
+import com.teambind.payment.domain.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentJpaRepository extends JpaRepository<Payment, String> {
 	
+	// 결제 ID로 조회 + 비관적 쓰기 잠금 (SELECT ... FOR UPDATE)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT p FROM Payment p WHERE p.paymentId = :paymentId")
+	Optional<Payment> findByIdForUpdate(@Param("paymentId") String paymentId);
+	
 	// 예약 ID로 조회
 	Optional<Payment> findByReservationId(String reservationId);
 	
+	// 예약 ID로 조회 + 비관적 쓰기 잠금 (SELECT ... FOR UPDATE)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT p FROM Payment p WHERE p.reservationId = :reservationId")
+	Optional<Payment> findByReservationIdForUpdate(@Param("reservationId") String reservationId);
+	
 	// 멱등성 키로 조회
 	Optional<Payment> findByIdempotencyKey(String idempotencyKey);
+	
+	// 상태 + 승인 시작 시각으로 조회 (idx_status_confirm_started)
+	List<Payment> findByStatusAndConfirmStartedAtBeforeOrderByConfirmStartedAt(
+			PaymentStatus status, LocalDateTime confirmStartedAt, Pageable pageable);
 }
@@ -2,34 +2,103 @@ package com.teambind.payment.adapter.out.persistence;
 
 import com.teambind.payment.application.port.out.PaymentRepository;
 import com.teambind.payment.domain.Payment;
+import com.teambind.payment.domain.PaymentStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class PaymentRepositoryAdapter implements PaymentRepository {
 	
+	// 한 문장에 담는 최대 행 수 (max_allowed_packet/플레이스홀더 수 제한 대비)
+	private static final int MAX_ROWS_PER_STATEMENT = 500;
+	
+	// 이미 준비된 예약(reservation_id)인 행만 건너뜀 - ON DUPLICATE KEY와 달리 payment_id/idempotency_key 충돌은 그대로 실패
+	// 검사와 INSERT 사이에 같은 예약이 먼저 저장되면 uk_reservation_id 위반으로 실패 (호출 측이 건별 경로로 재처리)
+	private static final String INSERT_PREPARED_PREFIX = """
+			INSERT INTO payments
+			    (payment_id, reservation_id, amount, currency, status, check_in_date, idempotency_key, created_at)
+			SELECT v.payment_id, v.reservation_id, v.amount, v.currency, v.status, v.check_in_date, v.idempotency_key, v.created_at
+			FROM (""";
+	
+	private static final String FIRST_ROW = """
+			SELECT ? AS payment_id, ? AS reservation_id, ? AS amount, ? AS currency, ? AS status,
+			       ? AS check_in_date, ? AS idempotency_key, ? AS created_at""";
+	
+	private static final String NEXT_ROW = " UNION ALL SELECT ?, ?, ?, ?, ?, ?, ?, ?";
+	
+	private static final String INSERT_PREPARED_SUFFIX = """
+			) v
+			WHERE NOT EXISTS (SELECT 1 FROM payments p WHERE p.reservation_id = v.reservation_id)""";
+	
 	private final PaymentJpaRepository jpaRepository;
+	private final JdbcTemplate jdbcTemplate;
 	
 	@Override
 	public Payment save(Payment payment) {
 		return jpaRepository.save(payment);
 	}
 	
+	@Override
+	public void saveAllIgnoringDuplicates(List<Payment> payments) {
+		for (int from = 0; from < payments.size(); from += MAX_ROWS_PER_STATEMENT) {
+			List<Payment> chunk = payments.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, payments.size()));
+			
+			List<Object> args = new ArrayList<>(chunk.size() * 8);
+			for (Payment payment : chunk) {
+				args.add(payment.getPaymentId());
+				args.add(payment.getReservationId());
+				args.add(payment.getAmount().getValue());
+				args.add(payment.getAmount().getCurrency());
+				args.add(payment.getStatus().name());
+				args.add(payment.getCheckInDate());
+				args.add(payment.getIdempotencyKey());
+				args.add(payment.getCreatedAt());
+			}
+			
+			String sql = INSERT_PREPARED_PREFIX
+					+ FIRST_ROW
+					+ NEXT_ROW.repeat(chunk.size() - 1)
+					+ INSERT_PREPARED_SUFFIX;
+			jdbcTemplate.update(sql, args.toArray());
+		}
+	}
+	
 	@Override
 	public Optional<Payment> findById(String paymentId) {
 		return jpaRepository.findById(paymentId);
 	}
 	
+	@Override
+	public Optional<Payment> findByIdForUpdate(String paymentId) {
+		return jpaRepository.findByIdForUpdate(paymentId);
+	}
+	
 	@Override
 	public Optional<Payment> findByReservationId(String reservationId) {
 		return jpaRepository.findByReservationId(reservationId);
 	}
 	
+	@Override
+	public Optional<Payment> findByReservationIdForUpdate(String reservationId) {
+		return jpaRepository.findByReservationIdForUpdate(reservationId);
+	}
+	
 	@Override
 	public Optional<Payment> findByIdempotencyKey(String idempotencyKey) {
 		return jpaRepository.findByIdempotencyKey(idempotencyKey);
 	}
+	
+	@Override
+	public List<Payment> findConfirmingStartedBefore(LocalDateTime startedBefore, int limit) {
+		return jpaRepository.findByStatusAndConfirmStartedAtBeforeOrderByConfirmStartedAt(
+				PaymentStatus.CONFIRMING, startedBefore, PageRequest.of(0, limit));
+	}
 }
@@ -1,12 +1,17 @@
 package com.teambind.payment.adapter.out.persistence;
 
 import com.teambind.payment.domain.Refund;
+import com.teambind.payment.domain.RefundStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface RefundJpaRepository extends JpaRepository<Refund, String> {
 	
+	// 결제 ID + 상태로 가장 최근 환불 조회 (idx_refund_payment_status)
+	Optional<Refund> findFirstByPaymentIdAndStatusOrderByRequestedAtDesc(String paymentId, RefundStatus status);
+	
 	// 결제 ID로 환불 목록 조회
 	List<Refund> findByPaymentId(String paymentId);
 }
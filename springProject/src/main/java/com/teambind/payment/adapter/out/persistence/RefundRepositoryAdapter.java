@@ -2,6 +2,7 @@ package com.teambind.payment.adapter.out.persistence;
 
 import com.teambind.payment.application.port.out.RefundRepository;
 import com.teambind.payment.domain.Refund;
+import com.teambind.payment.domain.RefundStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -24,6 +25,11 @@ public class RefundRepositoryAdapter implements RefundRepository {
 		return jpaRepository.findById(refundId);
 	}
 	
+	@Override
+	public Optional<Refund> findInFlightByPaymentId(String paymentId) {
+		return jpaRepository.findFirstByPaymentIdAndStatusOrderByRequestedAtDesc(paymentId, RefundStatus.APPROVED);
+	}
+	
 	@Override
 	public List<Refund> findByPaymentId(String paymentId) {
 		return jpaRepository.findByPaymentId(paymentId);
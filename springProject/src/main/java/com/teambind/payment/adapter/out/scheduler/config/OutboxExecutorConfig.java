@@ -0,0 +1,29 @@
+package com.teambind.payment.adapter.out.scheduler.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class OutboxExecutorConfig {
+	
+	@Bean(name = "outboxDispatchExecutor")
+	public ThreadPoolTaskExecutor outboxDispatchExecutor(
+			@Value("${outbox.fast-path.pool-size:4}") int poolSize,
+			@Value("${outbox.fast-path.queue-capacity:1000}") int queueCapacity
+	) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("outbox-dispatch-");
+		// 대기열 포화 시 호출 스레드를 막지 않고 거절 → 스케줄러 스윕이 처리
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
+		return executor;
+	}
+}
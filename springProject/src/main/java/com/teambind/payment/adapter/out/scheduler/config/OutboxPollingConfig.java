@@ -0,0 +1,144 @@
+package com.teambind.payment.adapter.out.scheduler.config;
+
+import com.teambind.payment.application.port.out.PaymentEventRepository;
+import com.teambind.payment.application.service.AdaptivePollPolicy;
+import com.teambind.payment.application.service.OutboxEventScheduler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Outbox 안전망 폴링 스케줄 (백로그 적응형)
+ * - 고정 주기 대신 직전 폴링 결과로 다음 실행 시각과 배치 크기를 결정
+ * - 백로그 크기 / 폴링 빈도 / 현재 배치 크기를 게이지로 노출
+ */
+@Configuration
+@Slf4j
+public class OutboxPollingConfig implements SchedulingConfigurer {
+	
+	private final PaymentEventRepository paymentEventRepository;
+	private final long backlogRefreshNanos;
+	private final PollLoop sweepLoop;
+	private final PollLoop retryLoop;
+	private final AtomicLong pendingBacklog = new AtomicLong();
+	private volatile long backlogRefreshedAt;
+	
+	public OutboxPollingConfig(OutboxEventScheduler outboxEventScheduler,
+	                           PaymentEventRepository paymentEventRepository,
+	                           MeterRegistry meterRegistry,
+	                           @Value("${outbox.polling.min-batch-size:100}") int minBatchSize,
+	                           @Value("${outbox.polling.max-batch-size:1000}") int maxBatchSize,
+	                           @Value("${outbox.polling.busy-delay-ms:200}") long busyDelayMs,
+	                           @Value("${outbox.polling.sweep-idle-delay-ms:10000}") long sweepIdleDelayMs,
+	                           @Value("${outbox.polling.retry-idle-delay-ms:5000}") long retryIdleDelayMs,
+	                           @Value("${outbox.polling.backlog-refresh-ms:5000}") long backlogRefreshMs) {
+		this.paymentEventRepository = paymentEventRepository;
+		this.backlogRefreshNanos = Duration.ofMillis(backlogRefreshMs).toNanos();
+		this.backlogRefreshedAt = System.nanoTime() - backlogRefreshNanos;
+		this.sweepLoop = new PollLoop("sweep", new AdaptivePollPolicy(minBatchSize, maxBatchSize,
+				Duration.ofMillis(busyDelayMs), Duration.ofMillis(sweepIdleDelayMs)), outboxEventScheduler::processPendingEvents);
+		this.retryLoop = new PollLoop("retry", new AdaptivePollPolicy(minBatchSize, maxBatchSize,
+				Duration.ofMillis(busyDelayMs), Duration.ofMillis(retryIdleDelayMs)), outboxEventScheduler::retryFailedEvents);
+		
+		Gauge.builder("outbox.backlog", pendingBacklog, AtomicLong::get)
+				.description("발행 대기(PENDING) 이벤트 수")
+				.tag("status", "pending")
+				.register(meterRegistry);
+		sweepLoop.registerGauges(meterRegistry);
+		retryLoop.registerGauges(meterRegistry);
+	}
+	
+	@Override
+	public void configureTasks(ScheduledTaskRegistrar registrar) {
+		registrar.addTriggerTask(this::pollPending, sweepLoop::nextExecution);
+		registrar.addTriggerTask(retryLoop::poll, retryLoop::nextExecution);
+	}
+	
+	private void pollPending() {
+		sweepLoop.poll();
+		refreshBacklogIfStale();
+	}
+	
+	// 배치마다 COUNT를 실행하지 않도록 갱신 주기가 지난 경우에만 조회
+	private void refreshBacklogIfStale() {
+		long now = System.nanoTime();
+		if (now - backlogRefreshedAt < backlogRefreshNanos) {
+			return;
+		}
+		
+		try {
+			pendingBacklog.set(paymentEventRepository.countPendingEvents());
+			sweepLoop.updatePollRate(now);
+			retryLoop.updatePollRate(now);
+			backlogRefreshedAt = now;
+		} catch (Exception e) {
+			log.warn("Outbox 백로그 조회 실패", e);
+		}
+	}
+	
+	private static final class PollLoop {
+		
+		private final String name;
+		private final AdaptivePollPolicy policy;
+		private final IntUnaryOperator pollAction;
+		private final AtomicLong pollCount = new AtomicLong();
+		private long lastPollCount;
+		private long lastRateAt = System.nanoTime();
+		private volatile double pollsPerSecond;
+		
+		private PollLoop(String name, AdaptivePollPolicy policy, IntUnaryOperator pollAction) {
+			this.name = name;
+			this.policy = policy;
+			this.pollAction = pollAction;
+		}
+		
+		private void poll() {
+			int claimed = pollAction.applyAsInt(policy.batchSize());
+			policy.onPolled(claimed);
+			pollCount.incrementAndGet();
+		}
+		
+		// 직전 실행 완료 시각 + 정책이 정한 지연 (0이면 즉시 재폴링)
+		private Instant nextExecution(TriggerContext context) {
+			Instant lastCompletion = context.lastCompletion();
+			Instant base = lastCompletion != null ? lastCompletion : Instant.now();
+			return base.plus(policy.delay());
+		}
+		
+		private synchronized void updatePollRate(long now) {
+			long count = pollCount.get();
+			double elapsedSeconds = (now - lastRateAt) / 1_000_000_000.0;
+			if (elapsedSeconds > 0) {
+				pollsPerSecond = (count - lastPollCount) / elapsedSeconds;
+			}
+			lastPollCount = count;
+			lastRateAt = now;
+		}
+		
+		private void registerGauges(MeterRegistry meterRegistry) {
+			Gauge.builder("outbox.poll.batch.size", policy, AdaptivePollPolicy::batchSize)
+					.description("현재 폴링 배치 크기")
+					.tag("loop", name)
+					.register(meterRegistry);
+			Gauge.builder("outbox.poll.delay", policy, p -> p.delay().toMillis())
+					.description("다음 폴링까지의 지연")
+					.tag("loop", name)
+					.baseUnit("milliseconds")
+					.register(meterRegistry);
+			Gauge.builder("outbox.poll.rate", this, loop -> loop.pollsPerSecond)
+					.description("초당 폴링 횟수")
+					.tag("loop", name)
+					.register(meterRegistry);
+		}
+	}
+}
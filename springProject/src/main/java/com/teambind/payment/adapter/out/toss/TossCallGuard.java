@@ -0,0 +1,88 @@
+package com.teambind.payment.adapter.out.toss;
+
+import com.teambind.payment.common.exception.TossApiException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 토스 API 호출 보호 (재시도 + 벌크헤드 + 서킷 브레이커)
+ * - 동시 호출 수를 벌크헤드로 제한하여 토스 지연 시 요청 스레드가 모두 묶이지 않음 (대기 없이 즉시 거절)
+ * - 실패/지연 호출 비율이 임계치를 넘으면 서킷을 열어 타임아웃까지 기다리지 않고 즉시 실패
+ * - 결과를 알 수 없는 오류(타임아웃/5xx)는 지수 백오프로 재시도 - 호출부가 같은 Idempotency-Key를 보내므로 중복 처리되지 않음
+ * - 거절된 호출은 unavailable, 4xx는 rejected, 그 외 오류는 outcomeUnknown TossApiException으로 변환
+ * - 앞선 시도의 결과를 알 수 없으면 마지막 4xx도 outcomeUnknown - 토스는 처리 중인 같은 키의 요청에 오류로 응답하므로
+ *   4xx가 앞선 시도의 미승인을 뜻하지 않음
+ */
+public class TossCallGuard {
+	
+	private final CircuitBreaker circuitBreaker;
+	private final Bulkhead bulkhead;
+	private final Retry retry;
+	
+	public TossCallGuard(CircuitBreaker circuitBreaker, Bulkhead bulkhead, Retry retry) {
+		this.circuitBreaker = circuitBreaker;
+		this.bulkhead = bulkhead;
+		this.retry = retry;
+	}
+	
+	public <T> T call(String operation, Supplier<T> supplier) {
+		// 벌크헤드가 서킷 바깥 - 동시 호출 한도 초과는 서킷 실패율에 집계되지 않음
+		// 재시도가 가장 바깥 - 재시도마다 벌크헤드/서킷을 다시 거치고, 백오프 대기 중에는 동시 호출 슬롯을 점유하지 않음
+		AtomicBoolean unknownAttempt = new AtomicBoolean();
+		Supplier<T> attempt = () -> {
+			try {
+				return supplier.get();
+			} catch (RuntimeException e) {
+				if (!isClientError(e)) {
+					unknownAttempt.set(true);
+				}
+				throw e;
+			}
+		};
+		Supplier<T> guarded = Retry.decorateSupplier(retry,
+				Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, attempt)));
+		
+		try {
+			return guarded.get();
+		} catch (BulkheadFullException e) {
+			if (unknownAttempt.get()) {
+				throw TossApiException.outcomeUnknown(operation + " 실패 - 이전 시도 결과 불명, 재시도 거절: " + bulkhead.getName(), e);
+			}
+			throw TossApiException.unavailable(operation + " 거절 - 동시 호출 한도 초과: " + bulkhead.getName(), e);
+		} catch (CallNotPermittedException e) {
+			if (unknownAttempt.get()) {
+				throw TossApiException.outcomeUnknown(operation + " 실패 - 이전 시도 결과 불명, 서킷 열림: " + circuitBreaker.getName(), e);
+			}
+			throw TossApiException.unavailable(operation + " 거절 - 서킷 열림: " + circuitBreaker.getName(), e);
+		} catch (Exception e) {
+			if (isClientError(e) && !unknownAttempt.get()) {
+				throw TossApiException.rejected(operation + " 실패: " + e.getMessage(), e);
+			}
+			throw TossApiException.outcomeUnknown(operation + " 실패: " + e.getMessage(), e);
+		}
+	}
+	
+	// 서킷 실패율 집계 대상 - 토스가 요청 자체를 거절한 4xx는 토스 장애가 아니므로 제외
+	public static boolean isFailure(Throwable throwable) {
+		return !isClientError(throwable);
+	}
+	
+	// 재시도 대상 - 서킷 열림/동시 호출 한도 초과는 재시도해도 같은 결과이므로 즉시 실패
+	public static boolean isRetryable(Throwable throwable) {
+		return isFailure(throwable)
+				&& !(throwable instanceof CallNotPermittedException)
+				&& !(throwable instanceof BulkheadFullException);
+	}
+	
+	private static boolean isClientError(Throwable throwable) {
+		return throwable instanceof WebClientResponseException responseException
+				&& responseException.getStatusCode().is4xxClientError();
+	}
+}
@@ -0,0 +1,133 @@
+package com.teambind.payment.adapter.out.toss;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 토스 결제 승인 헤지 요청
+ * - 승인 응답이 최근 p95 응답시간 안에 오지 않으면 같은 요청(같은 Idempotency-Key)을 한 번 더 보내고 먼저 온 성공 응답 사용
+ * - 토스가 멱등성 키로 중복 승인을 막으므로 두 요청이 모두 도달해도 승인은 한 번 (처리 중 중복 요청의 오류 응답은 무시)
+ * - 둘 다 실패하면 첫 요청의 오류를 전달, 결과가 정해지면 남은 요청은 취소
+ * - 기본 비활성 (toss.payments.api.hedge.enabled), 승인 응답시간은 toss.payment.confirm.latency 타이머로 노출
+ */
+@Component
+@Slf4j
+public class TossConfirmHedger {
+	
+	private static final double HEDGE_PERCENTILE = 0.95;
+	
+	private final Timer latency;
+	private final Counter hedgeCounter;
+	private final boolean enabled;
+	private final Duration defaultDelay;
+	private final Duration minDelay;
+	private final long minSamples;
+	
+	public TossConfirmHedger(
+			MeterRegistry meterRegistry,
+			@Value("${toss.payments.api.hedge.enabled:false}") boolean enabled,
+			@Value("${toss.payments.api.hedge.default-delay-ms:3000}") long defaultDelayMs,
+			@Value("${toss.payments.api.hedge.min-delay-ms:300}") long minDelayMs,
+			@Value("${toss.payments.api.hedge.min-samples:100}") long minSamples) {
+		this.latency = Timer.builder("toss.payment.confirm.latency")
+				.description("토스 결제 승인 성공 응답시간")
+				.publishPercentiles(HEDGE_PERCENTILE)
+				.register(meterRegistry);
+		this.hedgeCounter = Counter.builder("toss.payment.confirm.hedged")
+				.description("응답 지연으로 보낸 토스 결제 승인 헤지 요청 수")
+				.register(meterRegistry);
+		this.enabled = enabled;
+		this.defaultDelay = Duration.ofMillis(defaultDelayMs);
+		this.minDelay = Duration.ofMillis(minDelayMs);
+		this.minSamples = minSamples;
+	}
+	
+	// request는 구독할 때마다 새로 요청하는 cold Mono (WebClient 요청)
+	public <T> T call(Mono<T> request) {
+		long startedAt = System.nanoTime();
+		T response = enabled ? hedged(request, hedgeDelay()) : request.block();
+		latency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		return response;
+	}
+	
+	// 최근 승인 응답시간 p95 (표본이 부족하면 기본값), 최소 대기 시간 보장
+	Duration hedgeDelay() {
+		if (latency.count() < minSamples) {
+			return defaultDelay;
+		}
+		for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+			if (percentile.percentile() == HEDGE_PERCENTILE) {
+				Duration p95 = Duration.ofNanos((long) percentile.value(TimeUnit.NANOSECONDS));
+				return p95.compareTo(minDelay) > 0 ? p95 : minDelay;
+			}
+		}
+		return defaultDelay;
+	}
+	
+	private <T> T hedged(Mono<T> request, Duration delay) {
+		CompletableFuture<T> primary = request.toFuture();
+		try {
+			return primary.get(delay.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			// 응답 지연 - 아래에서 헤지 요청
+		} catch (ExecutionException e) {
+			throw unwrap(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			primary.cancel(true);
+			throw new IllegalStateException("토스 결제 승인 응답 대기 중 인터럽트", e);
+		}
+		
+		log.info("토스 결제 승인 응답 지연 - {}ms 경과, 같은 멱등성 키로 헤지 요청", delay.toMillis());
+		hedgeCounter.increment();
+		CompletableFuture<T> hedge = request.toFuture();
+		try {
+			return firstSuccess(primary, hedge).join();
+		} catch (CompletionException e) {
+			throw unwrap(e.getCause());
+		} finally {
+			// 결과가 정해졌으므로 남은 요청 구독 취소 (이미 끝난 요청에는 영향 없음)
+			primary.cancel(true);
+			hedge.cancel(true);
+		}
+	}
+	
+	// 먼저 성공한 응답, 둘 다 실패하면 첫 요청의 오류
+	private static <T> CompletableFuture<T> firstSuccess(CompletableFuture<T> primary, CompletableFuture<T> hedge) {
+		CompletableFuture<T> winner = new CompletableFuture<>();
+		primary.thenAccept(winner::complete);
+		hedge.thenAccept(winner::complete);
+		CompletableFuture.allOf(primary, hedge).whenComplete((ignored, error) -> {
+			if (!primary.isCompletedExceptionally()) {
+				winner.complete(primary.join());
+			} else if (!hedge.isCompletedExceptionally()) {
+				winner.complete(hedge.join());
+			} else {
+				primary.whenComplete((value, primaryError) -> winner.completeExceptionally(primaryError));
+			}
+		});
+		return winner;
+	}
+	
+	// 호출부(TossCallGuard)가 4xx/타임아웃을 구분할 수 있도록 원래 예외로 전달
+	private static RuntimeException unwrap(Throwable throwable) {
+		Throwable cause = throwable;
+		while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		return cause instanceof RuntimeException runtimeException ? runtimeException : new IllegalStateException(cause);
+	}
+}
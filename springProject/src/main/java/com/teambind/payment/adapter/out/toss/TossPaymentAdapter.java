@@ -3,57 +3,74 @@ package com.teambind.payment.adapter.out.toss;
 import com.teambind.payment.adapter.out.toss.dto.TossPaymentConfirmRequest;
 import com.teambind.payment.adapter.out.toss.dto.TossPaymentConfirmResponse;
 import com.teambind.payment.application.port.out.TossPaymentClient;
-import lombok.RequiredArgsConstructor;
+import com.teambind.payment.common.exception.TossApiException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
-
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class TossPaymentAdapter implements TossPaymentClient {
 	
-	private final WebClient.Builder webClientBuilder;
+	// 토스 멱등 요청 헤더 - 같은 키의 요청은 토스에서 한 번만 처리
+	public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+	
+	// base-url, 인증 헤더, 커넥션 풀, 타임아웃이 설정된 토스 전용 클라이언트 (TossClientConfig)
+	private final WebClient tossWebClient;
 	
-	@Value("${toss.payments.api.base-url}")
-	private String baseUrl;
+	// 승인/조회 전용 재시도 + 서킷 브레이커 + 벌크헤드 (TossResilienceConfig)
+	private final TossCallGuard callGuard;
 	
-	@Value("${toss.payments.api.secret-key}")
-	private String secretKey;
+	// 승인 응답 지연 시 헤지 요청 (기본 비활성)
+	private final TossConfirmHedger confirmHedger;
+	
+	public TossPaymentAdapter(WebClient tossWebClient,
+	                          @Qualifier("tossPaymentCallGuard") TossCallGuard callGuard,
+	                          TossConfirmHedger confirmHedger) {
+		this.tossWebClient = tossWebClient;
+		this.callGuard = callGuard;
+		this.confirmHedger = confirmHedger;
+	}
 	
 	@Override
-	public TossPaymentConfirmResponse confirmPayment(TossPaymentConfirmRequest request) {
+	public TossPaymentConfirmResponse confirmPayment(TossPaymentConfirmRequest request, String idempotencyKey) {
 		log.info("토스 결제 승인 요청 - orderId: {}, amount: {}", request.orderId(), request.amount());
 		
-		String encodedKey = Base64.getEncoder()
-				.encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
-		
 		try {
-			TossPaymentConfirmResponse response = webClientBuilder.build()
+			TossPaymentConfirmResponse response = callGuard.call("토스 결제 승인", () -> confirmHedger.call(tossWebClient
 					.post()
-					.uri(baseUrl + "/v1/payments/confirm")
-					.header(HttpHeaders.AUTHORIZATION, "Basic " + encodedKey)
-					.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+					.uri("/v1/payments/confirm")
+					.header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
 					.bodyValue(request)
 					.retrieve()
-					.bodyToMono(TossPaymentConfirmResponse.class)
-					.block();
+					.bodyToMono(TossPaymentConfirmResponse.class)));
 			
 			log.info("토스 결제 승인 성공 - transactionId: {}, method: {}",
 					response.lastTransactionKey(), response.method());
 			
 			return response;
 			
-		} catch (Exception e) {
+		} catch (TossApiException e) {
 			log.error("토스 결제 승인 실패 - orderId: {}, error: {}",
 					request.orderId(), e.getMessage(), e);
-			throw new RuntimeException("토스 결제 승인 실패: " + e.getMessage(), e);
+			throw e;
+		}
+	}
+	
+	@Override
+	public TossPaymentConfirmResponse getPayment(String paymentKey) {
+		try {
+			return callGuard.call("토스 결제 조회", () -> tossWebClient
+					.get()
+					.uri("/v1/payments/{paymentKey}", paymentKey)
+					.retrieve()
+					.bodyToMono(TossPaymentConfirmResponse.class)
+					.block());
+		
+		} catch (TossApiException e) {
+			log.error("토스 결제 조회 실패 - paymentKey: {}, error: {}", paymentKey, e.getMessage(), e);
+			throw e;
 		}
 	}
 }
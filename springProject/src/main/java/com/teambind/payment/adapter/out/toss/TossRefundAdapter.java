@@ -3,58 +3,52 @@ package com.teambind.payment.adapter.out.toss;
 import com.teambind.payment.adapter.out.toss.dto.TossRefundRequest;
 import com.teambind.payment.adapter.out.toss.dto.TossRefundResponse;
 import com.teambind.payment.application.port.out.TossRefundClient;
-import lombok.RequiredArgsConstructor;
+import com.teambind.payment.common.exception.TossApiException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
-
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class TossRefundAdapter implements TossRefundClient {
 	
-	private final WebClient.Builder webClientBuilder;
+	// base-url, 인증 헤더, 커넥션 풀, 타임아웃이 설정된 토스 전용 클라이언트 (TossClientConfig)
+	private final WebClient tossWebClient;
 	
-	@Value("${toss.payments.api.base-url}")
-	private String baseUrl;
+	// 환불 전용 재시도 + 서킷 브레이커 + 벌크헤드 (TossResilienceConfig) - 승인 호출과 한도를 공유하지 않음
+	private final TossCallGuard callGuard;
 	
-	@Value("${toss.payments.api.secret-key}")
-	private String secretKey;
+	public TossRefundAdapter(WebClient tossWebClient,
+	                         @Qualifier("tossRefundCallGuard") TossCallGuard callGuard) {
+		this.tossWebClient = tossWebClient;
+		this.callGuard = callGuard;
+	}
 	
 	@Override
-	public TossRefundResponse cancelPayment(String paymentKey, TossRefundRequest request) {
+	public TossRefundResponse cancelPayment(String paymentKey, TossRefundRequest request, String idempotencyKey) {
 		log.info("토스 결제 취소(환불) 요청 - paymentKey: {}, cancelAmount: {}",
 				paymentKey, request.cancelAmount());
 		
-		String encodedKey = Base64.getEncoder()
-				.encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
-		
 		try {
-			TossRefundResponse response = webClientBuilder.build()
+			TossRefundResponse response = callGuard.call("토스 결제 취소(환불)", () -> tossWebClient
 					.post()
-					.uri(baseUrl + "/v1/payments/" + paymentKey + "/cancel")
-					.header(HttpHeaders.AUTHORIZATION, "Basic " + encodedKey)
-					.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+					.uri("/v1/payments/{paymentKey}/cancel", paymentKey)
+					.header(TossPaymentAdapter.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
 					.bodyValue(request)
 					.retrieve()
 					.bodyToMono(TossRefundResponse.class)
-					.block();
+					.block());
 			
 			log.info("토스 결제 취소(환불) 성공 - transactionId: {}, cancelAmount: {}",
 					response.transactionId(), response.cancelAmount());
 			
 			return response;
 			
-		} catch (Exception e) {
+		} catch (TossApiException e) {
 			log.error("토스 결제 취소(환불) 실패 - paymentKey: {}, error: {}",
 					paymentKey, e.getMessage(), e);
-			throw new RuntimeException("토스 결제 취소(환불) 실패: " + e.getMessage(), e);
+			throw e;
 		}
 	}
 }
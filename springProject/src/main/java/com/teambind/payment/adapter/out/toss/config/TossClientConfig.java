@@ -0,0 +1,105 @@
+package com.teambind.payment.adapter.out.toss.config;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토스 결제 API 전용 HTTP 클라이언트
+ * - 요청마다 WebClient를 만들지 않고 전용 커넥션 풀(Reactor Netty)을 공유하여 keep-alive 연결 재사용
+ * - 인증 헤더(Basic base64(secretKey:))와 base-url은 생성 시 한 번만 계산
+ * - connect/read/write/response 타임아웃 적용 (response 타임아웃은 toss.payments.api.timeout)
+ * - 풀 지표는 reactor.netty.connection.provider.*{name=toss}로 노출
+ */
+@Configuration
+public class TossClientConfig {
+	
+	private static final String POOL_NAME = "toss";
+	
+	@Value("${toss.payments.api.base-url}")
+	private String baseUrl;
+	
+	@Value("${toss.payments.api.secret-key}")
+	private String secretKey;
+	
+	// 응답 대기 시간 (요청 전송 후 응답 헤더 수신까지)
+	@Value("${toss.payments.api.timeout:10000}")
+	private long responseTimeoutMs;
+	
+	@Value("${toss.payments.api.connect-timeout:3000}")
+	private int connectTimeoutMs;
+	
+	// 읽기/쓰기 유휴 시간 (응답 본문 수신 중 멈춤 감지)
+	@Value("${toss.payments.api.read-timeout:${toss.payments.api.timeout:10000}}")
+	private long readTimeoutMs;
+	
+	@Value("${toss.payments.api.pool.max-connections:50}")
+	private int maxConnections;
+	
+	// 커넥션이 모두 사용 중일 때 대기 가능한 요청 수와 대기 시간
+	@Value("${toss.payments.api.pool.pending-acquire-max-count:200}")
+	private int pendingAcquireMaxCount;
+	
+	@Value("${toss.payments.api.pool.pending-acquire-timeout-ms:3000}")
+	private long pendingAcquireTimeoutMs;
+	
+	// 서버/LB가 먼저 끊은 유휴 연결을 재사용하지 않도록 서버 keep-alive 시간보다 짧게 설정
+	@Value("${toss.payments.api.pool.max-idle-time-ms:20000}")
+	private long maxIdleTimeMs;
+	
+	@Value("${toss.payments.api.pool.max-life-time-ms:300000}")
+	private long maxLifeTimeMs;
+	
+	@Bean(destroyMethod = "dispose")
+	public ConnectionProvider tossConnectionProvider() {
+		return ConnectionProvider.builder(POOL_NAME)
+				.maxConnections(maxConnections)
+				.pendingAcquireMaxCount(pendingAcquireMaxCount)
+				.pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+				.maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+				.maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+				.evictInBackground(Duration.ofMillis(maxIdleTimeMs))
+				.metrics(true)
+				.build();
+	}
+	
+	@Bean
+	public WebClient tossWebClient(WebClient.Builder webClientBuilder, ConnectionProvider tossConnectionProvider) {
+		HttpClient httpClient = HttpClient.create(tossConnectionProvider)
+				.keepAlive(true)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+				.option(ChannelOption.SO_KEEPALIVE, true)
+				.responseTimeout(Duration.ofMillis(responseTimeoutMs))
+				// 요청 단위로 추가 (풀로 반환될 때 제거되므로 유휴 커넥션은 타임아웃으로 끊기지 않음)
+				.doOnRequest((request, connection) -> connection
+						.addHandlerLast(new ReadTimeoutHandler(readTimeoutMs, TimeUnit.MILLISECONDS))
+						.addHandlerLast(new WriteTimeoutHandler(readTimeoutMs, TimeUnit.MILLISECONDS)));
+		
+		// 공용 Builder(코덱/관측 설정)를 복제하여 다른 WebClient에 토스 설정이 섞이지 않도록 함
+		return webClientBuilder.clone()
+				.baseUrl(baseUrl)
+				.clientConnector(new ReactorClientHttpConnector(httpClient))
+				.defaultHeader(HttpHeaders.AUTHORIZATION, authorizationHeader(secretKey))
+				.defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.build();
+	}
+	
+	static String authorizationHeader(String secretKey) {
+		return "Basic " + Base64.getEncoder()
+				.encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,57 @@
+package com.teambind.payment.adapter.out.toss.config;
+
+import com.teambind.payment.adapter.out.toss.TossCallGuard;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.common.circuitbreaker.configuration.CircuitBreakerConfigCustomizer;
+import io.github.resilience4j.common.retry.configuration.RetryConfigCustomizer;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 토스 API 서킷 브레이커/벌크헤드/재시도 설정
+ * - 승인/조회(tossPayment)와 환불(tossRefund)은 인스턴스를 분리하여 한쪽 장애/폭주가 다른 쪽 호출을 막지 않음
+ * - 임계치/동시 호출 한도/재시도 횟수와 백오프는 resilience4j.circuitbreaker|bulkhead|retry.instances.* 설정
+ * - 상태/호출 지표는 resilience4j.circuitbreaker.*, resilience4j.bulkhead.*, resilience4j.retry.*{name}으로 노출
+ */
+@Configuration
+public class TossResilienceConfig {
+	
+	public static final String PAYMENT = "tossPayment";
+	public static final String REFUND = "tossRefund";
+	
+	@Bean
+	public CircuitBreakerConfigCustomizer tossPaymentCircuitBreakerCustomizer() {
+		return CircuitBreakerConfigCustomizer.of(PAYMENT, builder -> builder.recordException(TossCallGuard::isFailure));
+	}
+	
+	@Bean
+	public CircuitBreakerConfigCustomizer tossRefundCircuitBreakerCustomizer() {
+		return CircuitBreakerConfigCustomizer.of(REFUND, builder -> builder.recordException(TossCallGuard::isFailure));
+	}
+	
+	@Bean
+	public RetryConfigCustomizer tossPaymentRetryCustomizer() {
+		return RetryConfigCustomizer.of(PAYMENT, builder -> builder.retryOnException(TossCallGuard::isRetryable));
+	}
+	
+	@Bean
+	public RetryConfigCustomizer tossRefundRetryCustomizer() {
+		return RetryConfigCustomizer.of(REFUND, builder -> builder.retryOnException(TossCallGuard::isRetryable));
+	}
+	
+	@Bean
+	public TossCallGuard tossPaymentCallGuard(CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+	                                          RetryRegistry retryRegistry) {
+		return new TossCallGuard(circuitBreakerRegistry.circuitBreaker(PAYMENT), bulkheadRegistry.bulkhead(PAYMENT),
+				retryRegistry.retry(PAYMENT));
+	}
+	
+	@Bean
+	public TossCallGuard tossRefundCallGuard(CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+	                                         RetryRegistry retryRegistry) {
+		return new TossCallGuard(circuitBreakerRegistry.circuitBreaker(REFUND), bulkheadRegistry.bulkhead(REFUND),
+				retryRegistry.retry(REFUND));
+	}
+}
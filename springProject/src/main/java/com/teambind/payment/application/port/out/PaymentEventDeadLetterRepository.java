@@ -0,0 +1,24 @@
+package com.teambind.payment.application.port.out;
+
+import com.teambind.payment.domain.DeadLetterReplayFilter;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentEventDeadLetterRepository {
+	
+	// 최대 재시도 횟수를 소진한 FAILED 이벤트 ID (임대 중인 행 제외)
+	List<Long> findExhaustedEventIds(int maxRetryCount, int limit);
+	
+	// DLQ 테이블로 복사 후 원본 삭제 (단일 트랜잭션, 소진 상태가 유지된 행만)
+	int moveToDeadLetter(List<Long> eventIds, int maxRetryCount);
+	
+	// 재발행되지 않은 DLQ 항목 중 가장 큰 dlqId (재발행 범위 상한)
+	Optional<Long> findMaxReplayableDlqId();
+	
+	// PK 키셋 페이징: afterDlqId 이후부터 upToDlqId까지 조건에 맞는 재발행 대상 dlqId
+	List<Long> findReplayableDlqIds(DeadLetterReplayFilter filter, long afterDlqId, long upToDlqId, int limit);
+	
+	// 원래 event_id로 PENDING 상태로 되돌리고 재발행 시각 기록 (단일 트랜잭션, 이미 재발행된 항목은 건너뜀)
+	int replay(List<Long> dlqIds);
+}
@@ -1,7 +1,11 @@
 package com.teambind.payment.application.port.out;
 
+import com.teambind.payment.domain.EventType;
+import com.teambind.payment.domain.OutboxLease;
 import com.teambind.payment.domain.PaymentEvent;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +20,30 @@ public interface PaymentEventRepository {
 	// 발행 대기중인 이벤트 조회 (Outbox 패턴 - 배치 발행용)
 	List<PaymentEvent> findPendingEvents(int limit);
 	
+	// 발행 대기 이벤트 수 (백로그 모니터링용)
+	long countPendingEvents();
+	
+	// 같은 aggregate에 아직 발행되지 않은(PENDING/FAILED) 이벤트가 있는지
+	boolean hasUnpublishedEvents(String aggregateId);
+	
 	// 재시도 가능한 실패 이벤트 조회
 	List<PaymentEvent> findFailedEventsForRetry(int maxRetryCount, int limit);
+	
+	// 타입별 발행 대기 이벤트 선점 - 잠긴 행/임대 중인 행은 건너뛰고 선점한 행에 임대 설정 (자체 단기 트랜잭션)
+	// 같은 aggregate의 앞선 이벤트가 미발행이면 선점하지 않음 (두 선점 공통)
+	List<PaymentEvent> claimPendingEvents(EventType eventType, LocalDateTime createdBefore, OutboxLease lease, int limit);
+	
+	// 타입별 재발행 시각이 도래한 실패 이벤트 선점 - 잠긴 행/임대 중인 행은 건너뛰고 선점한 행에 임대 설정 (자체 단기 트랜잭션)
+	List<PaymentEvent> claimDueFailedEvents(EventType eventType, int maxRetryCount, OutboxLease lease, int limit);
+	
+	// 발행 완료 일괄 처리 (단일 UPDATE ... WHERE event_id IN (...), 임대 해제)
+	// 임대를 가진 선점(owner)의 아직 발행되지 않은 행만 갱신 - 임대가 만료되어 다른 워커가 재선점한 행은 건너뜀
+	int markAllAsPublished(List<Long> eventIds, String owner, LocalDateTime publishedAt);
+	
+	// 발행 실패 일괄 처리 (재시도 횟수 증가, 다음 재발행 시각 설정, 임대 해제) - owner/PUBLISHED 조건은 발행 완료와 동일
+	// 재발행 시각은 행마다 earliestAttemptAt 이후 jitter 범위 안에서 무작위로 부여
+	int markAllAsFailed(List<Long> eventIds, String owner, String errorMessage, LocalDateTime earliestAttemptAt, Duration jitter);
+	
+	// 발행하지 않고 임대만 해제 (owner가 가진 임대만)
+	int releaseAll(List<Long> eventIds, String owner);
 }
@@ -0,0 +1,20 @@
+package com.teambind.payment.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentEventRetentionRepository {
+	
+	// 보존 기간이 지난 PUBLISHED 이벤트 중 가장 큰 eventId (정리 범위 상한)
+	Optional<Long> findMaxPublishedEventIdBefore(LocalDateTime cutoff);
+	
+	// PK 키셋 페이징: afterEventId 이후부터 upToEventId까지 보존 기간이 지난 PUBLISHED 이벤트 ID
+	List<Long> findPublishedEventIdsBefore(LocalDateTime cutoff, long afterEventId, long upToEventId, int limit);
+	
+	// 보관 테이블로 복사 후 원본 삭제 (단일 트랜잭션)
+	int moveToArchive(List<Long> eventIds);
+	
+	// 원본 삭제만 수행 (보관 없이 정리)
+	int deleteAll(List<Long> eventIds);
+}
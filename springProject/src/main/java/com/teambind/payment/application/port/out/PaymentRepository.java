@@ -2,6 +2,8 @@ package com.teambind.payment.application.port.out;
 
 import com.teambind.payment.domain.Payment;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository {
@@ -9,12 +11,25 @@ public interface PaymentRepository {
 	// 결제 저장
 	Payment save(Payment payment);
 	
+	// 다건 저장 - 이미 같은 예약 ID의 결제가 있으면 건너뜀 (INSERT ... SELECT ... WHERE NOT EXISTS)
+	// 목록 안의 예약 ID는 서로 달라야 하며, 다른 키(payment_id/idempotency_key) 충돌은 예외로 실패
+	void saveAllIgnoringDuplicates(List<Payment> payments);
+	
 	// 결제 ID로 조회
 	Optional<Payment> findById(String paymentId);
 	
+	// 결제 ID로 조회 + 행 잠금 (트랜잭션 내에서만 사용, 승인 완료/취소 등 상태 전이 직렬화)
+	Optional<Payment> findByIdForUpdate(String paymentId);
+	
 	// 예약 ID로 조회
 	Optional<Payment> findByReservationId(String reservationId);
 	
+	// 예약 ID로 조회 + 행 잠금 (트랜잭션 내에서만 사용, 다른 노드의 동시 승인 시작 직렬화)
+	Optional<Payment> findByReservationIdForUpdate(String reservationId);
+	
 	// 멱등성 키로 조회 (중복 결제 방지)
 	Optional<Payment> findByIdempotencyKey(String idempotencyKey);
+	
+	// 지정 시각 이전에 승인을 시작한 CONFIRMING 결제 조회 (오래된 순)
+	List<Payment> findConfirmingStartedBefore(LocalDateTime startedBefore, int limit);
 }
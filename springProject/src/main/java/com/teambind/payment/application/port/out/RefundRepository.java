@@ -13,6 +13,9 @@ public interface RefundRepository {
 	// 환불 ID로 조회
 	Optional<Refund> findById(String refundId);
 	
+	// 토스 취소 결과가 확정되지 않은(APPROVED) 환불 시도 조회 - 결제당 최대 한 건 (결제 행 잠금으로 시작을 직렬화)
+	Optional<Refund> findInFlightByPaymentId(String paymentId);
+	
 	// 결제 ID로 환불 목록 조회 (한 결제에 여러 환불이 있을 수 있음)
 	List<Refund> findByPaymentId(String paymentId);
 }
@@ -5,6 +5,9 @@ import com.teambind.payment.adapter.out.toss.dto.TossPaymentConfirmResponse;
 
 public interface TossPaymentClient {
 	
-	// 토스 결제 승인 요청
-	TossPaymentConfirmResponse confirmPayment(TossPaymentConfirmRequest request);
+	// 토스 결제 승인 요청 - 재시도/헤지 요청도 같은 idempotencyKey로 보내 토스에서 한 번만 승인
+	TossPaymentConfirmResponse confirmPayment(TossPaymentConfirmRequest request, String idempotencyKey);
+	
+	// 토스 결제 조회 (승인 결과 미확정 결제 복구용)
+	TossPaymentConfirmResponse getPayment(String paymentKey);
 }
@@ -5,6 +5,6 @@ import com.teambind.payment.adapter.out.toss.dto.TossRefundResponse;
 
 public interface TossRefundClient {
 	
-	// 토스 결제 취소(환불) 요청
-	TossRefundResponse cancelPayment(String paymentKey, TossRefundRequest request);
+	// 토스 결제 취소(환불) 요청 - 재시도 요청도 같은 idempotencyKey로 보내 토스에서 한 번만 취소
+	TossRefundResponse cancelPayment(String paymentKey, TossRefundRequest request, String idempotencyKey);
 }
@@ -0,0 +1,58 @@
+package com.teambind.payment.application.service;
+
+import java.time.Duration;
+
+/**
+ * 백로그 적응형 폴링 정책
+ * - 배치가 가득 차면(백로그 존재) 즉시 재폴링하고 배치 크기를 최대치까지 2배씩 확장
+ * - 일부만 채워지면 배치 크기를 절반으로 줄이고 짧은 주기로 폴링
+ * - 비어 있으면 최소 배치 크기로 돌아가고 폴링 주기를 유휴 주기까지 2배씩 늘림
+ */
+public class AdaptivePollPolicy {
+	
+	private final int minBatchSize;
+	private final int maxBatchSize;
+	private final long busyDelayMs;
+	private final long idleDelayMs;
+	
+	private volatile int batchSize;
+	private volatile long delayMs;
+	
+	public AdaptivePollPolicy(int minBatchSize, int maxBatchSize, Duration busyDelay, Duration idleDelay) {
+		if (minBatchSize < 1 || maxBatchSize < minBatchSize) {
+			throw new IllegalArgumentException("배치 크기 범위가 올바르지 않습니다: " + minBatchSize + " ~ " + maxBatchSize);
+		}
+		if (busyDelay.isZero() || busyDelay.isNegative()) {
+			throw new IllegalArgumentException("폴링 주기는 0보다 커야 합니다: " + busyDelay);
+		}
+		
+		this.minBatchSize = minBatchSize;
+		this.maxBatchSize = maxBatchSize;
+		this.busyDelayMs = busyDelay.toMillis();
+		this.idleDelayMs = Math.max(busyDelay.toMillis(), idleDelay.toMillis());
+		this.batchSize = minBatchSize;
+		this.delayMs = busyDelayMs;
+	}
+	
+	// 폴링 결과(선점한 이벤트 수)에 따라 다음 배치 크기와 폴링 주기 결정
+	public synchronized void onPolled(int claimedCount) {
+		if (claimedCount >= batchSize) {
+			batchSize = (int) Math.min(maxBatchSize, batchSize * 2L);
+			delayMs = 0;
+		} else if (claimedCount > 0) {
+			batchSize = Math.max(minBatchSize, batchSize / 2);
+			delayMs = busyDelayMs;
+		} else {
+			batchSize = minBatchSize;
+			delayMs = Math.min(idleDelayMs, Math.max(busyDelayMs, delayMs * 2));
+		}
+	}
+	
+	public int batchSize() {
+		return batchSize;
+	}
+	
+	public Duration delay() {
+		return Duration.ofMillis(delayMs);
+	}
+}
@@ -0,0 +1,109 @@
+package com.teambind.payment.application.service;
+
+import java.time.Duration;
+import java.util.OptionalDouble;
+
+/**
+ * DB 포화 감지 백프레셔 정책 (EWMA + 히스테리시스)
+ * - 커넥션 풀 대기 시간과 결제 준비 지연을 지수 이동 평균으로 평활화하여 순간 스파이크에 반응하지 않음
+ * - 풀 대기/준비 지연이 중단 임계치를 넘거나 커넥션 대기 스레드가 쌓이면 소비 중단
+ * - 최소 중단 시간이 지나고 풀이 회복(대기 시간 ≤ 재개 임계치, 대기 스레드 없음)되면 소비 재개
+ * - 중단 중에는 준비 지연 표본이 들어오지 않으므로 재개 판단은 풀 지표만 사용하고, 재개 시 준비 지연 평균을 초기화
+ */
+public class BackpressurePolicy {
+	
+	public enum Transition {
+		NONE, PAUSE, RESUME
+	}
+	
+	private final double alpha;
+	private final double pausePoolWaitMs;
+	private final double resumePoolWaitMs;
+	private final double pausePrepareLatencyMs;
+	private final int pausePendingThreads;
+	private final long minPauseMs;
+	
+	private double poolWaitEwma = Double.NaN;
+	private double prepareLatencyEwma = Double.NaN;
+	private volatile int pendingThreads;
+	private volatile boolean paused;
+	private volatile long pausedAtMs;
+	
+	public BackpressurePolicy(double alpha,
+	                          Duration pausePoolWait,
+	                          Duration resumePoolWait,
+	                          Duration pausePrepareLatency,
+	                          int pausePendingThreads,
+	                          Duration minPause) {
+		if (alpha <= 0 || alpha > 1) {
+			throw new IllegalArgumentException("EWMA 가중치는 0 초과 1 이하여야 합니다: " + alpha);
+		}
+		if (resumePoolWait.compareTo(pausePoolWait) > 0) {
+			throw new IllegalArgumentException("재개 임계치는 중단 임계치 이하여야 합니다: " + resumePoolWait + " > " + pausePoolWait);
+		}
+		if (pausePendingThreads < 1) {
+			throw new IllegalArgumentException("대기 스레드 임계치는 1 이상이어야 합니다: " + pausePendingThreads);
+		}
+		
+		this.alpha = alpha;
+		this.pausePoolWaitMs = pausePoolWait.toMillis();
+		this.resumePoolWaitMs = resumePoolWait.toMillis();
+		this.pausePrepareLatencyMs = pausePrepareLatency.toMillis();
+		this.pausePendingThreads = pausePendingThreads;
+		this.minPauseMs = minPause.toMillis();
+	}
+	
+	// 측정 주기마다 호출 - 풀 대기 시간(구간 평균), 커넥션 대기 스레드 수, 결제 준비 지연(구간 평균, 처리 건이 없으면 empty)
+	public synchronized Transition evaluate(double poolWaitMs, int pendingThreads, OptionalDouble prepareLatencyMs, long nowMs) {
+		poolWaitEwma = smooth(poolWaitEwma, poolWaitMs);
+		prepareLatencyMs.ifPresent(latency -> prepareLatencyEwma = smooth(prepareLatencyEwma, latency));
+		this.pendingThreads = pendingThreads;
+		
+		if (!paused) {
+			boolean saturated = poolWaitEwma >= pausePoolWaitMs
+					|| prepareLatencyEwma >= pausePrepareLatencyMs
+					|| pendingThreads >= pausePendingThreads;
+			if (saturated) {
+				paused = true;
+				pausedAtMs = nowMs;
+				return Transition.PAUSE;
+			}
+			return Transition.NONE;
+		}
+		
+		boolean recovered = nowMs - pausedAtMs >= minPauseMs
+				&& poolWaitEwma <= resumePoolWaitMs
+				&& pendingThreads == 0;
+		if (recovered) {
+			paused = false;
+			prepareLatencyEwma = Double.NaN;
+			return Transition.RESUME;
+		}
+		return Transition.NONE;
+	}
+	
+	public boolean isPaused() {
+		return paused;
+	}
+	
+	public long pausedAtMs() {
+		return pausedAtMs;
+	}
+	
+	public int pendingThreads() {
+		return pendingThreads;
+	}
+	
+	public synchronized double poolWaitMs() {
+		return Double.isNaN(poolWaitEwma) ? 0 : poolWaitEwma;
+	}
+	
+	public synchronized double prepareLatencyMs() {
+		return Double.isNaN(prepareLatencyEwma) ? 0 : prepareLatencyEwma;
+	}
+	
+	// 첫 표본은 그대로 사용
+	private double smooth(double current, double sample) {
+		return Double.isNaN(current) ? sample : alpha * sample + (1 - alpha) * current;
+	}
+}
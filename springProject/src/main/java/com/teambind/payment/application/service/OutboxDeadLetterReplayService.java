@@ -0,0 +1,167 @@
+package com.teambind.payment.application.service;
+
+import com.teambind.payment.application.port.out.PaymentEventDeadLetterRepository;
+import com.teambind.payment.domain.DeadLetterReplayFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+
+/**
+ * DLQ 재발행 서비스
+ * - 조건에 맞는 DLQ 항목을 원래 event_id로 Outbox(PENDING)에 되돌리고, 이후 발행은 스케줄러 스윕이 담당
+ * - 초당 재발행 건수를 제한하여 재발행이 DB/Kafka를 압도하지 않음 (노드 단위 제한)
+ * - 노드당 한 번에 하나의 재발행만 백그라운드로 실행, 중복 재발행은 DLQ 행 잠금 + replayed_at으로 방지
+ */
+@Service
+@Slf4j
+public class OutboxDeadLetterReplayService {
+	
+	private final PaymentEventDeadLetterRepository deadLetterRepository;
+	private final MeterRegistry meterRegistry;
+	private final int ratePerSecond;
+	private final int chunkSize;
+	
+	private final ExecutorService replayExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "outbox-dlq-replay");
+		thread.setDaemon(true);
+		return thread;
+	});
+	
+	// 현재(또는 마지막) 재발행 진행 상태
+	private final AtomicReference<ReplayStatus> status = new AtomicReference<>();
+	
+	public OutboxDeadLetterReplayService(PaymentEventDeadLetterRepository deadLetterRepository,
+	                                     MeterRegistry meterRegistry,
+	                                     @Value("${outbox.dlq.replay.rate-per-second:50}") int ratePerSecond,
+	                                     @Value("${outbox.dlq.replay.chunk-size:50}") int chunkSize) {
+		if (ratePerSecond < 1 || chunkSize < 1) {
+			throw new IllegalArgumentException("재발행 속도와 청크 크기는 1 이상이어야 합니다: " + ratePerSecond + ", " + chunkSize);
+		}
+		
+		this.deadLetterRepository = deadLetterRepository;
+		this.meterRegistry = meterRegistry;
+		this.ratePerSecond = ratePerSecond;
+		// 청크 하나가 1초 허용량을 넘지 않도록 제한
+		this.chunkSize = Math.min(chunkSize, ratePerSecond);
+	}
+	
+	// 백그라운드 재발행 시작 - 이미 실행 중이면 empty
+	public Optional<ReplayStatus> startReplay(DeadLetterReplayFilter filter) {
+		ReplayStatus current = status.get();
+		if (current != null && current.running()) {
+			return Optional.empty();
+		}
+		
+		ReplayStatus started = ReplayStatus.started(filter);
+		if (!status.compareAndSet(current, started)) {
+			return Optional.empty();
+		}
+		
+		replayExecutor.execute(() -> {
+			try {
+				replay(filter, count -> status.updateAndGet(replaying -> replaying.progressed(count)));
+			} catch (Exception e) {
+				log.error("DLQ 재발행 중 오류 발생 - filter: {}", filter, e);
+			} finally {
+				status.updateAndGet(ReplayStatus::finished);
+			}
+		});
+		return Optional.of(started);
+	}
+	
+	public Optional<ReplayStatus> currentStatus() {
+		return Optional.ofNullable(status.get());
+	}
+	
+	// 키셋 청크 단위 재발행 - 청크마다 누적 건수가 허용 속도를 넘지 않도록 대기
+	public long replay(DeadLetterReplayFilter filter, LongConsumer onChunkReplayed) {
+		// 실행 시점의 상한을 고정하여 재발행 중 다시 DLQ로 들어온 항목은 재처리하지 않음
+		Optional<Long> upToDlqId = deadLetterRepository.findMaxReplayableDlqId();
+		if (upToDlqId.isEmpty()) {
+			return 0;
+		}
+		
+		long startedAt = System.nanoTime();
+		long replayed = 0;
+		long afterDlqId = 0;
+		while (replayed < filter.limit()) {
+			int limit = (int) Math.min(chunkSize, filter.limit() - replayed);
+			List<Long> dlqIds = deadLetterRepository.findReplayableDlqIds(filter, afterDlqId, upToDlqId.get(), limit);
+			if (dlqIds.isEmpty()) {
+				break;
+			}
+			
+			int affected = deadLetterRepository.replay(dlqIds);
+			replayed += affected;
+			afterDlqId = dlqIds.get(dlqIds.size() - 1);
+			onChunkReplayed.accept(affected);
+			Counter.builder("outbox.dlq.replayed")
+					.description("DLQ에서 Outbox로 재발행된 이벤트 수")
+					.register(meterRegistry)
+					.increment(affected);
+			
+			if (dlqIds.size() < limit || replayed >= filter.limit() || !throttle(startedAt, replayed)) {
+				break;
+			}
+		}
+		
+		log.info("DLQ 재발행 완료 - filter: {}, replayed: {}, elapsed: {}ms",
+				filter, replayed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+		return replayed;
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		replayExecutor.shutdownNow();
+	}
+	
+	// 누적 재발행 건수 기준으로 허용 속도보다 앞서 있으면 그만큼 대기
+	private boolean throttle(long startedAt, long replayed) {
+		long expectedMs = replayed * 1000 / ratePerSecond;
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+		if (expectedMs <= elapsedMs) {
+			return true;
+		}
+		
+		try {
+			Thread.sleep(expectedMs - elapsedMs);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("DLQ 재발행 중단 - 인터럽트 발생");
+			return false;
+		}
+	}
+	
+	public record ReplayStatus(
+			DeadLetterReplayFilter filter,
+			boolean running,
+			long replayedCount,
+			LocalDateTime startedAt,
+			LocalDateTime finishedAt
+	) {
+		static ReplayStatus started(DeadLetterReplayFilter filter) {
+			return new ReplayStatus(filter, true, 0, LocalDateTime.now(), null);
+		}
+		
+		ReplayStatus progressed(long replayedInChunk) {
+			return new ReplayStatus(filter, running, replayedCount + replayedInChunk, startedAt, finishedAt);
+		}
+		
+		ReplayStatus finished() {
+			return new ReplayStatus(filter, false, replayedCount, startedAt, LocalDateTime.now());
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.teambind.payment.application.service;
+
+import com.teambind.payment.application.port.out.PaymentEventDeadLetterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Outbox DLQ 이동 스케줄러
+ * - 최대 재시도 횟수를 소진한 FAILED 이벤트를 실패 이력과 함께 payment_events_dlq로 이동
+ * - 핫 테이블의 상태 인덱스에 영구 FAILED 행이 쌓이지 않도록 청크 단위 트랜잭션으로 정리
+ * - ShedLock으로 클러스터 내 단일 노드에서만 실행
+ */
+@Service
+@Slf4j
+public class OutboxDeadLetterScheduler {
+	
+	private final PaymentEventDeadLetterRepository deadLetterRepository;
+	private final MeterRegistry meterRegistry;
+	private final int chunkSize;
+	
+	public OutboxDeadLetterScheduler(PaymentEventDeadLetterRepository deadLetterRepository,
+	                                 MeterRegistry meterRegistry,
+	                                 @Value("${outbox.dlq.chunk-size:500}") int chunkSize) {
+		this.deadLetterRepository = deadLetterRepository;
+		this.meterRegistry = meterRegistry;
+		this.chunkSize = chunkSize;
+	}
+	
+	@Scheduled(fixedDelayString = "${outbox.dlq.move-interval-ms:60000}")
+	@SchedulerLock(name = "outboxDeadLetter", lockAtMostFor = "10m", lockAtLeastFor = "10s")
+	public void moveExhaustedEvents() {
+		try {
+			long moved = moveExhausted();
+			if (moved > 0) {
+				log.warn("재시도 소진 이벤트 DLQ 이동 - count: {}", moved);
+			}
+		} catch (Exception e) {
+			log.error("재시도 소진 이벤트 DLQ 이동 중 오류 발생", e);
+		}
+	}
+	
+	public long moveExhausted() {
+		long moved = 0;
+		while (true) {
+			List<Long> eventIds = deadLetterRepository.findExhaustedEventIds(OutboxEventScheduler.MAX_RETRY_COUNT, chunkSize);
+			if (eventIds.isEmpty()) {
+				break;
+			}
+			
+			int affected = deadLetterRepository.moveToDeadLetter(eventIds, OutboxEventScheduler.MAX_RETRY_COUNT);
+			moved += affected;
+			Counter.builder("outbox.dlq.moved")
+					.description("재시도 소진으로 DLQ에 이동된 이벤트 수")
+					.register(meterRegistry)
+					.increment(affected);
+			
+			// 덜 찬 청크 또는 잠금 경합으로 하나도 옮기지 못한 경우 다음 주기로 미룸
+			if (eventIds.size() < chunkSize || affected == 0) {
+				break;
+			}
+		}
+		return moved;
+	}
+}
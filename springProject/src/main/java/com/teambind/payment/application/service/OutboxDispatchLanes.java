@@ -0,0 +1,160 @@
+package com.teambind.payment.application.service;
+
+import com.teambind.payment.domain.PaymentEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * aggregateId 해시 기반 Outbox 발행 레인
+ * - 레인마다 단일 스레드 실행기를 두어 같은 aggregate의 이벤트는 항상 같은 스레드에서 FIFO로 처리
+ * - 서로 다른 레인은 병렬로 실행되어 결제 건 간 순서 제약 없이 처리량 확장
+ * - 레인 대기열은 EventType 우선순위 순으로 꺼내고, 같은 순위끼리는 제출 순서(FIFO) 유지
+ */
+@Component
+@Slf4j
+public class OutboxDispatchLanes {
+	
+	private final List<ThreadPoolExecutor> laneExecutors;
+	private final int laneQueueCapacity;
+	private final OutboxPriorityPolicy priorityPolicy;
+	
+	// 같은 순위 작업의 FIFO 보장용 제출 순번
+	private final AtomicLong submitSequence = new AtomicLong();
+	
+	public OutboxDispatchLanes(@Value("${outbox.dispatch.lanes:4}") int laneCount,
+	                           @Value("${outbox.dispatch.lane-queue-capacity:10000}") int laneQueueCapacity,
+	                           OutboxPriorityPolicy priorityPolicy) {
+		if (laneCount < 1) {
+			throw new IllegalArgumentException("레인 수는 1 이상이어야 합니다: " + laneCount);
+		}
+		
+		this.laneQueueCapacity = laneQueueCapacity;
+		this.priorityPolicy = priorityPolicy;
+		this.laneExecutors = new ArrayList<>(laneCount);
+		for (int lane = 0; lane < laneCount; lane++) {
+			laneExecutors.add(newLaneExecutor(lane));
+		}
+	}
+	
+	// 같은 aggregateId는 항상 같은 레인으로 매핑
+	public int laneOf(String aggregateId) {
+		return Math.floorMod(aggregateId.hashCode(), laneExecutors.size());
+	}
+	
+	// 이벤트를 레인별로 나눠 제출 - 같은 순위끼리는 호출 스레드의 제출 순서를 따름
+	// 대상 레인 중 하나라도 포화면 어느 레인에도 제출하지 않고 RejectedExecutionException (배치 전체를 스윕에 위임)
+	// 용량 확인과 제출을 한 번에 수행하여 동시 제출자 사이에서도 확인 결과가 유지됨 (레인 스레드는 대기열을 줄이기만 함)
+	public synchronized <T> CompletableFuture<List<T>> submit(List<PaymentEvent> events, Function<List<PaymentEvent>, List<T>> laneWork) {
+		List<List<PaymentEvent>> eventsByLane = new ArrayList<>(laneExecutors.size());
+		for (int lane = 0; lane < laneExecutors.size(); lane++) {
+			eventsByLane.add(new ArrayList<>());
+		}
+		for (PaymentEvent event : events) {
+			eventsByLane.get(laneOf(event.getAggregateId())).add(event);
+		}
+		
+		for (int lane = 0; lane < laneExecutors.size(); lane++) {
+			if (!eventsByLane.get(lane).isEmpty()) {
+				ensureCapacity(lane);
+			}
+		}
+		
+		List<CompletableFuture<List<T>>> laneFutures = new ArrayList<>();
+		for (int lane = 0; lane < laneExecutors.size(); lane++) {
+			List<PaymentEvent> laneEvents = eventsByLane.get(lane);
+			if (!laneEvents.isEmpty()) {
+				laneFutures.add(submitToLane(lane, laneEvents, laneWork));
+			}
+		}
+		
+		return CompletableFuture.allOf(laneFutures.toArray(CompletableFuture[]::new))
+				.thenApply(ignored -> laneFutures.stream()
+						.flatMap(future -> future.join().stream())
+						.toList());
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		laneExecutors.forEach(ThreadPoolExecutor::shutdown);
+		for (ThreadPoolExecutor executor : laneExecutors) {
+			try {
+				if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+					log.warn("Outbox 발행 레인 종료 대기 시간 초과 - 미처리 이벤트는 스케줄러 스윕이 처리");
+					executor.shutdownNow();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				executor.shutdownNow();
+			}
+		}
+	}
+	
+	// 우선순위 큐는 용량 제한이 없으므로 제출 전에 대기열 크기를 확인
+	// 대기열 포화 시 RejectedExecutionException → 호출자가 스케줄러 스윕으로 위임
+	private void ensureCapacity(int lane) {
+		if (laneExecutors.get(lane).getQueue().size() >= laneQueueCapacity) {
+			throw new RejectedExecutionException("Outbox 발행 레인 대기열 포화 - lane: " + lane);
+		}
+	}
+	
+	private <T> CompletableFuture<List<T>> submitToLane(int lane, List<PaymentEvent> laneEvents,
+	                                                     Function<List<PaymentEvent>, List<T>> laneWork) {
+		ThreadPoolExecutor executor = laneExecutors.get(lane);
+		CompletableFuture<List<T>> future = new CompletableFuture<>();
+		executor.execute(new LaneTask(
+				priorityPolicy.rankOf(laneEvents),
+				submitSequence.getAndIncrement(),
+				() -> {
+					try {
+						future.complete(laneWork.apply(laneEvents));
+					} catch (Throwable e) {
+						future.completeExceptionally(e);
+					}
+				}
+		));
+		return future;
+	}
+	
+	private ThreadPoolExecutor newLaneExecutor(int lane) {
+		AtomicInteger threadCount = new AtomicInteger();
+		return new ThreadPoolExecutor(
+				1, 1,
+				0L, TimeUnit.MILLISECONDS,
+				new PriorityBlockingQueue<>(),
+				runnable -> {
+					Thread thread = new Thread(runnable, "outbox-lane-" + lane + "-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				},
+				new ThreadPoolExecutor.AbortPolicy()
+		);
+	}
+	
+	// 순위가 높을수록(값이 작을수록), 같은 순위면 먼저 제출될수록 먼저 실행
+	private record LaneTask(int rank, long sequence, Runnable work) implements Runnable, Comparable<LaneTask> {
+		
+		@Override
+		public void run() {
+			work.run();
+		}
+		
+		@Override
+		public int compareTo(LaneTask other) {
+			int byRank = Integer.compare(rank, other.rank);
+			return byRank != 0 ? byRank : Long.compare(sequence, other.sequence);
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.teambind.payment.application.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxDispatchPath {
+	FAST("fast"),       // 커밋 직후 즉시 발행
+	SWEEP("sweep"),     // 스케줄러의 PENDING 안전망 스윕
+	RETRY("retry");     // 스케줄러의 FAILED 재시도
+	
+	// 메트릭 태그 값
+	private final String tag;
+}
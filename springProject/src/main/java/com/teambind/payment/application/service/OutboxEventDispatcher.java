@@ -0,0 +1,295 @@
+package com.teambind.payment.application.service;
+
+import com.teambind.payment.application.port.out.PaymentEventRepository;
+import com.teambind.payment.domain.OutboxLease;
+import com.teambind.payment.domain.PaymentEvent;
+import com.teambind.payment.domain.RetryBackoff;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Outbox 이벤트 배치 발행기
+ * - aggregateId 해시로 레인을 나눠 병렬 전송, 레인 안에서는 같은 aggregate의 이벤트를 앞선 ACK 이후에 전송
+ * - 서로 다른 aggregate는 레인 안에서도 한 번에 전송한 뒤 ACK를 모아 수집 (파이프라이닝)
+ * - 결과는 PUBLISHED / FAILED 별 단일 UPDATE로 반영 (Producer I/O 스레드에서 DB 접근 없음)
+ * - 결과 반영은 이벤트를 선점한 임대(owner)가 유지된 행에만 적용 - 임대 만료 후 재선점된 행의 결과를 덮어쓰지 않음
+ * - 선행 이벤트 실패로 전송하지 않은 이벤트는 재시도 횟수/실패 이력을 바꾸지 않고 임대만 해제 (선점 쿼리가 선행 이벤트 발행 후에 다시 선점)
+ */
+@Service
+@Slf4j
+public class OutboxEventDispatcher {
+	
+	private static final String ACK_TIMEOUT_MESSAGE = "Kafka ACK 대기 시간 초과";
+	private static final String UNKNOWN_ERROR_MESSAGE = "알 수 없는 발행 오류";
+	
+	private final PaymentEventRepository paymentEventRepository;
+	private final PaymentEventPublisher paymentEventPublisher;
+	private final OutboxDispatchLanes dispatchLanes;
+	private final Executor outboxDispatchExecutor;
+	private final TransactionOperations transactionOperations;
+	private final MeterRegistry meterRegistry;
+	private final long ackTimeoutMs;
+	
+	public OutboxEventDispatcher(PaymentEventRepository paymentEventRepository,
+	                             PaymentEventPublisher paymentEventPublisher,
+	                             OutboxDispatchLanes dispatchLanes,
+	                             @Qualifier("outboxDispatchExecutor") Executor outboxDispatchExecutor,
+	                             TransactionOperations transactionOperations,
+	                             MeterRegistry meterRegistry,
+	                             @Value("${outbox.dispatch.ack-timeout-ms:10000}") long ackTimeoutMs) {
+		this.paymentEventRepository = paymentEventRepository;
+		this.paymentEventPublisher = paymentEventPublisher;
+		this.dispatchLanes = dispatchLanes;
+		this.outboxDispatchExecutor = outboxDispatchExecutor;
+		this.transactionOperations = transactionOperations;
+		this.meterRegistry = meterRegistry;
+		this.ackTimeoutMs = ackTimeoutMs;
+	}
+	
+	// 호출 스레드에서 레인 처리 완료까지 대기 후 결과 반영 (스케줄러 스윕/재시도)
+	public DispatchResult dispatch(List<PaymentEvent> events, OutboxLease lease, OutboxDispatchPath path) {
+		if (events.isEmpty()) {
+			return DispatchResult.EMPTY;
+		}
+		
+		long startedAt = System.nanoTime();
+		List<EventOutcome> outcomes = dispatchLanes.submit(events, this::sendInOrder).join();
+		return applyOutcomes(outcomes, lease, path, startedAt);
+	}
+	
+	// 레인 제출까지만 호출 스레드에서 수행 - 커밋 순서대로 레인 대기열에 들어가 같은 aggregate의 순서 보장 (Fast Path)
+	public CompletableFuture<DispatchResult> dispatchAsync(List<PaymentEvent> events, OutboxLease lease, OutboxDispatchPath path) {
+		if (events.isEmpty()) {
+			return CompletableFuture.completedFuture(DispatchResult.EMPTY);
+		}
+		
+		long startedAt = System.nanoTime();
+		return dispatchLanes.submit(events, this::sendInOrder)
+				.thenApplyAsync(outcomes -> applyOutcomes(outcomes, lease, path, startedAt), outboxDispatchExecutor);
+	}
+	
+	// 레인 내부 전송 - aggregate별 선두 이벤트를 한 번에 보내고, ACK 성공한 aggregate만 다음 이벤트 전송
+	private List<EventOutcome> sendInOrder(List<PaymentEvent> laneEvents) {
+		List<PaymentEvent> orderedEvents = laneEvents.stream()
+				.sorted(Comparator.comparing(PaymentEvent::getEventId, Comparator.nullsLast(Comparator.naturalOrder())))
+				.toList();
+		if (paymentEventPublisher.isTransactional()) {
+			return sendInTransaction(orderedEvents);
+		}
+		
+		Map<String, Deque<PaymentEvent>> pendingByAggregate = new LinkedHashMap<>();
+		orderedEvents.forEach(event -> pendingByAggregate
+				.computeIfAbsent(event.getAggregateId(), key -> new ArrayDeque<>())
+				.add(event));
+		
+		List<EventOutcome> outcomes = new ArrayList<>(laneEvents.size());
+		while (!pendingByAggregate.isEmpty()) {
+			Map<PaymentEvent, CompletableFuture<?>> inFlight = new LinkedHashMap<>();
+			for (Deque<PaymentEvent> pending : pendingByAggregate.values()) {
+				PaymentEvent head = pending.poll();
+				inFlight.put(head, paymentEventPublisher.sendEventToKafka(head));
+			}
+			
+			awaitAcks(inFlight.values());
+			
+			inFlight.forEach((event, future) -> {
+				if (future.isDone() && !future.isCompletedExceptionally()) {
+					outcomes.add(EventOutcome.published(event));
+					return;
+				}
+				
+				String errorMessage = resolveErrorMessage(future);
+				log.error("Kafka 발행 실패 - eventId: {}, type: {}, error: {}",
+						event.getEventId(), event.getEventType(), errorMessage);
+				outcomes.add(EventOutcome.failed(event, errorMessage));
+				
+				// 순서 보장: 실패한 이벤트 뒤의 같은 aggregate 이벤트는 전송하지 않음 (선행 이벤트 발행 후 다시 선점)
+				Deque<PaymentEvent> blocked = pendingByAggregate.remove(event.getAggregateId());
+				blocked.forEach(next -> outcomes.add(EventOutcome.blockedBy(next, event)));
+			});
+			pendingByAggregate.values().removeIf(Deque::isEmpty);
+		}
+		return outcomes;
+	}
+	
+	// 트랜잭션 모드: 레인 배치 전체를 한 트랜잭션으로 커밋 (파티션 내 순서는 멱등 프로듀서가 보장)
+	// 중단된 배치는 모든 이벤트를 전송했으나 read_committed 컨슈머에 보이지 않으므로 전체를 FAILED 처리하여 재시도
+	private List<EventOutcome> sendInTransaction(List<PaymentEvent> orderedEvents) {
+		try {
+			paymentEventPublisher.sendEventsInTransaction(orderedEvents);
+			return orderedEvents.stream()
+					.map(EventOutcome::published)
+					.toList();
+		} catch (Exception e) {
+			String errorMessage = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+			log.error("Kafka 트랜잭션 발행 실패 - events: {}, error: {}", orderedEvents.size(), errorMessage);
+			
+			return orderedEvents.stream()
+					.map(event -> EventOutcome.failed(event, errorMessage))
+					.toList();
+		}
+	}
+	
+	private DispatchResult applyOutcomes(List<EventOutcome> outcomes, OutboxLease lease, OutboxDispatchPath path, long startedAt) {
+		LocalDateTime now = LocalDateTime.now();
+		List<Long> publishedIds = new ArrayList<>();
+		List<Long> blockedIds = new ArrayList<>();
+		Map<FailureKey, FailureGroup> groupByKey = new HashMap<>();
+		Map<FailureGroup, List<Long>> failedIdsByGroup = new LinkedHashMap<>();
+		
+		for (EventOutcome outcome : outcomes) {
+			PaymentEvent event = outcome.event();
+			if (outcome.published()) {
+				publishedIds.add(event.getEventId());
+				continue;
+			}
+			
+			// 전송하지 않은 보류 이벤트는 시도로 세지 않음 - 선행 이벤트가 발행될 때까지 선점 쿼리가 제외하므로 임대만 해제
+			if (outcome.blockedBy() != null) {
+				blockedIds.add(event.getEventId());
+				continue;
+			}
+			
+			FailureGroup group = groupByKey.computeIfAbsent(
+					new FailureKey(outcome.errorMessage(), event.getRetryCount() + 1),
+					key -> new FailureGroup(key.errorMessage(),
+							now.plus(RetryBackoff.fixedDelayFor(key.retryCount())),
+							RetryBackoff.jitterWindowFor(key.retryCount())));
+			failedIdsByGroup.computeIfAbsent(group, key -> new ArrayList<>()).add(event.getEventId());
+		}
+		
+		// 결과 일괄 반영 (실패는 에러/재시도 횟수별로 묶고, 지터는 행마다 DB에서 부여)
+		// 레인 완료 순서와 무관하게 eventId 오름차순으로 갱신하여 동시 UPDATE 간 락 순서 고정
+		publishedIds.sort(Comparator.naturalOrder());
+		blockedIds.sort(Comparator.naturalOrder());
+		failedIdsByGroup.values().forEach(eventIds -> eventIds.sort(Comparator.naturalOrder()));
+		// 전송이 끝난 뒤 단기 트랜잭션 하나로 반영 (Kafka I/O 동안 DB 커넥션을 잡지 않음)
+		transactionOperations.executeWithoutResult(status -> {
+			paymentEventRepository.markAllAsPublished(publishedIds, lease.owner(), now);
+			failedIdsByGroup.forEach((group, eventIds) ->
+					paymentEventRepository.markAllAsFailed(eventIds, lease.owner(), group.errorMessage(),
+							group.earliestAttemptAt(), group.jitter()));
+			paymentEventRepository.releaseAll(blockedIds, lease.owner());
+		});
+		
+		int failedCount = outcomes.size() - publishedIds.size();
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+		recordMetrics(path, publishedIds.size(), failedCount, elapsed);
+		
+		DispatchResult result = new DispatchResult(publishedIds.size(), failedCount, elapsed);
+		log.info("Outbox 배치 발행 완료 - path: {}, total: {}, published: {}, failed: {}, elapsed: {}ms, throughput: {} events/s",
+				path.getTag(), outcomes.size(), result.publishedCount(), result.failedCount(),
+				elapsed.toMillis(), String.format("%.1f", result.throughputPerSecond()));
+		
+		return result;
+	}
+	
+	// 경로(fast/sweep/retry)별 발행량 - Fast Path 비율 모니터링용
+	private void recordMetrics(OutboxDispatchPath path, int publishedCount, int failedCount, Duration elapsed) {
+		Timer.builder("outbox.dispatch.batch")
+				.description("Outbox 배치 발행 소요 시간 (전송 + ACK 수집 + 상태 반영)")
+				.tag("path", path.getTag())
+				.register(meterRegistry)
+				.record(elapsed);
+		Counter.builder("outbox.dispatch.events")
+				.tag("path", path.getTag())
+				.tag("result", "published")
+				.register(meterRegistry)
+				.increment(publishedCount);
+		Counter.builder("outbox.dispatch.events")
+				.tag("path", path.getTag())
+				.tag("result", "failed")
+				.register(meterRegistry)
+				.increment(failedCount);
+	}
+	
+	private void awaitAcks(Collection<CompletableFuture<?>> futures) {
+		try {
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+					.get(ackTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			log.warn("Kafka ACK 대기 시간 초과 - timeoutMs: {}", ackTimeoutMs);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("Kafka ACK 대기 중 인터럽트 발생");
+		} catch (ExecutionException e) {
+			// 개별 실패는 이벤트별 future에서 확인
+		}
+	}
+	
+	private String resolveErrorMessage(CompletableFuture<?> future) {
+		if (!future.isDone()) {
+			return ACK_TIMEOUT_MESSAGE;
+		}
+		
+		try {
+			future.join();
+			return UNKNOWN_ERROR_MESSAGE;
+		} catch (CompletionException | CancellationException e) {
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+		}
+	}
+	
+	private record EventOutcome(PaymentEvent event, boolean published, String errorMessage, PaymentEvent blockedBy) {
+		
+		static EventOutcome published(PaymentEvent event) {
+			return new EventOutcome(event, true, null, null);
+		}
+		
+		static EventOutcome failed(PaymentEvent event, String errorMessage) {
+			return new EventOutcome(event, false, errorMessage, null);
+		}
+		
+		static EventOutcome blockedBy(PaymentEvent event, PaymentEvent failedEvent) {
+			return new EventOutcome(event, false, null, failedEvent);
+		}
+	}
+	
+	private record FailureKey(String errorMessage, int retryCount) {
+	}
+	
+	private record FailureGroup(String errorMessage, LocalDateTime earliestAttemptAt, Duration jitter) {
+	}
+	
+	public record DispatchResult(int publishedCount, int failedCount, Duration elapsed) {
+		
+		static final DispatchResult EMPTY = new DispatchResult(0, 0, Duration.ZERO);
+		
+		public int totalCount() {
+			return publishedCount + failedCount;
+		}
+		
+		public double throughputPerSecond() {
+			if (elapsed.isZero()) {
+				return 0;
+			}
+			return totalCount() * 1_000_000_000.0 / elapsed.toNanos();
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package com.teambind.payment.application.service;
+
+import com.teambind.payment.domain.OutboxLease;
+import com.teambind.payment.domain.PaymentEvent;
+
+/**
+ * Outbox 이벤트가 비즈니스 트랜잭션 내에서 저장되었음을 알리는 애플리케이션 이벤트
+ * - 커밋 이후 OutboxImmediateDispatchListener가 즉시 발행 (Fast Path)
+ */
+public record OutboxEventSavedEvent(
+		// 저장된 Outbox 이벤트
+		PaymentEvent paymentEvent,
+		// 저장과 함께 기록한 즉시 발행 임대 - 결과 반영 시 소유 확인
+		OutboxLease lease
+) {
+}
@@ -1,80 +1,95 @@
 package com.teambind.payment.application.service;
 
 import com.teambind.payment.application.port.out.PaymentEventRepository;
+import com.teambind.payment.domain.OutboxLease;
 import com.teambind.payment.domain.PaymentEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * Outbox 안전망 폴링 작업
+ * - 실행 주기와 배치 크기는 OutboxPollingConfig가 백로그에 따라 조정 (AdaptivePollPolicy)
+ * - 배치는 EventType 우선순위/할당량에 따라 타입별로 나눠 선점 (OutboxPriorityPolicy)
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OutboxEventScheduler {
 	
-	private static final int BATCH_SIZE = 100;
-	private static final int MAX_RETRY_COUNT = 5;
+	// 최대 재시도 횟수 - 소진한 이벤트는 OutboxDeadLetterScheduler가 DLQ로 이동
+	static final int MAX_RETRY_COUNT = 5;
+	
 	private final PaymentEventRepository paymentEventRepository;
-	private final PaymentEventPublisher paymentEventPublisher;
+	private final OutboxEventDispatcher outboxEventDispatcher;
+	private final OutboxPriorityPolicy outboxPriorityPolicy;
+	
+	// 즉시 발행(Fast Path) 이벤트는 저장 시 잡은 임대로 제외되며, 유예 시간은 갓 저장된 PENDING을 스윕 대상에서 한 번 더 뺌
+	@Value("${outbox.sweep.grace-period-ms:10000}")
+	private long sweepGracePeriodMs;
+	
+	// 선점 임대 시간 - 배치 발행(전송 + ACK 대기 + 결과 반영)의 최악 소요 시간보다 길어야 함
+	@Value("${outbox.dispatch.lease-ms:60000}")
+	private long leaseMs;
 	
-	@Scheduled(fixedDelay = 5000) // 5초마다 실행
-	@SchedulerLock(name = "processPendingEvents", lockAtMostFor = "4s", lockAtLeastFor = "1s")
-	@Transactional
-	public void processPendingEvents() {
+	// 임대 소유자 식별용 워커 ID
+	@Value("${outbox.dispatch.worker-id:${HOSTNAME:local}}")
+	private String workerId;
+	
+	// 커밋 직후 즉시 발행이 기본 경로이며, 스케줄러는 누락분을 처리하는 안전망
+	// 모든 노드가 동시에 실행하며 SKIP LOCKED + 임대로 서로 다른 행을 나눠 처리
+	// 선점(단기 트랜잭션) → 전송(트랜잭션 없음) → 결과 반영(단기 트랜잭션) 순으로 DB 커넥션을 Kafka I/O 동안 점유하지 않음
+	// 반환값: 선점한 이벤트 수 (오류 시 0 → 유휴 주기로 후퇴)
+	public int processPendingEvents(int batchSize) {
 		try {
-			List<PaymentEvent> pendingEvents = paymentEventRepository.findPendingEvents(BATCH_SIZE);
+			LocalDateTime createdBefore = LocalDateTime.now().minus(Duration.ofMillis(sweepGracePeriodMs));
+			OutboxLease lease = acquireLease();
+			List<PaymentEvent> pendingEvents = outboxPriorityPolicy.claimByPriority(batchSize,
+					(eventType, limit) -> paymentEventRepository.claimPendingEvents(eventType, createdBefore, lease, limit));
 			
 			if (!pendingEvents.isEmpty()) {
 				log.info("PENDING 이벤트 처리 시작 - count: {}", pendingEvents.size());
 				
-				for (PaymentEvent event : pendingEvents) {
-					try {
-						paymentEventPublisher.sendEventToKafka(event);
-					} catch (Exception e) {
-						log.error("이벤트 발행 실패 - eventId: {}, error: {}",
-								event.getEventId(), e.getMessage(), e);
-					}
-				}
+				OutboxEventDispatcher.DispatchResult result = outboxEventDispatcher.dispatch(pendingEvents, lease, OutboxDispatchPath.SWEEP);
 				
-				log.info("PENDING 이벤트 처리 완료 - count: {}", pendingEvents.size());
+				log.info("PENDING 이벤트 처리 완료 - published: {}, failed: {}",
+						result.publishedCount(), result.failedCount());
 			}
+			return pendingEvents.size();
 		} catch (Exception e) {
 			log.error("PENDING 이벤트 처리 중 오류 발생", e);
+			return 0;
 		}
 	}
 	
-	@Scheduled(fixedDelay = 30000) // 30초마다 실행
-	@SchedulerLock(name = "retryFailedEvents", lockAtMostFor = "29s", lockAtLeastFor = "5s")
-	@Transactional
-	public void retryFailedEvents() {
+	// 재발행 시각(next_attempt_at)이 도래한 이벤트만 조회
+	public int retryFailedEvents(int batchSize) {
 		try {
-			List<PaymentEvent> failedEvents = paymentEventRepository.findFailedEventsForRetry(
-					MAX_RETRY_COUNT,
-					BATCH_SIZE
-			);
+			OutboxLease lease = acquireLease();
+			List<PaymentEvent> failedEvents = outboxPriorityPolicy.claimByPriority(batchSize,
+					(eventType, limit) -> paymentEventRepository.claimDueFailedEvents(eventType, MAX_RETRY_COUNT, lease, limit));
 			
 			if (!failedEvents.isEmpty()) {
 				log.info("FAILED 이벤트 재시도 시작 - count: {}", failedEvents.size());
 				
-				for (PaymentEvent event : failedEvents) {
-					try {
-						event.resetForRetry();
-						paymentEventRepository.save(event);
-						paymentEventPublisher.sendEventToKafka(event);
-					} catch (Exception e) {
-						log.error("이벤트 재시도 실패 - eventId: {}, retryCount: {}, error: {}",
-								event.getEventId(), event.getRetryCount(), e.getMessage(), e);
-					}
-				}
+				OutboxEventDispatcher.DispatchResult result = outboxEventDispatcher.dispatch(failedEvents, lease, OutboxDispatchPath.RETRY);
 				
-				log.info("FAILED 이벤트 재시도 완료 - count: {}", failedEvents.size());
+				log.info("FAILED 이벤트 재시도 완료 - published: {}, failed: {}",
+						result.publishedCount(), result.failedCount());
 			}
+			return failedEvents.size();
 		} catch (Exception e) {
 			log.error("FAILED 이벤트 재시도 중 오류 발생", e);
+			return 0;
 		}
 	}
+	
+	private OutboxLease acquireLease() {
+		return OutboxLease.acquire(workerId, Duration.ofMillis(leaseMs));
+	}
 }
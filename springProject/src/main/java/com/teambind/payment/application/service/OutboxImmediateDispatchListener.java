@@ -0,0 +1,55 @@
+package com.teambind.payment.application.service;
+
+import com.teambind.payment.application.port.out.PaymentEventRepository;
+import com.teambind.payment.domain.OutboxLease;
+import com.teambind.payment.domain.PaymentEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 커밋된 Outbox 이벤트를 스케줄러 폴링 없이 즉시 Kafka로 발행 (Fast Path)
+ * - 트랜잭션 커밋 이후에만 실행되므로 롤백된 이벤트는 발행되지 않음
+ * - 커밋 스레드에서 바로 레인에 제출하여 같은 트랜잭션의 이벤트가 저장 순서대로 발행됨
+ * - 저장 트랜잭션에서 잡은 임대로 발행하므로 스윕은 임대 만료 전까지 같은 이벤트를 선점하지 않음
+ * - 레인 포화 시 임대를 해제하여 스케줄러 스윕이 바로 처리, 발행 실패 시 FAILED로 남아 재시도
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxImmediateDispatchListener {
+	
+	private final OutboxEventDispatcher outboxEventDispatcher;
+	private final PaymentEventRepository paymentEventRepository;
+	
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onOutboxEventSaved(OutboxEventSavedEvent savedEvent) {
+		PaymentEvent paymentEvent = savedEvent.paymentEvent();
+		OutboxLease lease = savedEvent.lease();
+		try {
+			outboxEventDispatcher.dispatchAsync(List.of(paymentEvent), lease, OutboxDispatchPath.FAST)
+					.exceptionally(e -> {
+						log.error("즉시 발행 실패 - 스케줄러 스윕으로 위임 - eventId: {}",
+								paymentEvent.getEventId(), e);
+						return null;
+					});
+		} catch (RejectedExecutionException e) {
+			log.warn("즉시 발행 레인 포화 - 스케줄러 스윕으로 위임 - eventId: {}", paymentEvent.getEventId());
+			releaseLease(paymentEvent, lease);
+		}
+	}
+	
+	private void releaseLease(PaymentEvent paymentEvent, OutboxLease lease) {
+		try {
+			paymentEventRepository.releaseAll(List.of(paymentEvent.getEventId()), lease.owner());
+		} catch (Exception e) {
+			// 해제 실패 시 임대 만료 후 스윕이 처리
+			log.warn("즉시 발행 임대 해제 실패 - eventId: {}", paymentEvent.getEventId(), e);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.teambind.payment.application.service;
+
+import com.teambind.payment.domain.EventType;
+import com.teambind.payment.domain.PaymentEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * EventType별 Outbox 발행 우선순위와 주기당 할당량
+ * - 폴링 주기마다 우선순위 순으로 타입별 할당량만큼 먼저 선점하고, 남은 배치 용량은 다시 우선순위 순으로 채움
+ * - 환불 폭주(공연 전체 취소 등)가 있어도 결제 완료 이벤트는 매 주기 자신의 할당량을 보장받음
+ * - 발행 레인 대기열도 같은 순위로 정렬되므로 순위는 이벤트 생명주기 순서(결제 완료 → 취소/환불)를 따라야 함
+ *   (레인 작업 순위는 배치 내 최고 순위라 같은 aggregate의 이벤트가 배치를 넘어 역전될 수 있음 - 생명주기를 거스르는 설정은 기동 시 거부)
+ */
+@Component
+public class OutboxPriorityPolicy {
+	
+	// 우선순위 순서 (앞쪽이 높음)
+	private final List<EventType> priorityOrder;
+	
+	// 타입별 할당 비중 (0이면 다른 타입이 남긴 용량만 사용)
+	private final Map<EventType, Integer> quotaWeights;
+	private final int totalWeight;
+	
+	public OutboxPriorityPolicy(@Value("${outbox.priority.order:PAYMENT_COMPLETED,PAYMENT_CANCELLED,REFUND_COMPLETED}") List<EventType> order,
+	                            @Value("${outbox.priority.quota.payment-completed:60}") int paymentCompletedQuota,
+	                            @Value("${outbox.priority.quota.payment-cancelled:20}") int paymentCancelledQuota,
+	                            @Value("${outbox.priority.quota.refund-completed:20}") int refundCompletedQuota) {
+		// 설정에서 빠진 타입은 가장 낮은 우선순위로 추가
+		Set<EventType> ordered = new LinkedHashSet<>(order);
+		ordered.addAll(List.of(EventType.values()));
+		this.priorityOrder = List.copyOf(ordered);
+		validateLifecycleOrder(priorityOrder);
+		
+		this.quotaWeights = new EnumMap<>(EventType.class);
+		quotaWeights.put(EventType.PAYMENT_COMPLETED, paymentCompletedQuota);
+		quotaWeights.put(EventType.PAYMENT_CANCELLED, paymentCancelledQuota);
+		quotaWeights.put(EventType.REFUND_COMPLETED, refundCompletedQuota);
+		if (quotaWeights.values().stream().anyMatch(weight -> weight < 0)) {
+			throw new IllegalArgumentException("할당 비중은 0 이상이어야 합니다: " + quotaWeights);
+		}
+		this.totalWeight = quotaWeights.values().stream().mapToInt(Integer::intValue).sum();
+	}
+	
+	// 결제 완료는 같은 결제의 취소/환불보다 먼저 발행되어야 하므로 더 높은 순위여야 함
+	private static void validateLifecycleOrder(List<EventType> priorityOrder) {
+		int completedRank = priorityOrder.indexOf(EventType.PAYMENT_COMPLETED);
+		for (EventType followUp : List.of(EventType.PAYMENT_CANCELLED, EventType.REFUND_COMPLETED)) {
+			if (priorityOrder.indexOf(followUp) < completedRank) {
+				throw new IllegalArgumentException(
+						"우선순위는 이벤트 생명주기 순서를 따라야 합니다 (PAYMENT_COMPLETED가 " + followUp + "보다 앞): " + priorityOrder);
+			}
+		}
+	}
+	
+	public List<EventType> priorityOrder() {
+		return priorityOrder;
+	}
+	
+	// 우선순위 순위 (0이 가장 높음)
+	public int rankOf(EventType eventType) {
+		return priorityOrder.indexOf(eventType);
+	}
+	
+	// 이벤트 묶음의 순위 - 가장 높은 우선순위 이벤트 기준
+	public int rankOf(Collection<PaymentEvent> events) {
+		return events.stream()
+				.mapToInt(event -> rankOf(event.getEventType()))
+				.min()
+				.orElse(priorityOrder.size());
+	}
+	
+	// 배치 크기 중 해당 타입에 보장되는 선점 수 (비중이 있으면 최소 1건)
+	public int quotaOf(EventType eventType, int batchSize) {
+		int weight = quotaWeights.getOrDefault(eventType, 0);
+		if (weight == 0 || totalWeight == 0) {
+			return 0;
+		}
+		return (int) Math.max(1, (long) batchSize * weight / totalWeight);
+	}
+	
+	// 1차: 우선순위 순으로 타입별 할당량만큼 선점
+	// 2차: 할당량을 모두 채운 타입(백로그가 더 있는 타입)에 남은 용량을 우선순위 순으로 배분
+	public List<PaymentEvent> claimByPriority(int batchSize, BiFunction<EventType, Integer, List<PaymentEvent>> claimer) {
+		List<PaymentEvent> claimed = new ArrayList<>();
+		List<EventType> hasBacklog = new ArrayList<>();
+		
+		for (EventType eventType : priorityOrder) {
+			int limit = Math.min(quotaOf(eventType, batchSize), batchSize - claimed.size());
+			if (limit == 0) {
+				hasBacklog.add(eventType);
+				continue;
+			}
+			List<PaymentEvent> events = claimer.apply(eventType, limit);
+			claimed.addAll(events);
+			if (events.size() >= limit) {
+				hasBacklog.add(eventType);
+			}
+		}
+		
+		for (EventType eventType : hasBacklog) {
+			int remaining = batchSize - claimed.size();
+			if (remaining <= 0) {
+				break;
+			}
+			claimed.addAll(claimer.apply(eventType, remaining));
+		}
+		return claimed;
+	}
+}
@@ -0,0 +1,6 @@
+package com.teambind.payment.application.service;
+
+public enum OutboxRetentionMode {
+	ARCHIVE,    // payment_events_archive로 이동 후 삭제
+	DELETE      // 보관 없이 삭제
+}
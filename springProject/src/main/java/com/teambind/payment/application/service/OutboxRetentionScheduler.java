@@ -0,0 +1,133 @@
+package com.teambind.payment.application.service;
+
+import com.teambind.payment.application.port.out.PaymentEventRetentionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outbox 보존 정책 스케줄러
+ * - 보존 기간이 지난 PUBLISHED 이벤트를 보관 테이블로 이동하거나 삭제
+ * - PK 키셋 페이징으로 작은 청크 단위 트랜잭션을 반복하여 핫 테이블 락 점유 최소화
+ * - ShedLock으로 클러스터 내 단일 노드에서만 실행
+ */
+@Service
+@Slf4j
+public class OutboxRetentionScheduler {
+	
+	private final PaymentEventRetentionRepository retentionRepository;
+	private final MeterRegistry meterRegistry;
+	private final boolean enabled;
+	private final OutboxRetentionMode mode;
+	private final int retentionDays;
+	private final int chunkSize;
+	private final long chunkPauseMs;
+	
+	public OutboxRetentionScheduler(PaymentEventRetentionRepository retentionRepository,
+	                                MeterRegistry meterRegistry,
+	                                @Value("${outbox.retention.enabled:true}") boolean enabled,
+	                                @Value("${outbox.retention.mode:ARCHIVE}") OutboxRetentionMode mode,
+	                                @Value("${outbox.retention.retention-days:30}") int retentionDays,
+	                                @Value("${outbox.retention.chunk-size:1000}") int chunkSize,
+	                                @Value("${outbox.retention.chunk-pause-ms:100}") long chunkPauseMs) {
+		this.retentionRepository = retentionRepository;
+		this.meterRegistry = meterRegistry;
+		this.enabled = enabled;
+		this.mode = mode;
+		this.retentionDays = retentionDays;
+		this.chunkSize = chunkSize;
+		this.chunkPauseMs = chunkPauseMs;
+	}
+	
+	// 트래픽이 적은 새벽 시간대에 하루 한 번 실행
+	@Scheduled(cron = "${outbox.retention.cron:0 30 3 * * *}")
+	@SchedulerLock(name = "outboxRetention", lockAtMostFor = "2h", lockAtLeastFor = "1m")
+	public void purgePublishedEvents() {
+		if (!enabled) {
+			return;
+		}
+		
+		try {
+			purge(LocalDateTime.now().minusDays(retentionDays));
+		} catch (Exception e) {
+			log.error("Outbox 보존 정책 실행 중 오류 발생 - mode: {}", mode, e);
+		}
+	}
+	
+	public long purge(LocalDateTime cutoff) {
+		long startedAt = System.nanoTime();
+		
+		// 실행 시점의 상한을 고정하여 실행 중 새로 발행된 이벤트까지 스캔하지 않음
+		Optional<Long> upToEventId = retentionRepository.findMaxPublishedEventIdBefore(cutoff);
+		if (upToEventId.isEmpty()) {
+			log.debug("Outbox 보존 정책 - 정리 대상 없음 - cutoff: {}", cutoff);
+			return 0;
+		}
+		
+		long purged = 0;
+		long afterEventId = 0;
+		while (true) {
+			List<Long> eventIds = retentionRepository.findPublishedEventIdsBefore(
+					cutoff, afterEventId, upToEventId.get(), chunkSize);
+			if (eventIds.isEmpty()) {
+				break;
+			}
+			
+			int affected = mode == OutboxRetentionMode.ARCHIVE
+					? retentionRepository.moveToArchive(eventIds)
+					: retentionRepository.deleteAll(eventIds);
+			purged += affected;
+			recordPurged(affected);
+			afterEventId = eventIds.get(eventIds.size() - 1);
+			
+			if (eventIds.size() < chunkSize || !pauseBetweenChunks()) {
+				break;
+			}
+		}
+		
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+		Timer.builder("outbox.retention.run")
+				.description("Outbox 보존 정책 1회 실행 소요 시간")
+				.tag("mode", mode.name().toLowerCase())
+				.register(meterRegistry)
+				.record(elapsed);
+		
+		log.info("Outbox 보존 정책 완료 - mode: {}, cutoff: {}, purged: {}, elapsed: {}ms",
+				mode, cutoff, purged, elapsed.toMillis());
+		return purged;
+	}
+	
+	private void recordPurged(int affected) {
+		Counter.builder("outbox.retention.rows")
+				.description("보존 정책으로 이동/삭제된 이벤트 수")
+				.tag("mode", mode.name().toLowerCase())
+				.register(meterRegistry)
+				.increment(affected);
+	}
+	
+	// 청크 사이 휴지로 복제 지연 및 핫 테이블 경합 완화
+	private boolean pauseBetweenChunks() {
+		if (chunkPauseMs <= 0) {
+			return true;
+		}
+		
+		try {
+			Thread.sleep(chunkPauseMs);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("Outbox 보존 정책 중단 - 인터럽트 발생");
+			return false;
+		}
+	}
+}
@@ -4,15 +4,26 @@ import com.teambind.payment.adapter.out.kafka.dto.RefundCompletedEvent;
 import com.teambind.payment.adapter.out.toss.dto.TossRefundRequest;
 import com.teambind.payment.adapter.out.toss.dto.TossRefundResponse;
 import com.teambind.payment.application.port.out.PaymentRepository;
+import com.teambind.payment.application.port.out.RefundRepository;
 import com.teambind.payment.application.port.out.TossRefundClient;
 import com.teambind.payment.common.exception.PaymentException;
+import com.teambind.payment.common.exception.RefundException;
 import com.teambind.payment.common.exception.TossApiException;
 import com.teambind.payment.domain.Payment;
+import com.teambind.payment.domain.Refund;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.util.Optional;
+
+/**
+ * 결제 전액 취소 - RefundService와 같은 단계로 처리 (토스 호출은 트랜잭션 밖)
+ * - 취소 시도도 환불 시도(refunds, 전액)로 저장해 시도 단위 멱등성 키를 유지
+ * - 결과 미확정이면 결제 상태를 바꾸지 않고 시도를 APPROVED로 남김 → 다음 취소/환불 요청이 같은 키로 다시 요청
+ * - 토스가 거절한 취소는 시도만 실패 처리 (결제는 여전히 완료 상태)
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -21,60 +32,143 @@ public class PaymentCancelService {
 	private static final String DEFAULT_CANCEL_REASON = "사용자 취소 요청";
 
 	private final PaymentRepository paymentRepository;
+	private final RefundRepository refundRepository;
 	private final TossRefundClient tossRefundClient;
 	private final PaymentEventPublisher paymentEventPublisher;
+	private final TransactionOperations transactionOperations;
 
-	@Transactional
 	public Payment cancelPaymentByReservationId(String reservationId) {
 		log.info("결제 취소 시작 - reservationId: {}", reservationId);
 
-		Payment payment = paymentRepository.findByReservationId(reservationId)
-				.orElseThrow(() -> PaymentException.notFoundByReservationId(reservationId));
-
-		return cancelPaymentInternal(payment, DEFAULT_CANCEL_REASON);
+		CancelAttempt attempt = transactionOperations.execute(status -> {
+			Payment payment = paymentRepository.findByReservationIdForUpdate(reservationId)
+					.orElseThrow(() -> PaymentException.notFoundByReservationId(reservationId));
+			return startCancel(payment, DEFAULT_CANCEL_REASON);
+		});
+		return executeCancel(attempt);
 	}
 
-	@Transactional
 	public Payment cancelPayment(String paymentId, String reason) {
 		log.info("결제 취소 시작 - paymentId: {}, reason: {}", paymentId, reason);
 
-		Payment payment = paymentRepository.findById(paymentId)
-				.orElseThrow(() -> PaymentException.notFound(paymentId));
-
-		return cancelPaymentInternal(payment, reason);
+		CancelAttempt attempt = transactionOperations.execute(status -> {
+			Payment payment = paymentRepository.findByIdForUpdate(paymentId)
+					.orElseThrow(() -> PaymentException.notFound(paymentId));
+			return startCancel(payment, reason);
+		});
+		return executeCancel(attempt);
 	}
 
-	private Payment cancelPaymentInternal(Payment payment, String reason) {
+	// 결과 미확정 시도가 있으면 그 시도를 그대로 다시 요청 (같은 키는 같은 요청 본문이어야 하므로 금액/사유도 재사용)
+	private CancelAttempt startCancel(Payment payment, String reason) {
 		String paymentId = payment.getPaymentId();
+		payment.validateCancellable();
+
+		Optional<Refund> inFlight = refundRepository.findInFlightByPaymentId(paymentId);
+		if (inFlight.isPresent()) {
+			log.info("결과 미확정 취소 재요청 - paymentId: {}, refundId: {}", paymentId, inFlight.get().getRefundId());
+			return new CancelAttempt(inFlight.get(), payment.getPaymentKey());
+		}
 
+		Refund refund = Refund.request(paymentId, payment.getAmount(), payment.getAmount(), reason);
+		refund.approve();
+		return new CancelAttempt(refundRepository.save(refund), payment.getPaymentKey());
+	}
+
+	private Payment executeCancel(CancelAttempt attempt) {
+		Refund refund = attempt.refund();
+		String paymentId = refund.getPaymentId();
+
+		TossRefundRequest tossRequest = new TossRefundRequest(
+				refund.getReason(),
+				refund.getRefundAmount().getValue().longValue()
+		);
+
+		TossRefundResponse tossResponse;
 		try {
-			TossRefundRequest tossRequest = new TossRefundRequest(
-					reason,
-					payment.getAmount().getValue().longValue()
-			);
+			// 취소 시도 단위 멱등성 키 - 재시도/결과 미확정 후 재요청은 같은 키로 토스에서 한 번만 취소
+			tossResponse = tossRefundClient.cancelPayment(attempt.paymentKey(), tossRequest, refund.getTossIdempotencyKey());
+		} catch (TossApiException e) {
+			if (e.isOutcomeUnknown()) {
+				throw outcomeUnknown(refund, e);
+			}
+			failCancel(paymentId, refund.getRefundId(), e);
+			// 서킷 열림/동시 호출 한도 초과 - 토스로 전송되지 않았으므로 결제 상태를 바꾸지 않고 즉시 실패
+			if (e.isUnavailable()) {
+				throw e;
+			}
+			throw cancelFailed(paymentId, e);
+		} catch (RuntimeException e) {
+			throw outcomeUnknown(refund, e);
+		}
 
-			TossRefundResponse tossResponse = tossRefundClient.cancelPayment(payment.getPaymentKey(), tossRequest);
+		return completeCancel(paymentId, refund.getRefundId(), tossResponse);
+	}
 
+	// 토스 취소 응답으로 취소 시도 완료 + 결제 취소 처리
+	private Payment completeCancel(String paymentId, String refundId, TossRefundResponse response) {
+		return transactionOperations.execute(status -> {
+			// 결제 행 잠금 후 시도 조회 - 같은 시도를 다시 요청한 다른 스레드와 직렬화
+			Payment payment = paymentRepository.findByIdForUpdate(paymentId)
+					.orElseThrow(() -> PaymentException.notFound(paymentId));
+			Refund refund = refundRepository.findById(refundId)
+					.orElseThrow(() -> RefundException.notFound(refundId));
+
+			// 다른 요청이 먼저 완료한 경우 그대로 반환
+			if (refund.isCompleted()) {
+				return payment;
+			}
+
+			refund.complete(response.transactionId());
 			payment.cancel();
+
+			refundRepository.save(refund);
 			Payment canceledPayment = paymentRepository.save(payment);
 
 			log.info("결제 취소 완료 - paymentId: {}, transactionId: {}, status: {}",
-					canceledPayment.getPaymentId(), tossResponse.transactionId(), canceledPayment.getStatus());
+					canceledPayment.getPaymentId(), response.transactionId(), canceledPayment.getStatus());
 
-			RefundCompletedEvent event = RefundCompletedEvent.fromPaymentCancel(canceledPayment, reason);
+			RefundCompletedEvent event = RefundCompletedEvent.fromPaymentCancel(canceledPayment, refund.getReason());
 			paymentEventPublisher.publishRefundCompletedEvent(event);
 
 			return canceledPayment;
+		});
+	}
 
-		} catch (Exception e) {
-			log.error("결제 취소 실패 - paymentId: {}, error: {}", paymentId, e.getMessage(), e);
-			payment.fail("결제 취소 실패: " + e.getMessage());
-			paymentRepository.save(payment);
-			throw new TossApiException(
-					com.teambind.common.exceptions.ErrorCode.TOSS_API_ERROR,
-					"Payment cancellation failed for: " + paymentId,
-					e
-			);
-		}
+	// 토스가 취소하지 않은 것이 확정된 시도를 실패 처리 - 결제는 완료 상태 그대로, 다음 요청은 새 시도(새 키)로 진행
+	private void failCancel(String paymentId, String refundId, Exception cause) {
+		log.error("결제 취소 실패 - paymentId: {}, refundId: {}, error: {}", paymentId, refundId, cause.getMessage(), cause);
+		transactionOperations.executeWithoutResult(status -> {
+			paymentRepository.findByIdForUpdate(paymentId)
+					.orElseThrow(() -> PaymentException.notFound(paymentId));
+			Refund refund = refundRepository.findById(refundId)
+					.orElseThrow(() -> RefundException.notFound(refundId));
+
+			// 다른 요청이 먼저 확정한 경우 건너뜀
+			if (!refund.isApproved()) {
+				return;
+			}
+
+			refund.fail(cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+			refundRepository.save(refund);
+		});
+	}
+
+	private TossApiException outcomeUnknown(Refund refund, Exception cause) {
+		log.warn("토스 취소 결과 미확정 - paymentId: {}, refundId: {}, 다음 취소 요청에서 같은 키로 재요청",
+				refund.getPaymentId(), refund.getRefundId(), cause);
+		return cancelFailed(refund.getPaymentId(), cause);
+	}
+
+	private TossApiException cancelFailed(String paymentId, Exception cause) {
+		return new TossApiException(
+				com.teambind.common.exceptions.ErrorCode.TOSS_API_ERROR,
+				"Payment cancellation failed for: " + paymentId,
+				cause
+		);
+	}
+
+	// 토스에 요청할 취소 시도와 결제 키 (트랜잭션 밖에서 사용)
+	private record CancelAttempt(Refund refund, String paymentKey) {
 	}
 }
@@ -0,0 +1,118 @@
+package com.teambind.payment.application.service;
+
+import com.teambind.payment.adapter.out.toss.dto.TossPaymentConfirmResponse;
+import com.teambind.payment.application.port.out.PaymentRepository;
+import com.teambind.payment.application.port.out.TossPaymentClient;
+import com.teambind.payment.common.exception.TossApiException;
+import com.teambind.payment.domain.Payment;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 결제 승인 복구 스케줄러
+ * - 토스 승인 결과를 알 수 없어 CONFIRMING으로 남은 결제를 토스 결제 조회로 확정
+ * - 승인됨(DONE, WAITING_FOR_DEPOSIT) → 완료 처리, 그 외 상태 또는 조회 거절 → PREPARED로 되돌림
+ * - 조회 결과도 알 수 없으면 다음 주기에 재시도, ShedLock으로 클러스터 내 단일 노드에서만 실행
+ */
+@Service
+@Slf4j
+public class PaymentConfirmRecoveryScheduler {
+	
+	private static final Set<String> APPROVED_STATUSES = Set.of("DONE", "WAITING_FOR_DEPOSIT");
+	
+	private final PaymentRepository paymentRepository;
+	private final TossPaymentClient tossPaymentClient;
+	private final PaymentConfirmService paymentConfirmService;
+	private final MeterRegistry meterRegistry;
+	private final long staleAfterMs;
+	private final int batchSize;
+	
+	public PaymentConfirmRecoveryScheduler(PaymentRepository paymentRepository,
+	                                       TossPaymentClient tossPaymentClient,
+	                                       PaymentConfirmService paymentConfirmService,
+	                                       MeterRegistry meterRegistry,
+	                                       @Value("${payment.confirm.recovery.stale-after-ms:60000}") long staleAfterMs,
+	                                       @Value("${payment.confirm.recovery.batch-size:100}") int batchSize) {
+		this.paymentRepository = paymentRepository;
+		this.tossPaymentClient = tossPaymentClient;
+		this.paymentConfirmService = paymentConfirmService;
+		this.meterRegistry = meterRegistry;
+		this.staleAfterMs = staleAfterMs;
+		this.batchSize = batchSize;
+	}
+	
+	@Scheduled(fixedDelayString = "${payment.confirm.recovery.interval-ms:30000}")
+	@SchedulerLock(name = "paymentConfirmRecovery", lockAtMostFor = "10m", lockAtLeastFor = "10s")
+	public void recoverStaleConfirmations() {
+		try {
+			int resolved = recover();
+			if (resolved > 0) {
+				log.warn("승인 결과 미확정 결제 복구 - count: {}", resolved);
+			}
+		} catch (Exception e) {
+			log.error("승인 결과 미확정 결제 복구 중 오류 발생", e);
+		}
+	}
+	
+	// 승인 시작 후 일정 시간이 지난 CONFIRMING 결제를 확정하고 확정된 건수 반환
+	public int recover() {
+		// 진행 중인 승인 요청(토스 타임아웃 이내)은 건드리지 않도록 시작 후 일정 시간이 지난 결제만 대상
+		LocalDateTime startedBefore = LocalDateTime.now().minus(Duration.ofMillis(staleAfterMs));
+		List<Payment> payments = paymentRepository.findConfirmingStartedBefore(startedBefore, batchSize);
+		
+		int resolved = 0;
+		for (Payment payment : payments) {
+			try {
+				if (resolve(payment)) {
+					resolved++;
+				}
+			} catch (Exception e) {
+				log.error("승인 결과 미확정 결제 복구 실패 - paymentId: {}", payment.getPaymentId(), e);
+			}
+		}
+		return resolved;
+	}
+	
+	private boolean resolve(Payment payment) {
+		TossPaymentConfirmResponse response;
+		try {
+			response = tossPaymentClient.getPayment(payment.getPaymentKey());
+		} catch (TossApiException e) {
+			if (e.isOutcomeUnknown() || e.isUnavailable()) {
+				// 조회 결과를 알 수 없거나 서킷 열림으로 조회하지 못함 - 다음 주기에 재시도
+				return false;
+			}
+			paymentConfirmService.releaseConfirmation(payment.getPaymentId());
+			record("released");
+			return true;
+		}
+		
+		if (APPROVED_STATUSES.contains(response.status())) {
+			paymentConfirmService.completeConfirmation(payment.getPaymentId(), response);
+			record("completed");
+		} else {
+			log.info("토스 미승인 결제 되돌림 - paymentId: {}, tossStatus: {}", payment.getPaymentId(), response.status());
+			paymentConfirmService.releaseConfirmation(payment.getPaymentId());
+			record("released");
+		}
+		return true;
+	}
+	
+	private void record(String outcome) {
+		Counter.builder("payment.confirm.recovered")
+				.description("복구 스윕에서 확정된 승인 결과 미확정 결제 수")
+				.tag("outcome", outcome)
+				.register(meterRegistry)
+				.increment();
+	}
+}
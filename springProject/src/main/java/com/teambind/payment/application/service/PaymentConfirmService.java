@@ -6,57 +6,189 @@ import com.teambind.payment.adapter.out.toss.dto.TossPaymentConfirmResponse;
 import com.teambind.payment.application.port.out.PaymentRepository;
 import com.teambind.payment.application.port.out.TossPaymentClient;
 import com.teambind.payment.common.exception.PaymentException;
+import com.teambind.payment.common.exception.TossApiException;
 import com.teambind.payment.domain.Money;
 import com.teambind.payment.domain.Payment;
 import com.teambind.payment.domain.PaymentMethod;
-import lombok.RequiredArgsConstructor;
+import com.teambind.payment.domain.PaymentStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+/**
+ * 결제 승인 서비스
+ * - 승인 시작(CONFIRMING 전환)과 완료(COMPLETED + Outbox 저장)를 각각 짧은 트랜잭션으로 처리
+ * - 토스 승인 요청은 트랜잭션 밖에서 수행하여 왕복 시간 동안 DB 커넥션을 점유하지 않음
+ * - 토스가 거절한 것이 확정되면 PREPARED로 되돌리고, 결과를 알 수 없으면 CONFIRMING으로 남겨 복구 스윕이 확정
+ * - 같은 승인 요청의 중복(더블 클릭/재시도)은 노드 내에서는 single-flight로 병합하고,
+ *   다른 노드 간에는 승인 시작 시 행 잠금으로 직렬화하고, 먼저 시작한 승인이 진행 중이면 대기 없이 409로 응답 (클라이언트가 결제 조회로 확인)
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class PaymentConfirmService {
 	
 	private final PaymentRepository paymentRepository;
 	private final TossPaymentClient tossPaymentClient;
 	private final PaymentEventPublisher paymentEventPublisher;
+	private final TransactionOperations transactionOperations;
+	private final MeterRegistry meterRegistry;
+	
+	// 진행 중인 승인 요청 (orderId + paymentKey + amount가 같은 요청만 병합)
+	private final SingleFlight<ConfirmKey, Payment> confirmFlights = new SingleFlight<>();
+	
+	public PaymentConfirmService(PaymentRepository paymentRepository,
+	                             TossPaymentClient tossPaymentClient,
+	                             PaymentEventPublisher paymentEventPublisher,
+	                             TransactionOperations transactionOperations,
+	                             MeterRegistry meterRegistry) {
+		this.paymentRepository = paymentRepository;
+		this.tossPaymentClient = tossPaymentClient;
+		this.paymentEventPublisher = paymentEventPublisher;
+		this.transactionOperations = transactionOperations;
+		this.meterRegistry = meterRegistry;
+	}
 	
-	@Transactional
 	public Payment confirmPayment(String orderId, String paymentKey, Long amount) {
-		log.info("결제 승인 시작 - orderId: {}, amount: {}", orderId, amount);
+		SingleFlight.Result<Payment> result = confirmFlights.execute(
+				new ConfirmKey(orderId, paymentKey, amount),
+				() -> confirmOnce(orderId, paymentKey, amount)
+		);
 		
-		// 1. Payment 조회 (orderId = reservationId)
-		Payment payment = paymentRepository.findByReservationId(orderId)
-				.orElseThrow(() -> PaymentException.notFoundByOrderId(orderId));
+		if (result.shared()) {
+			log.info("동시 승인 요청 병합 - orderId: {}, paymentId: {}", orderId, result.value().getPaymentId());
+			recordDeduplicated("coalesced");
+		}
+		return result.value();
+	}
+	
+	private Payment confirmOnce(String orderId, String paymentKey, Long amount) {
+		log.info("결제 승인 시작 - orderId: {}, amount: {}", orderId, amount);
 		
-		// 2. 금액 검증
-		payment.validateAmount(Money.of(amount));
+		// 1. 승인 시작 - 금액 검증 후 CONFIRMING 전환 (orderId = reservationId)
+		ConfirmAttempt attempt = transactionOperations.execute(status -> startConfirmation(orderId, paymentKey, amount));
+		if (!attempt.started()) {
+			// 같은 결제 키로 이미 승인됐거나 다른 요청이 승인 중 - 토스를 다시 호출하지 않고 그 결과를 사용
+			return sharedConfirmation(orderId, attempt.payment());
+		}
+		String paymentId = attempt.payment().getPaymentId();
 		
-		// 3. 토스 결제 승인 요청
+		// 2. 토스 결제 승인 요청 (트랜잭션 밖)
 		TossPaymentConfirmRequest request = new TossPaymentConfirmRequest(
 				paymentKey,
 				orderId,
 				amount
 		);
 		
-		TossPaymentConfirmResponse response = tossPaymentClient.confirmPayment(request);
+		TossPaymentConfirmResponse response;
+		try {
+			// 재시도/헤지 요청도 같은 멱등성 키 - 토스에서 한 번만 승인
+			response = tossPaymentClient.confirmPayment(request, attempt.payment().confirmIdempotencyKey());
+		} catch (TossApiException e) {
+			if (e.isOutcomeUnknown()) {
+				log.warn("토스 결제 승인 결과 미확정 - paymentId: {}, 복구 스윕에서 확정", paymentId);
+			} else {
+				releaseConfirmation(paymentId);
+			}
+			throw e;
+		} catch (RuntimeException e) {
+			log.warn("토스 결제 승인 결과 미확정 - paymentId: {}, 복구 스윕에서 확정", paymentId);
+			throw e;
+		}
 		
-		// 4. 결제 완료 처리
-		PaymentMethod method = PaymentMethod.valueOf(mapTossMethodToPaymentMethod(response.method()));
-		payment.complete(orderId, paymentKey, response.lastTransactionKey(), method);
+		// 3. 결제 완료 처리 + 결제 완료 이벤트 저장
+		return completeConfirmation(paymentId, response);
+	}
+	
+	// 토스 승인 응답으로 결제 완료 처리 (승인 요청 스레드 또는 복구 스윕에서 호출)
+	public Payment completeConfirmation(String paymentId, TossPaymentConfirmResponse response) {
+		return transactionOperations.execute(status -> {
+			// 행 잠금으로 승인 스레드/복구 스윕/승인 취소의 동시 상태 전이를 직렬화
+			Payment payment = paymentRepository.findByIdForUpdate(paymentId)
+					.orElseThrow(() -> PaymentException.notFound(paymentId));
+			
+			// 다른 경로에서 이미 완료된 경우 그대로 반환
+			if (payment.getStatus() == PaymentStatus.COMPLETED) {
+				return payment;
+			}
+			
+			PaymentMethod method = PaymentMethod.valueOf(mapTossMethodToPaymentMethod(response.method()));
+			payment.complete(payment.getOrderId(), payment.getPaymentKey(), response.lastTransactionKey(), method);
+			
+			Payment savedPayment = paymentRepository.save(payment);
+			log.info("결제 승인 완료 - paymentId: {}, status: {}, method: {}",
+					savedPayment.getPaymentId(), savedPayment.getStatus(), savedPayment.getMethod());
+			
+			PaymentCompletedEvent event = PaymentCompletedEvent.from(savedPayment);
+			paymentEventPublisher.publishPaymentCompletedEvent(event);
+			
+			return savedPayment;
+		});
+	}
+	
+	// 토스가 승인하지 않은 것이 확정된 결제를 PREPARED로 되돌림
+	public void releaseConfirmation(String paymentId) {
+		transactionOperations.executeWithoutResult(status -> {
+			// 행 잠금 - 잠금 대기 중 다른 경로가 완료했다면 아래 상태 확인에서 건너뜀
+			Payment payment = paymentRepository.findByIdForUpdate(paymentId)
+					.orElseThrow(() -> PaymentException.notFound(paymentId));
+			
+			// 다른 경로에서 이미 확정된 경우 건너뜀
+			if (payment.getStatus() != PaymentStatus.CONFIRMING) {
+				return;
+			}
+			
+			payment.releaseConfirmation();
+			paymentRepository.save(payment);
+			log.info("결제 승인 취소 - paymentId: {}, status: {}", paymentId, payment.getStatus());
+		});
+	}
+	
+	private ConfirmAttempt startConfirmation(String orderId, String paymentKey, Long amount) {
+		// 행 잠금으로 다른 노드의 동시 승인 시작과 직렬화 (잠금은 이 짧은 트랜잭션 동안만 유지)
+		Payment payment = paymentRepository.findByReservationIdForUpdate(orderId)
+				.orElseThrow(() -> PaymentException.notFoundByOrderId(orderId));
 		
-		// 5. 저장
-		Payment savedPayment = paymentRepository.save(payment);
-		log.info("결제 승인 완료 - paymentId: {}, status: {}, method: {}",
-				savedPayment.getPaymentId(), savedPayment.getStatus(), savedPayment.getMethod());
+		payment.validateAmount(Money.of(amount));
 		
-		// 6. 결제 완료 이벤트 발행
-		PaymentCompletedEvent event = PaymentCompletedEvent.from(savedPayment);
-		paymentEventPublisher.publishPaymentCompletedEvent(event);
+		if (isSameConfirmation(payment, paymentKey)) {
+			return new ConfirmAttempt(payment, false);
+		}
+		if (payment.getStatus() == PaymentStatus.CONFIRMING) {
+			// 다른 결제 키로 승인 중
+			throw PaymentException.confirmationInProgress(orderId);
+		}
 		
-		return savedPayment;
+		payment.startConfirmation(orderId, paymentKey);
+		return new ConfirmAttempt(paymentRepository.save(payment), true);
+	}
+	
+	// 먼저 시작한 같은 승인 요청의 결과 - 완료됐으면 그대로 반환, 진행 중이면 기다리지 않고 409 (클라이언트가 결제 조회로 확인)
+	// 요청 스레드/DB 커넥션을 토스 승인 시간 동안 붙잡지 않음
+	private Payment sharedConfirmation(String orderId, Payment payment) {
+		if (payment.getStatus() == PaymentStatus.CONFIRMING) {
+			log.info("중복 승인 요청 - 먼저 시작한 승인 진행 중 - orderId: {}, paymentId: {}", orderId, payment.getPaymentId());
+			recordDeduplicated("in-progress");
+			throw PaymentException.confirmationInProgress(orderId);
+		}
+		
+		log.info("중복 승인 요청 - 먼저 완료된 승인 결과 사용 - orderId: {}, paymentId: {}", orderId, payment.getPaymentId());
+		recordDeduplicated("completed");
+		return payment;
+	}
+	
+	private boolean isSameConfirmation(Payment payment, String paymentKey) {
+		return (payment.getStatus() == PaymentStatus.COMPLETED || payment.getStatus() == PaymentStatus.CONFIRMING)
+				&& paymentKey.equals(payment.getPaymentKey());
+	}
+	
+	private void recordDeduplicated(String path) {
+		Counter.builder("payment.confirm.deduplicated")
+				.description("토스를 다시 호출하지 않고 처리한 중복 승인 요청 수 (결과 공유 또는 진행 중 응답)")
+				.tag("path", path)
+				.register(meterRegistry)
+				.increment();
 	}
 	
 	private String mapTossMethodToPaymentMethod(String tossMethod) {
@@ -68,4 +200,11 @@ public class PaymentConfirmService {
 			default -> "CARD"; // 기본값
 		};
 	}
+	
+	private record ConfirmKey(String orderId, String paymentKey, Long amount) {
+	}
+	
+	// started: 이 요청이 CONFIRMING으로 전환했는지 여부 (false면 이미 같은 결제 키로 승인됐거나 승인 중)
+	private record ConfirmAttempt(Payment payment, boolean started) {
+	}
 }
@@ -5,25 +5,42 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teambind.payment.adapter.out.kafka.dto.PaymentCancelledEvent;
 import com.teambind.payment.adapter.out.kafka.dto.PaymentCompletedEvent;
 import com.teambind.payment.adapter.out.kafka.dto.RefundCompletedEvent;
+import com.teambind.payment.adapter.out.kafka.wire.PaymentEventWireEncoder;
 import com.teambind.payment.application.port.out.PaymentEventRepository;
 import com.teambind.payment.domain.EventType;
+import com.teambind.payment.domain.OutboxLease;
+import com.teambind.payment.domain.PayloadCodec;
 import com.teambind.payment.domain.PaymentEvent;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class PaymentEventPublisher {
 	
 	private final PaymentEventRepository paymentEventRepository;
-	private final KafkaTemplate<String, Object> kafkaTemplate;
+	private final KafkaTemplate<String, byte[]> kafkaTemplate;
 	private final ObjectMapper objectMapper;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final PaymentEventWireEncoder wireEncoder;
+	
+	// 신규 이벤트 payload 저장 형식 (기존 행은 저장 당시 코덱으로 읽음)
+	private final PayloadCodec payloadCodec;
+	
+	// 즉시 발행 임대 시간/워커 ID - 스윕 선점과 같은 설정 사용 (OutboxEventScheduler)
+	private final long leaseMs;
+	private final String workerId;
 	
 	@Value("${kafka.topics.payment-completed}")
 	private String paymentCompletedTopic;
@@ -34,6 +51,24 @@ public class PaymentEventPublisher {
 	@Value("${kafka.topics.refund-completed}")
 	private String refundCompletedTopic;
 	
+	public PaymentEventPublisher(PaymentEventRepository paymentEventRepository,
+	                             KafkaTemplate<String, byte[]> kafkaTemplate,
+	                             ObjectMapper objectMapper,
+	                             ApplicationEventPublisher applicationEventPublisher,
+	                             PaymentEventWireEncoder wireEncoder,
+	                             @Value("${outbox.payload.codec:DEFLATE_DICT_V1}") PayloadCodec payloadCodec,
+	                             @Value("${outbox.dispatch.lease-ms:60000}") long leaseMs,
+	                             @Value("${outbox.dispatch.worker-id:${HOSTNAME:local}}") String workerId) {
+		this.paymentEventRepository = paymentEventRepository;
+		this.kafkaTemplate = kafkaTemplate;
+		this.objectMapper = objectMapper;
+		this.applicationEventPublisher = applicationEventPublisher;
+		this.wireEncoder = wireEncoder;
+		this.payloadCodec = payloadCodec;
+		this.leaseMs = leaseMs;
+		this.workerId = workerId;
+	}
+	
 	@Transactional(propagation = Propagation.MANDATORY)
 	public void publishPaymentCompletedEvent(PaymentCompletedEvent event) {
 		log.info("결제 완료 이벤트 저장 - paymentId: {}", event.paymentId());
@@ -44,10 +79,11 @@ public class PaymentEventPublisher {
 			PaymentEvent paymentEvent = PaymentEvent.create(
 					event.paymentId(),
 					EventType.PAYMENT_COMPLETED,
-					payload
+					payload,
+					payloadCodec
 			);
 			
-			paymentEventRepository.save(paymentEvent);
+			saveOutboxEvent(paymentEvent);
 			log.info("결제 완료 이벤트 저장 완료 - eventId: {}", paymentEvent.getEventId());
 			
 		} catch (JsonProcessingException e) {
@@ -66,10 +102,11 @@ public class PaymentEventPublisher {
 			PaymentEvent paymentEvent = PaymentEvent.create(
 					event.paymentId(),
 					EventType.PAYMENT_CANCELLED,
-					payload
+					payload,
+					payloadCodec
 			);
 			
-			paymentEventRepository.save(paymentEvent);
+			saveOutboxEvent(paymentEvent);
 			log.info("결제 취소 이벤트 저장 완료 - eventId: {}", paymentEvent.getEventId());
 			
 		} catch (JsonProcessingException e) {
@@ -88,10 +125,11 @@ public class PaymentEventPublisher {
 			PaymentEvent paymentEvent = PaymentEvent.create(
 					event.paymentId(),
 					EventType.REFUND_COMPLETED,
-					payload
+					payload,
+					payloadCodec
 			);
 			
-			paymentEventRepository.save(paymentEvent);
+			saveOutboxEvent(paymentEvent);
 			log.info("환불 완료 이벤트 저장 완료 - eventId: {}", paymentEvent.getEventId());
 			
 		} catch (JsonProcessingException e) {
@@ -100,33 +138,57 @@ public class PaymentEventPublisher {
 		}
 	}
 	
-	public void sendEventToKafka(PaymentEvent event) {
+	// Outbox 저장 후 커밋 시점 즉시 발행을 위해 알림 (OutboxImmediateDispatchListener)
+	// 임대를 같은 INSERT로 기록하여 즉시 발행이 끝나기 전에는 스윕이 같은 이벤트를 선점하지 않음
+	// 같은 aggregate의 앞선 이벤트가 미발행(재시도 대기 등)이면 즉시 발행하지 않고 스윕이 순서대로 처리
+	private void saveOutboxEvent(PaymentEvent paymentEvent) {
+		if (paymentEventRepository.hasUnpublishedEvents(paymentEvent.getAggregateId())) {
+			log.info("선행 이벤트 미발행 - 즉시 발행 생략 - aggregateId: {}", paymentEvent.getAggregateId());
+			paymentEventRepository.save(paymentEvent);
+			return;
+		}
+		
+		OutboxLease lease = OutboxLease.acquire(workerId, Duration.ofMillis(leaseMs));
+		paymentEvent.lease(lease);
+		paymentEventRepository.save(paymentEvent);
+		applicationEventPublisher.publishEvent(new OutboxEventSavedEvent(paymentEvent, lease));
+	}
+	
+	// Kafka 전송만 수행하고 상태 반영은 OutboxEventDispatcher가 일괄 처리
+	public CompletableFuture<SendResult<String, byte[]>> sendEventToKafka(PaymentEvent event) {
 		try {
-			String topic = getTopicByEventType(event.getEventType());
-			Object eventPayload = objectMapper.readValue(event.getPayload(), Object.class);
-			
-			kafkaTemplate.send(topic, event.getAggregateId(), eventPayload)
-					.whenComplete((result, ex) -> {
-						if (ex != null) {
-							log.error("Kafka 발행 실패 - eventId: {}, type: {}, error: {}",
-									event.getEventId(), event.getEventType(), ex.getMessage(), ex);
-							event.markAsFailed(ex.getMessage());
-							paymentEventRepository.save(event);
-						} else {
-							log.info("Kafka 발행 성공 - eventId: {}, type: {}, topic: {}",
-									event.getEventId(), event.getEventType(), topic);
-							event.markAsPublished();
-							paymentEventRepository.save(event);
-						}
-					});
+			return kafkaTemplate.send(toProducerRecord(event));
 			
 		} catch (Exception e) {
-			log.error("Kafka 발행 중 오류 - eventId: {}", event.getEventId(), e);
-			event.markAsFailed(e.getMessage());
-			paymentEventRepository.save(event);
+			log.error("Kafka 발행 요청 실패 - eventId: {}", event.getEventId(), e);
+			return CompletableFuture.failedFuture(e);
 		}
 	}
 	
+	// 트랜잭션 발행 모드: 전달된 이벤트를 하나의 Kafka 트랜잭션으로 전송 - 하나라도 실패하면 전체 중단 후 예외
+	public void sendEventsInTransaction(List<PaymentEvent> events) {
+		kafkaTemplate.executeInTransaction(operations -> {
+			events.forEach(event -> operations.send(toProducerRecord(event)));
+			return null;
+		});
+	}
+	
+	public boolean isTransactional() {
+		return kafkaTemplate.isTransactional();
+	}
+	
+	// JSON 토픽은 저장된 payload를 파싱하지 않고 바이트 그대로 전송 (압축 저장된 경우 해제만 수행)
+	// AVRO 토픽은 PaymentEventWireEncoder가 스키마 기반 바이너리로 변환
+	private ProducerRecord<String, byte[]> toProducerRecord(PaymentEvent event) {
+		return wireEncoder.toRecord(
+				getTopicByEventType(event.getEventType()),
+				event.getEventType(),
+				event.getEventId(),
+				event.getAggregateId(),
+				event.getPayloadBytes()
+		);
+	}
+	
 	private String getTopicByEventType(EventType eventType) {
 		return switch (eventType) {
 			case PAYMENT_COMPLETED -> paymentCompletedTopic;
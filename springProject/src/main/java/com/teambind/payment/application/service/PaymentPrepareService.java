@@ -6,11 +6,17 @@ import com.teambind.payment.domain.Money;
 import com.teambind.payment.domain.Payment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -18,11 +24,38 @@ import java.time.LocalDateTime;
 public class PaymentPrepareService {
 	
 	private final PaymentRepository paymentRepository;
+	private final PreparedReservationFilter preparedReservationFilter;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final TransactionOperations transactionOperations;
 	
-	@Transactional
+	// 이 노드에서 최근 결제 준비가 커밋된 예약인지 확인 - 이벤트 경로에서 DB 조회 전에 중복을 건너뛰는 용도
+	// false는 "준비되지 않음"이 아니라 "알 수 없음"이므로 preparePayment의 DB 멱등성 체크로 처리
+	public boolean isRecentlyPrepared(String reservationId) {
+		return preparedReservationFilter.isPrepared(reservationId);
+	}
+	
+	// 조회/저장 트랜잭션 밖에서 유니크 키 위반을 처리 - 위반은 커밋(flush) 시점에 발생하고 트랜잭션을 롤백 전용으로 만들기 때문
 	public Payment preparePayment(String reservationId, Long amount, LocalDateTime checkInDate) {
 		log.info("결제 준비 시작 - reservationId: {}, amount: {}", reservationId, amount);
 		
+		Payment prepared;
+		try {
+			prepared = transactionOperations.execute(status -> findOrPrepare(reservationId, amount, checkInDate));
+		} catch (DataIntegrityViolationException e) {
+			// Race Condition 발생 (API와 이벤트 동시 처리)
+			// DB unique 제약 위반 → 먼저 커밋된 레코드 조회
+			log.warn("동시 요청 감지 - reservationId: {}. 기존 결제 정보 조회 중...", reservationId);
+			prepared = paymentRepository.findByReservationId(reservationId)
+					.orElseThrow(() -> new IllegalStateException(
+							"결제 저장 실패 및 재조회 실패 - reservationId: " + reservationId, e));
+		}
+		
+		// 커밋 이후 중복 필터에 기록
+		applicationEventPublisher.publishEvent(new ReservationPreparedEvent(List.of(reservationId)));
+		return prepared;
+	}
+	
+	private Payment findOrPrepare(String reservationId, Long amount, LocalDateTime checkInDate) {
 		// 멱등성 체크 - 이미 처리된 예약인지 확인
 		return paymentRepository.findByReservationId(reservationId)
 				.map(existingPayment -> {
@@ -30,30 +63,61 @@ public class PaymentPrepareService {
 					return existingPayment;
 				})
 				.orElseGet(() -> {
-					try {
-						// 새로운 결제 준비
-						Payment payment = Payment.prepare(
-								reservationId,
-								Money.of(amount),
-								checkInDate
-						);
-						
-						Payment savedPayment = paymentRepository.save(payment);
-						log.info("결제 준비 완료 - paymentId: {}, status: {}",
-								savedPayment.getPaymentId(), savedPayment.getStatus());
-						
-						return savedPayment;
-					} catch (DataIntegrityViolationException e) {
-						// Race Condition 발생 (API와 이벤트 동시 처리)
-						// DB unique 제약 위반 → 이미 저장된 레코드 조회
-						log.warn("동시 요청 감지 - reservationId: {}. 기존 결제 정보 조회 중...", reservationId);
-						return paymentRepository.findByReservationId(reservationId)
-								.orElseThrow(() -> new IllegalStateException(
-										"결제 저장 실패 및 재조회 실패 - reservationId: " + reservationId));
-					}
+					// 새로운 결제 준비
+					Payment payment = Payment.prepare(
+							reservationId,
+							Money.of(amount),
+							checkInDate
+					);
+					
+					Payment savedPayment = paymentRepository.save(payment);
+					log.info("결제 준비 완료 - paymentId: {}, status: {}",
+							savedPayment.getPaymentId(), savedPayment.getStatus());
+					
+					return savedPayment;
 				});
 	}
 	
+	// 이벤트 배치 결제 준비 - 건별 조회 없이 한 번의 multi-row INSERT로 저장, 이미 준비된 예약은 INSERT 시 건너뜀
+	// 검증에 실패한 요청은 저장하지 않고 요청 위치와 원인을 반환 (재처리해도 성공할 수 없으므로 호출 측이 DLT로 보냄)
+	// 중복 필터에 있는 예약은 INSERT 없이 준비된 것으로 집계
+	@Transactional
+	public BatchPrepareResult preparePayments(List<PrepareRequest> requests) {
+		List<Payment> payments = new ArrayList<>(requests.size());
+		List<RejectedRequest> rejected = new ArrayList<>();
+		Set<String> batchReservationIds = new HashSet<>();
+		int alreadyPrepared = 0;
+		for (int index = 0; index < requests.size(); index++) {
+			PrepareRequest request = requests.get(index);
+			// 같은 배치에 재전달된 예약은 한 번만 INSERT (INSERT 대상 예약 ID는 서로 달라야 함)
+			if (request.reservationId() != null && !batchReservationIds.add(request.reservationId())) {
+				alreadyPrepared++;
+				continue;
+			}
+			// 최근 준비된 예약은 INSERT 대상에서 제외 (필터에 없으면 INSERT 시 기존 결제 확인 후 건너뜀)
+			if (preparedReservationFilter.isPrepared(request.reservationId())) {
+				alreadyPrepared++;
+				continue;
+			}
+			try {
+				Money amount = request.amount() != null ? Money.of(request.amount()) : null;
+				payments.add(Payment.prepare(request.reservationId(), amount, request.checkInDate()));
+			} catch (IllegalArgumentException e) {
+				log.error("결제 준비 요청 검증 실패 - reservationId: {}, error: {}", request.reservationId(), e.getMessage());
+				rejected.add(new RejectedRequest(index, e));
+			}
+		}
+		
+		if (!payments.isEmpty()) {
+			paymentRepository.saveAllIgnoringDuplicates(payments);
+			applicationEventPublisher.publishEvent(new ReservationPreparedEvent(
+					payments.stream().map(Payment::getReservationId).toList()));
+		}
+		log.info("결제 배치 준비 완료 - requested: {}, valid: {}, alreadyPrepared: {}, rejected: {}",
+				requests.size(), payments.size() + alreadyPrepared, alreadyPrepared, rejected.size());
+		return new BatchPrepareResult(payments.size() + alreadyPrepared, rejected);
+	}
+	
 	@Transactional(readOnly = true)
 	public Payment getPayment(String paymentId) {
 		log.info("결제 조회 - paymentId: {}", paymentId);
@@ -61,4 +125,14 @@ public class PaymentPrepareService {
 		return paymentRepository.findById(paymentId)
 				.orElseThrow(() -> PaymentException.notFound(paymentId));
 	}
+	
+	public record PrepareRequest(String reservationId, Long amount, LocalDateTime checkInDate) {
+	}
+	
+	// prepared: 저장했거나 이미 준비된 요청 수, rejected: 검증 실패 요청 (요청 목록 내 위치 순)
+	public record BatchPrepareResult(int prepared, List<RejectedRequest> rejected) {
+	}
+	
+	public record RejectedRequest(int index, IllegalArgumentException cause) {
+	}
 }
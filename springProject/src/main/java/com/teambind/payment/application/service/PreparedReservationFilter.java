@@ -0,0 +1,51 @@
+package com.teambind.payment.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 최근 결제 준비가 끝난 reservationId의 노드 로컬 집합 (Caffeine, 크기/TTL 제한)
+ * - Kafka 재전달과 Dual Path(API + 이벤트) 중복을 DB 왕복 없이 건너뛰기 위한 1차 필터
+ * - 커밋 이후에만 기록하므로 집합에 있으면 결제 행이 반드시 존재 (결제는 삭제되지 않음)
+ * - 집합에 없으면(미기록/만료/다른 노드 처리) 기존처럼 DB 멱등성 체크로 처리
+ * - 적중률은 cache.gets{cache=preparedReservations, result=hit|miss}로 노출
+ */
+@Component
+public class PreparedReservationFilter {
+	
+	private static final String CACHE_NAME = "preparedReservations";
+	
+	private final Cache<String, Boolean> preparedReservations;
+	
+	public PreparedReservationFilter(MeterRegistry meterRegistry,
+	                                 @Value("${payment.prepare.dedupe.max-size:100000}") long maxSize,
+	                                 @Value("${payment.prepare.dedupe.ttl-ms:3600000}") long ttlMs) {
+		this.preparedReservations = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(Duration.ofMillis(ttlMs))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, preparedReservations, CACHE_NAME);
+	}
+	
+	// 이 노드에서 결제 준비가 커밋된 예약인지 확인 (false면 DB로 확인 필요)
+	public boolean isPrepared(String reservationId) {
+		if (reservationId == null) {
+			return false;
+		}
+		return preparedReservations.getIfPresent(reservationId) != null;
+	}
+	
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onReservationPrepared(ReservationPreparedEvent event) {
+		event.reservationIds().forEach(reservationId -> preparedReservations.put(reservationId, Boolean.TRUE));
+	}
+}
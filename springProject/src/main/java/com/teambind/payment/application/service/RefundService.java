@@ -9,6 +9,7 @@ import com.teambind.payment.application.port.out.RefundRepository;
 import com.teambind.payment.application.port.out.TossRefundClient;
 import com.teambind.payment.common.exception.PaymentException;
 import com.teambind.payment.common.exception.RefundException;
+import com.teambind.payment.common.exception.TossApiException;
 import com.teambind.payment.domain.Money;
 import com.teambind.payment.domain.Payment;
 import com.teambind.payment.domain.Refund;
@@ -17,9 +18,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
-
+import java.util.Optional;
+
+/**
+ * 환불 처리 - 승인과 같이 단계를 나눠 토스 호출 동안 DB 트랜잭션/행 잠금을 유지하지 않음
+ * 1. 환불 시작: 결제 행 잠금 후 환불 시도(APPROVED, 시도 단위 멱등성 키)를 저장하고 커밋
+ * 2. 토스 취소 요청 (트랜잭션 밖)
+ * 3. 결과 반영: 성공 시 환불 완료 + 결제 취소 + 이벤트 저장, 거절 시 환불 시도만 실패 처리
+ * - 결과 미확정(타임아웃, 5xx)이면 환불 시도를 APPROVED로 남기고 결제는 그대로 둠 → 다음 환불 요청이 같은 금액/키로 다시 요청
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -31,29 +41,41 @@ public class RefundService {
 	private final RefundRepository refundRepository;
 	private final TossRefundClient tossRefundClient;
 	private final PaymentEventPublisher paymentEventPublisher;
+	private final TransactionOperations transactionOperations;
 
-	@Transactional
 	public Refund processRefundByReservationId(String reservationId) {
 		log.info("환불 처리 시작 - reservationId: {}", reservationId);
 
-		Payment payment = paymentRepository.findByReservationId(reservationId)
-				.orElseThrow(() -> PaymentException.notFoundByReservationId(reservationId));
-
-		return processRefundInternal(payment, DEFAULT_REFUND_REASON);
+		RefundAttempt attempt = transactionOperations.execute(status -> {
+			Payment payment = paymentRepository.findByReservationIdForUpdate(reservationId)
+					.orElseThrow(() -> PaymentException.notFoundByReservationId(reservationId));
+			return startRefund(payment, DEFAULT_REFUND_REASON);
+		});
+		return executeRefund(attempt);
 	}
 
-	@Transactional
 	public Refund processRefund(String paymentId, String reason) {
 		log.info("환불 처리 시작 - paymentId: {}, reason: {}", paymentId, reason);
 
-		Payment payment = paymentRepository.findById(paymentId)
-				.orElseThrow(() -> PaymentException.notFound(paymentId));
-
-		return processRefundInternal(payment, reason);
+		RefundAttempt attempt = transactionOperations.execute(status -> {
+			Payment payment = paymentRepository.findByIdForUpdate(paymentId)
+					.orElseThrow(() -> PaymentException.notFound(paymentId));
+			return startRefund(payment, reason);
+		});
+		return executeRefund(attempt);
 	}
 
-	private Refund processRefundInternal(Payment payment, String reason) {
+	// 결과 미확정 환불 시도가 있으면 그 시도를 그대로 다시 요청 (같은 키는 같은 요청 본문이어야 하므로 금액/사유도 재사용)
+	private RefundAttempt startRefund(Payment payment, String reason) {
 		String paymentId = payment.getPaymentId();
+
+		Optional<Refund> inFlight = refundRepository.findInFlightByPaymentId(paymentId);
+		if (inFlight.isPresent()) {
+			payment.validateCancellable();
+			log.info("결과 미확정 환불 재요청 - paymentId: {}, refundId: {}", paymentId, inFlight.get().getRefundId());
+			return new RefundAttempt(inFlight.get(), payment.getPaymentKey());
+		}
+
 		payment.validateRefundable();
 
 		RefundPolicy policy = RefundPolicy.of(payment.getCheckInDate(), LocalDateTime.now());
@@ -64,24 +86,61 @@ public class RefundService {
 
 		Refund refund = Refund.request(paymentId, payment.getAmount(), refundAmount, reason);
 		refund.approve();
-		refundRepository.save(refund);
+		return new RefundAttempt(refundRepository.save(refund), payment.getPaymentKey());
+	}
+
+	private Refund executeRefund(RefundAttempt attempt) {
+		Refund refund = attempt.refund();
+		String paymentId = refund.getPaymentId();
+
+		TossRefundRequest tossRequest = new TossRefundRequest(
+				refund.getReason(),
+				refund.getRefundAmount().getValue().longValue()
+		);
 
+		TossRefundResponse tossResponse;
 		try {
-			TossRefundRequest tossRequest = new TossRefundRequest(
-					reason,
-					refundAmount.getValue().longValue()
-			);
+			// 환불 시도 단위 멱등성 키 - 재시도/결과 미확정 후 재요청은 같은 키로 토스에서 한 번만 취소
+			tossResponse = tossRefundClient.cancelPayment(attempt.paymentKey(), tossRequest, refund.getTossIdempotencyKey());
+		} catch (TossApiException e) {
+			if (e.isOutcomeUnknown()) {
+				throw outcomeUnknown(refund, e);
+			}
+			failRefund(paymentId, refund.getRefundId(), e);
+			// 서킷 열림/동시 호출 한도 초과 - 토스로 전송되지 않은 호출은 환불 실패로 감싸지 않고 즉시 실패
+			if (e.isUnavailable()) {
+				throw e;
+			}
+			throw refundFailed(paymentId, e);
+		} catch (RuntimeException e) {
+			throw outcomeUnknown(refund, e);
+		}
 
-			TossRefundResponse tossResponse = tossRefundClient.cancelPayment(payment.getPaymentKey(), tossRequest);
+		return completeRefund(paymentId, refund.getRefundId(), tossResponse);
+	}
 
-			refund.complete(tossResponse.transactionId());
+	// 토스 취소 응답으로 환불 완료 + 결제 취소 처리
+	private Refund completeRefund(String paymentId, String refundId, TossRefundResponse response) {
+		return transactionOperations.execute(status -> {
+			// 결제 행 잠금 후 환불 조회 - 같은 환불 시도를 다시 요청한 다른 스레드와 직렬화
+			Payment payment = paymentRepository.findByIdForUpdate(paymentId)
+					.orElseThrow(() -> PaymentException.notFound(paymentId));
+			Refund refund = refundRepository.findById(refundId)
+					.orElseThrow(() -> RefundException.notFound(refundId));
+
+			// 다른 요청이 먼저 완료한 경우 그대로 반환
+			if (refund.isCompleted()) {
+				return refund;
+			}
+
+			refund.complete(response.transactionId());
 			payment.cancel();
 
 			paymentRepository.save(payment);
 			Refund completedRefund = refundRepository.save(refund);
 
 			log.info("환불 처리 완료 - refundId: {}, transactionId: {}, refundAmount: {}",
-					completedRefund.getRefundId(), completedRefund.getTransactionId(), refundAmount);
+					completedRefund.getRefundId(), completedRefund.getTransactionId(), completedRefund.getRefundAmount());
 
 			RefundCompletedEvent refundEvent = RefundCompletedEvent.from(completedRefund, payment.getReservationId());
 			paymentEventPublisher.publishRefundCompletedEvent(refundEvent);
@@ -90,24 +149,55 @@ public class RefundService {
 			paymentEventPublisher.publishPaymentCancelledEvent(cancelledEvent);
 
 			return completedRefund;
+		});
+	}
 
-		} catch (Exception e) {
-			log.error("환불 처리 실패 - paymentId: {}, error: {}", paymentId, e.getMessage(), e);
-			refund.fail(e.getMessage());
+	// 토스가 취소하지 않은 것이 확정된 환불 시도를 실패 처리 - 다음 환불 요청은 새 시도(새 키)로 진행
+	private void failRefund(String paymentId, String refundId, Exception cause) {
+		log.error("환불 처리 실패 - paymentId: {}, refundId: {}, error: {}", paymentId, refundId, cause.getMessage(), cause);
+		transactionOperations.executeWithoutResult(status -> {
+			paymentRepository.findByIdForUpdate(paymentId)
+					.orElseThrow(() -> PaymentException.notFound(paymentId));
+			Refund refund = refundRepository.findById(refundId)
+					.orElseThrow(() -> RefundException.notFound(refundId));
+
+			// 다른 요청이 먼저 확정한 경우 건너뜀
+			if (!refund.isApproved()) {
+				return;
+			}
+
+			refund.fail(failureReason(cause));
 			refundRepository.save(refund);
-			throw new RefundException(
-					com.teambind.common.exceptions.ErrorCode.REFUND_PROCESSING_FAILED,
-					"Refund processing failed for payment: " + paymentId,
-					e
-			);
-		}
+		});
+	}
+
+	private RefundException outcomeUnknown(Refund refund, Exception cause) {
+		log.warn("토스 환불 결과 미확정 - paymentId: {}, refundId: {}, 다음 환불 요청에서 같은 키로 재요청",
+				refund.getPaymentId(), refund.getRefundId(), cause);
+		return refundFailed(refund.getPaymentId(), cause);
 	}
-	
+
+	private RefundException refundFailed(String paymentId, Exception cause) {
+		return new RefundException(
+				com.teambind.common.exceptions.ErrorCode.REFUND_PROCESSING_FAILED,
+				"Refund processing failed for payment: " + paymentId,
+				cause
+		);
+	}
+
+	private String failureReason(Exception cause) {
+		return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+	}
+
 	@Transactional(readOnly = true)
 	public Refund getRefund(String refundId) {
 		log.info("환불 조회 - refundId: {}", refundId);
-		
+
 		return refundRepository.findById(refundId)
 				.orElseThrow(() -> RefundException.notFound(refundId));
 	}
+
+	// 토스에 요청할 환불 시도와 결제 키 (트랜잭션 밖에서 사용)
+	private record RefundAttempt(Refund refund, String paymentKey) {
+	}
 }
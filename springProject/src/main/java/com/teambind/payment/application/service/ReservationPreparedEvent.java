@@ -0,0 +1,13 @@
+package com.teambind.payment.application.service;
+
+import java.util.List;
+
+/**
+ * 예약의 결제가 준비(신규 저장 또는 기존 결제 확인)되었음을 알리는 애플리케이션 이벤트
+ * - 커밋 이후 PreparedReservationFilter에 기록되어 이후 중복 이벤트를 DB 조회 없이 건너뜀
+ */
+public record ReservationPreparedEvent(
+		// 결제가 준비된 예약 ID 목록
+		List<String> reservationIds
+) {
+}
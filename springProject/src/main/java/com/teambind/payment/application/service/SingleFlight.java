@@ -0,0 +1,58 @@
+package com.teambind.payment.application.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 요청 병합 (single-flight, 노드 단위)
+ * - 먼저 도착한 요청만 실행하고, 실행 중에 도착한 같은 키의 요청은 그 결과(또는 예외)를 공유
+ * - 실행이 끝나면 키를 제거하므로 이후 요청은 새로 실행 (결과 캐시 아님)
+ */
+public class SingleFlight<K, V> {
+	
+	private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	
+	public Result<V> execute(K key, Supplier<V> supplier) {
+		CompletableFuture<V> mine = new CompletableFuture<>();
+		CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+		if (existing != null) {
+			return new Result<>(await(existing), true);
+		}
+		
+		try {
+			V value = supplier.get();
+			mine.complete(value);
+			return new Result<>(value, false);
+		} catch (RuntimeException | Error e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, mine);
+		}
+	}
+	
+	public int inFlightCount() {
+		return inFlight.size();
+	}
+	
+	// 실행 중인 요청의 예외는 감싸지 않고 그대로 전달
+	private V await(CompletableFuture<V> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+	
+	// shared: 다른 요청의 실행 결과를 공유했는지 여부
+	public record Result<V>(V value, boolean shared) {
+	}
+}
@@ -39,6 +39,20 @@ PaymentException extends CustomException {
 		);
 	}
 	
+	public static PaymentException confirmationInProgress(String orderId) {
+		return new PaymentException(
+				ErrorCode.PAYMENT_CONFIRMATION_IN_PROGRESS,
+				"Payment confirmation in progress for orderId: " + orderId
+		);
+	}
+	
+	public static PaymentException confirmationFailed(String orderId) {
+		return new PaymentException(
+				ErrorCode.PAYMENT_CONFIRMATION_FAILED,
+				"Payment confirmation failed for orderId: " + orderId
+		);
+	}
+	
 	public static PaymentException alreadyCompleted(String paymentId) {
 		return new PaymentException(
 				ErrorCode.PAYMENT_ALREADY_COMPLETED,
@@ -5,16 +5,26 @@ import com.teambind.common.exceptions.ErrorCode;
 
 public class TossApiException extends CustomException {
 	
+	// 토스 측 처리 여부를 알 수 없는 실패 (타임아웃, 연결 끊김, 5xx) - 재조회 전까지 결과 확정 불가
+	private final boolean outcomeUnknown;
+	
 	public TossApiException(ErrorCode errorCode) {
 		super(errorCode);
+		this.outcomeUnknown = false;
 	}
 	
 	public TossApiException(ErrorCode errorCode, String message) {
 		super(errorCode, message);
+		this.outcomeUnknown = false;
 	}
 	
 	public TossApiException(ErrorCode errorCode, String message, Throwable cause) {
+		this(errorCode, message, cause, false);
+	}
+	
+	private TossApiException(ErrorCode errorCode, String message, Throwable cause, boolean outcomeUnknown) {
 		super(errorCode, message, cause);
+		this.outcomeUnknown = outcomeUnknown;
 	}
 	
 	public static TossApiException apiError(String message) {
@@ -38,6 +48,29 @@ public class TossApiException extends CustomException {
 		);
 	}
 	
+	// 토스가 요청을 거절한 것이 확정된 실패 (4xx)
+	public static TossApiException rejected(String message, Throwable cause) {
+		return new TossApiException(ErrorCode.TOSS_API_ERROR, message, cause, false);
+	}
+	
+	// 토스 측 처리 결과를 알 수 없는 실패 (타임아웃, 연결 오류, 5xx)
+	public static TossApiException outcomeUnknown(String message, Throwable cause) {
+		return new TossApiException(ErrorCode.TOSS_API_TIMEOUT, message, cause, true);
+	}
+	
+	// 서킷 열림/동시 호출 한도 초과로 토스에 전송하지 않고 거절한 호출
+	public static TossApiException unavailable(String message, Throwable cause) {
+		return new TossApiException(ErrorCode.TOSS_API_UNAVAILABLE, message, cause, false);
+	}
+	
+	public boolean isOutcomeUnknown() {
+		return outcomeUnknown;
+	}
+	
+	public boolean isUnavailable() {
+		return getErrorCode() == ErrorCode.TOSS_API_UNAVAILABLE;
+	}
+	
 	@Override
 	public String getExceptionType() {
 		return "EXTERNAL_API";
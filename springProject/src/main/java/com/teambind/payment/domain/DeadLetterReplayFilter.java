@@ -0,0 +1,25 @@
+package com.teambind.payment.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * DLQ 재발행 대상 조건
+ * - null인 조건은 적용하지 않음, 시간 범위는 원본 이벤트 생성 시각 기준 [from, to)
+ */
+public record DeadLetterReplayFilter(
+		EventType eventType,
+		String aggregateId,
+		LocalDateTime from,
+		LocalDateTime to,
+		int limit
+) {
+	
+	public DeadLetterReplayFilter {
+		if (from != null && to != null && !from.isBefore(to)) {
+			throw new IllegalArgumentException("재발행 시작 시각은 종료 시각보다 앞서야 합니다: " + from + " ~ " + to);
+		}
+		if (limit < 1) {
+			throw new IllegalArgumentException("재발행 최대 건수는 1 이상이어야 합니다: " + limit);
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package com.teambind.payment.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Outbox 이벤트 선점 임대(lease)
+ * - 선점 트랜잭션이 커밋된 뒤에도 임대 만료 전까지 다른 워커는 해당 이벤트를 선점하지 않음
+ * - 발행 도중 워커가 중단되면 만료 후 다른 워커가 다시 선점 (at-least-once)
+ * - owner는 선점마다 고유 (워커 ID + 선점 ID) - 결과 반영 UPDATE가 임대를 가진 선점인지 확인하는 데 사용
+ */
+public record OutboxLease(String owner, LocalDateTime acquiredAt, LocalDateTime expiresAt) {
+	
+	public OutboxLease {
+		if (owner == null || owner.isBlank()) {
+			throw new IllegalArgumentException("Lease owner는 필수입니다");
+		}
+		if (!expiresAt.isAfter(acquiredAt)) {
+			throw new IllegalArgumentException("Lease 만료 시각은 획득 시각 이후여야 합니다");
+		}
+	}
+	
+	// 같은 워커의 다른 선점(즉시 발행/스윕)과도 구분되도록 워커 ID 뒤에 선점 ID를 붙임
+	public static OutboxLease acquire(String workerId, Duration duration) {
+		LocalDateTime now = LocalDateTime.now();
+		String claimId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+		return new OutboxLease(workerId + "#" + claimId, now, now.plus(duration));
+	}
+}
@@ -0,0 +1,109 @@
+package com.teambind.payment.domain;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Outbox 이벤트 payload 저장 형식
+ * - 행마다 저장 시점의 코덱이 함께 기록되므로 코덱을 바꿔도 기존 행은 그대로 읽힘
+ * - 사전(dictionary)을 바꿀 때는 기존 상수를 수정하지 말고 새 버전 상수를 추가
+ */
+public enum PayloadCodec {
+	
+	// 기존 TEXT 컬럼 (JSON 문자열 그대로)
+	JSON_TEXT(false) {
+		@Override
+		public byte[] encode(String json) {
+			return json.getBytes(StandardCharsets.UTF_8);
+		}
+		
+		@Override
+		public byte[] decode(byte[] stored) {
+			return stored;
+		}
+	},
+	
+	// raw deflate + 이벤트 필드명 공유 사전 (BLOB 컬럼)
+	DEFLATE_DICT_V1(true) {
+		@Override
+		public byte[] encode(String json) {
+			return deflate(json.getBytes(StandardCharsets.UTF_8), DICTIONARY_V1);
+		}
+		
+		@Override
+		public byte[] decode(byte[] stored) {
+			return inflate(stored, DICTIONARY_V1);
+		}
+	};
+	
+	// 모든 payload에 반복되는 필드명/고정 값 - 짧은 JSON도 첫 바이트부터 역참조로 압축됨
+	// 자주 나오는 문자열일수록 뒤쪽에 배치 (deflate는 가까운 거리를 더 짧게 부호화)
+	private static final byte[] DICTIONARY_V1 = (
+			"{\"topic\":\"refund-completed\",\"eventType\":\"RefundCompleted\",\"refundId\":\"REF-"
+					+ "\",\"originalAmount\":,\"refundAmount\":,\"reason\":null,\"completedAt\":\""
+					+ "{\"paymentId\":\"PAY-\",\"reservationId\":\"\",\"orderId\":\"ORDER-\",\"amount\":,\"cancelledAt\":\""
+					+ "{\"paymentId\":\"PAY-\",\"reservationId\":\"\",\"orderId\":\"ORDER-\",\"paymentKey\":\""
+					+ "\",\"amount\":000,\"method\":\"CARD\",\"paidAt\":\"2025-01-01T00:00:00\"}"
+	).getBytes(StandardCharsets.UTF_8);
+	
+	private final boolean binary;
+	
+	PayloadCodec(boolean binary) {
+		this.binary = binary;
+	}
+	
+	// true: payload_binary(BLOB) 컬럼 사용, false: payload(TEXT) 컬럼 사용
+	public boolean isBinary() {
+		return binary;
+	}
+	
+	public abstract byte[] encode(String json);
+	
+	// 저장된 바이트를 JSON UTF-8 바이트로 복원
+	public abstract byte[] decode(byte[] stored);
+	
+	private static byte[] deflate(byte[] input, byte[] dictionary) {
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+		try {
+			deflater.setDictionary(dictionary);
+			deflater.setInput(input);
+			deflater.finish();
+			
+			ByteArrayOutputStream output = new ByteArrayOutputStream(input.length);
+			byte[] buffer = new byte[Math.max(64, input.length)];
+			while (!deflater.finished()) {
+				output.write(buffer, 0, deflater.deflate(buffer));
+			}
+			return output.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+	
+	private static byte[] inflate(byte[] input, byte[] dictionary) {
+		// raw deflate는 사전 요청 신호가 없으므로 입력 전에 사전을 설정
+		Inflater inflater = new Inflater(true);
+		try {
+			inflater.setDictionary(dictionary);
+			inflater.setInput(input);
+			
+			ByteArrayOutputStream output = new ByteArrayOutputStream(input.length * 3);
+			byte[] buffer = new byte[Math.max(256, input.length * 3)];
+			while (!inflater.finished()) {
+				int inflated = inflater.inflate(buffer);
+				if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IllegalStateException("손상된 payload 입니다");
+				}
+				output.write(buffer, 0, inflated);
+			}
+			return output.toByteArray();
+		} catch (DataFormatException e) {
+			throw new IllegalStateException("payload 압축 해제 실패", e);
+		} finally {
+			inflater.end();
+		}
+	}
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -70,6 +71,10 @@ public class Payment {
 	@Column(name = "cancelled_at")
 	private LocalDateTime cancelledAt;
 	
+	// 승인 시작 시각 (CONFIRMING 전환 시각, 복구 스윕의 미확정 판단 기준)
+	@Column(name = "confirm_started_at")
+	private LocalDateTime confirmStartedAt;
+	
 	// 결제 실패 사유
 	@Column(name = "failure_reason", columnDefinition = "TEXT")
 	private String failureReason;
@@ -78,7 +83,8 @@ public class Payment {
 	private Payment(String paymentId, String reservationId, Money amount, PaymentMethod method,
 	                PaymentStatus status, String orderId, String paymentKey, String transactionId,
 	                LocalDateTime checkInDate, String idempotencyKey, LocalDateTime createdAt,
-	                LocalDateTime paidAt, LocalDateTime cancelledAt, String failureReason) {
+	                LocalDateTime paidAt, LocalDateTime cancelledAt, LocalDateTime confirmStartedAt,
+	                String failureReason) {
 		this.paymentId = paymentId;
 		this.reservationId = reservationId;
 		this.amount = amount;
@@ -92,6 +98,7 @@ public class Payment {
 		this.createdAt = createdAt;
 		this.paidAt = paidAt;
 		this.cancelledAt = cancelledAt;
+		this.confirmStartedAt = confirmStartedAt;
 		this.failureReason = failureReason;
 	}
 	
@@ -156,8 +163,47 @@ public class Payment {
 		return "IDEM-" + reservationId + "-" + UUID.randomUUID().toString().substring(0, 8);
 	}
 	
+	// 토스 승인 요청 전 CONFIRMING 전환 - 승인 결과가 확정될 때까지 다른 승인 요청을 받지 않음
+	public void startConfirmation(String orderId, String paymentKey) {
+		if (this.status != PaymentStatus.PREPARED) {
+			throw new IllegalStateException("PREPARED 상태에서만 승인을 시작할 수 있습니다. 현재 상태: " + this.status);
+		}
+		validateOrderId(orderId);
+		validatePaymentKey(paymentKey);
+		
+		this.status = PaymentStatus.CONFIRMING;
+		this.orderId = orderId;
+		this.paymentKey = paymentKey;
+		this.confirmStartedAt = LocalDateTime.now();
+	}
+	
+	// 토스가 승인하지 않은 것이 확정된 경우 PREPARED로 되돌려 재승인 허용
+	public void releaseConfirmation() {
+		if (this.status != PaymentStatus.CONFIRMING) {
+			throw new IllegalStateException("CONFIRMING 상태에서만 승인을 되돌릴 수 있습니다. 현재 상태: " + this.status);
+		}
+		
+		this.status = PaymentStatus.PREPARED;
+		this.orderId = null;
+		this.paymentKey = null;
+		this.confirmStartedAt = null;
+	}
+	
+	// 토스 승인 요청 멱등성 키 - 같은 승인 시도의 재시도/헤지 요청은 같은 키, 되돌린 뒤 다른 결제 키로 재승인하면 다른 키
+	public String confirmIdempotencyKey() {
+		return deriveIdempotencyKey("confirm");
+	}
+	
+	private String deriveIdempotencyKey(String operation) {
+		if (this.paymentKey == null) {
+			throw new IllegalStateException("결제 키가 없는 결제는 토스 요청 멱등성 키를 만들 수 없습니다");
+		}
+		String seed = this.idempotencyKey + ":" + operation + ":" + this.paymentKey;
+		return UUID.nameUUIDFromBytes(seed.getBytes(StandardCharsets.UTF_8)).toString();
+	}
+	
 	public void complete(String orderId, String paymentKey, String transactionId, PaymentMethod method) {
-		validatePreparedStatus();
+		validateCompletableStatus();
 		validateOrderId(orderId);
 		validatePaymentKey(paymentKey);
 		
@@ -187,6 +233,12 @@ public class Payment {
 		this.cancelledAt = LocalDateTime.now();
 	}
 	
+	public void validateCancellable() {
+		if (this.status != PaymentStatus.COMPLETED) {
+			throw new IllegalStateException("완료된 결제만 취소할 수 있습니다. 현재 상태: " + this.status);
+		}
+	}
+	
 	public void validateRefundable() {
 		if (this.status != PaymentStatus.COMPLETED) {
 			throw new IllegalStateException("완료된 결제만 환불 가능합니다. 현재 상태: " + this.status);
@@ -206,9 +258,9 @@ public class Payment {
 		}
 	}
 	
-	private void validatePreparedStatus() {
-		if (this.status != PaymentStatus.PREPARED) {
-			throw new IllegalStateException("PREPARED 상태에서만 완료 처리 가능합니다. 현재 상태: " + this.status);
+	private void validateCompletableStatus() {
+		if (this.status != PaymentStatus.PREPARED && this.status != PaymentStatus.CONFIRMING) {
+			throw new IllegalStateException("승인 중(CONFIRMING) 또는 PREPARED 상태에서만 완료 처리 가능합니다. 현재 상태: " + this.status);
 		}
 	}
 }
@@ -29,10 +29,20 @@ public class PaymentEvent {
 	@Column(name = "event_type", nullable = false, length = 50)
 	private EventType eventType;
 	
-	// 이벤트 페이로드 (JSON 형식)
-	@Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+	// 이벤트 페이로드 (JSON 형식, JSON_TEXT 코덱일 때만 사용)
+	@Column(name = "payload", columnDefinition = "TEXT")
 	private String payload;
 	
+	// 페이로드 저장 형식 (행 단위 버전 - 기존 행은 JSON_TEXT)
+	@Enumerated(EnumType.STRING)
+	@Column(name = "payload_codec", nullable = false, length = 20)
+	private PayloadCodec payloadCodec;
+	
+	// 압축된 페이로드 (바이너리 코덱일 때만 사용)
+	@Lob
+	@Column(name = "payload_binary")
+	private byte[] payloadBinary;
+	
 	// 이벤트 상태 (대기, 발행 완료, 실패)
 	@Enumerated(EnumType.STRING)
 	@Column(name = "status", nullable = false, length = 20)
@@ -50,34 +60,60 @@ public class PaymentEvent {
 	@Column(name = "retry_count", nullable = false)
 	private Integer retryCount;
 	
+	// 다음 재발행 시도 시각 (실패 시 지수 백오프로 설정)
+	@Column(name = "next_attempt_at")
+	private LocalDateTime nextAttemptAt;
+	
 	// 발행 실패 에러 메시지
 	@Column(name = "error_message", columnDefinition = "TEXT")
 	private String errorMessage;
 	
+	// 발행 실패 이력 (재시도마다 한 줄씩 누적, DLQ 이동 시 함께 보관)
+	@Column(name = "error_history", columnDefinition = "TEXT")
+	private String errorHistory;
+	
+	// 선점한 워커 ID (발행 중 임대)
+	@Column(name = "claimed_by", length = 100)
+	private String claimedBy;
+	
+	// 선점 임대 만료 시각 (만료 후 다른 워커가 재선점 가능)
+	@Column(name = "claimed_until")
+	private LocalDateTime claimedUntil;
+	
 	@Builder
 	private PaymentEvent(Long eventId, String aggregateId, EventType eventType, String payload,
-	                     EventStatus status, LocalDateTime createdAt, LocalDateTime publishedAt,
-	                     Integer retryCount, String errorMessage) {
+	                     PayloadCodec payloadCodec, byte[] payloadBinary, EventStatus status, LocalDateTime createdAt, LocalDateTime publishedAt,
+	                     Integer retryCount, LocalDateTime nextAttemptAt, String errorMessage) {
 		this.eventId = eventId;
 		this.aggregateId = aggregateId;
 		this.eventType = eventType;
 		this.payload = payload;
+		this.payloadCodec = payloadCodec;
+		this.payloadBinary = payloadBinary;
 		this.status = status;
 		this.createdAt = createdAt;
 		this.publishedAt = publishedAt;
 		this.retryCount = retryCount;
+		this.nextAttemptAt = nextAttemptAt;
 		this.errorMessage = errorMessage;
 	}
 	
 	public static PaymentEvent create(String aggregateId, EventType eventType, String payload) {
+		return create(aggregateId, eventType, payload, PayloadCodec.JSON_TEXT);
+	}
+	
+	public static PaymentEvent create(String aggregateId, EventType eventType, String payload, PayloadCodec payloadCodec) {
 		validateAggregateId(aggregateId);
 		validateEventType(eventType);
 		validatePayload(payload);
+		validatePayloadCodec(payloadCodec);
 		
 		return PaymentEvent.builder()
 				.aggregateId(aggregateId)
 				.eventType(eventType)
-				.payload(payload)
+				.payload(payloadCodec.isBinary() ? null : payload)
+				.payloadCodec(payloadCodec)
+				.payloadBinary(payloadCodec.isBinary() ? payloadCodec.encode(payload) : null)
 				.status(EventStatus.PENDING)
 				.createdAt(LocalDateTime.now())
 				.retryCount(0)
@@ -102,6 +138,12 @@ public class PaymentEvent {
 		}
 	}
 	
+	private static void validatePayloadCodec(PayloadCodec payloadCodec) {
+		if (payloadCodec == null) {
+			throw new IllegalArgumentException("Payload codec은 필수입니다");
+		}
+	}
+	
 	private static void validateErrorMessage(String errorMessage) {
 		if (errorMessage == null || errorMessage.isBlank()) {
 			throw new IllegalArgumentException("Error message는 필수입니다");
@@ -120,9 +162,27 @@ public class PaymentEvent {
 	public void markAsFailed(String errorMessage) {
 		validateErrorMessage(errorMessage);
 		
+		LocalDateTime now = LocalDateTime.now();
 		this.status = EventStatus.FAILED;
 		this.errorMessage = errorMessage;
+		this.errorHistory = (this.errorHistory == null ? "" : this.errorHistory) + errorHistoryEntry(now, errorMessage);
 		this.retryCount++;
+		this.nextAttemptAt = RetryBackoff.nextAttemptAt(this.retryCount, now);
+	}
+	
+	// 실패 이력 한 줄 형식 (엔티티/일괄 UPDATE 공통)
+	public static String errorHistoryEntry(LocalDateTime failedAt, String errorMessage) {
+		return "[" + failedAt + "] " + errorMessage + "\n";
+	}
+	
+	// 저장 트랜잭션에서 즉시 발행 경로가 임대를 잡음 - 커밋 직후부터 스윕의 선점 대상에서 제외
+	public void lease(OutboxLease lease) {
+		if (this.status != EventStatus.PENDING) {
+			throw new IllegalStateException("발행 대기 이벤트만 임대할 수 있습니다");
+		}
+		
+		this.claimedBy = lease.owner();
+		this.claimedUntil = lease.expiresAt();
 	}
 	
 	public void resetForRetry() {
@@ -132,6 +192,15 @@ public class PaymentEvent {
 		
 		this.status = EventStatus.PENDING;
 		this.errorMessage = null;
+		this.nextAttemptAt = null;
+	}
+	
+	// 저장 형식과 무관하게 JSON UTF-8 바이트로 복원
+	public byte[] getPayloadBytes() {
+		if (payloadCodec == null || !payloadCodec.isBinary()) {
+			return PayloadCodec.JSON_TEXT.encode(payload);
+		}
+		return payloadCodec.decode(payloadBinary);
 	}
 	
 	public boolean isPending() {
@@ -2,6 +2,7 @@ package com.teambind.payment.domain;
 
 public enum PaymentStatus {
 	PREPARED,    // 결제 대기 (Kafka 이벤트로 저장된 상태)
+	CONFIRMING,  // 결제 승인 중 (토스 승인 요청 진행 중, 결과 미확정)
 	COMPLETED,   // 결제 완료 (Toss 승인 완료)
 	FAILED,      // 결제 실패
 	CANCELLED    // 결제 취소
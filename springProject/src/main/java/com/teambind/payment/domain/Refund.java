@@ -73,11 +73,15 @@ public class Refund {
 	@Column(name = "failure_reason", columnDefinition = "TEXT")
 	private String failureReason;
 	
+	// 토스 취소 요청 멱등성 키 (환불 시도 단위 - 결과 미확정 시도를 다시 요청할 때만 재사용)
+	@Column(name = "toss_idempotency_key", length = 64)
+	private String tossIdempotencyKey;
+	
 	@Builder
 	private Refund(String refundId, String paymentId, Money refundAmount, Money originalAmount,
 	               RefundStatus status, String reason, String cancelReason, String transactionId,
 	               LocalDateTime requestedAt, LocalDateTime approvedAt, LocalDateTime completedAt,
-	               String failureReason) {
+	               String failureReason, String tossIdempotencyKey) {
 		this.refundId = refundId;
 		this.paymentId = paymentId;
 		this.refundAmount = refundAmount;
@@ -90,6 +94,7 @@ public class Refund {
 		this.approvedAt = approvedAt;
 		this.completedAt = completedAt;
 		this.failureReason = failureReason;
+		this.tossIdempotencyKey = tossIdempotencyKey;
 	}
 	
 	public static Refund request(String paymentId, Money originalAmount, Money refundAmount, String reason) {
@@ -106,6 +111,7 @@ public class Refund {
 				.status(RefundStatus.PENDING)
 				.reason(reason)
 				.requestedAt(LocalDateTime.now())
+				.tossIdempotencyKey(UUID.randomUUID().toString())
 				.build();
 	}
 	
@@ -0,0 +1,48 @@
+package com.teambind.payment.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Outbox 이벤트 재발행 간격 정책 (지수 백오프 + 지터)
+ * - 지연 = min(기본 지연 * 2^(재시도 횟수 - 1), 최대 지연)
+ * - 지연의 절반은 고정, 나머지 절반은 무작위 (동시 실패한 이벤트가 한 번에 몰리지 않도록 분산)
+ */
+public final class RetryBackoff {
+	
+	private static final Duration BASE_DELAY = Duration.ofSeconds(5);
+	private static final Duration MAX_DELAY = Duration.ofMinutes(10);
+	private static final int MAX_SHIFT = 20;
+	
+	private RetryBackoff() {
+	}
+	
+	public static LocalDateTime nextAttemptAt(int retryCount, LocalDateTime failedAt) {
+		return failedAt.plus(delayFor(retryCount));
+	}
+	
+	public static Duration delayFor(int retryCount) {
+		long jitterMillis = ThreadLocalRandom.current().nextLong(jitterWindowFor(retryCount).toMillis() + 1);
+		return fixedDelayFor(retryCount).plusMillis(jitterMillis);
+	}
+	
+	// 지연의 고정 부분 - 일괄 실패 처리는 이 시각 이후 jitterWindowFor 범위에서 행마다 DB가 무작위 시각 부여
+	public static Duration fixedDelayFor(int retryCount) {
+		return Duration.ofMillis(cappedMillis(retryCount) / 2);
+	}
+	
+	// 지연의 무작위 부분 범위 [0, window]
+	public static Duration jitterWindowFor(int retryCount) {
+		return Duration.ofMillis(cappedMillis(retryCount) / 2);
+	}
+	
+	private static long cappedMillis(int retryCount) {
+		if (retryCount < 1) {
+			throw new IllegalArgumentException("재시도 횟수는 1 이상이어야 합니다");
+		}
+		
+		long exponentialMillis = BASE_DELAY.toMillis() << Math.min(retryCount - 1, MAX_SHIFT);
+		return Math.min(exponentialMillis, MAX_DELAY.toMillis());
+	}
+}
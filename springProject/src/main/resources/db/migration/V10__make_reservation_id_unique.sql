@@ -0,0 +1,45 @@
+-- 예약 ID 유니크 제약 (API/이벤트 Dual Path 멱등성 + 이벤트 배치 INSERT 중복 판정 기준 키)
+-- 같은 예약의 중복 결제는 가장 진행된 결제 하나만 남기고 정리
+--   진행 순위: 금액 이력이 있는 결제(PREPARED/FAILED 외 상태 또는 환불 이력 보유) > FAILED > PREPARED
+--   같은 순위는 가장 먼저 생성된 결제(동시각이면 payment_id가 작은 결제)를 남김
+-- 금액 이력이 있는 결제는 자동으로 합칠 수 없으므로 같은 예약에 두 건 이상이면 마이그레이션을 중단 (수동 정리 후 재실행)
+
+DELIMITER //
+BEGIN NOT ATOMIC
+    IF EXISTS (SELECT 1
+               FROM payments p
+                        JOIN payments other
+                             ON other.reservation_id = p.reservation_id
+                                 AND other.payment_id < p.payment_id
+               WHERE (p.status NOT IN ('PREPARED', 'FAILED')
+                   OR EXISTS (SELECT 1 FROM refunds r WHERE r.payment_id = p.payment_id))
+                 AND (other.status NOT IN ('PREPARED', 'FAILED')
+                   OR EXISTS (SELECT 1 FROM refunds r WHERE r.payment_id = other.payment_id))) THEN
+        SIGNAL SQLSTATE '45000'
+            SET MESSAGE_TEXT = 'V10 aborted: reservations with multiple settled payments (non PREPARED/FAILED or refunded) must be resolved manually before adding uk_reservation_id';
+    END IF;
+END //
+DELIMITER ;
+
+-- 삭제 대상은 금액 이력이 없는 PREPARED/FAILED 결제뿐이므로 refunds FK에 걸리지 않음
+DELETE p
+FROM payments p
+         JOIN payments other
+              ON other.reservation_id = p.reservation_id
+                  AND other.payment_id <> p.payment_id
+WHERE p.status IN ('PREPARED', 'FAILED')
+  AND NOT EXISTS (SELECT 1 FROM refunds r WHERE r.payment_id = p.payment_id)
+  AND (
+    -- 더 진행된 결제가 있음
+    (other.status NOT IN ('PREPARED', 'FAILED')
+        OR EXISTS (SELECT 1 FROM refunds r WHERE r.payment_id = other.payment_id)
+        OR (other.status = 'FAILED' AND p.status = 'PREPARED'))
+        -- 같은 순위에서 먼저 생성된 결제가 있음
+        OR (other.status = p.status
+        AND NOT EXISTS (SELECT 1 FROM refunds r WHERE r.payment_id = other.payment_id)
+        AND (other.created_at < p.created_at
+            OR (other.created_at = p.created_at AND other.payment_id < p.payment_id)))
+    );
+
+DROP INDEX idx_reservation_id ON payments;
+CREATE UNIQUE INDEX uk_reservation_id ON payments (reservation_id);
@@ -0,0 +1,6 @@
+-- 결제 승인 단계 분리 (PREPARED → CONFIRMING → COMPLETED)
+-- 토스 승인 요청은 트랜잭션 밖에서 수행되므로 결과가 확정되지 않은 CONFIRMING 결제를 복구 스윕이 찾을 수 있도록 시작 시각 기록
+ALTER TABLE payments
+    ADD COLUMN confirm_started_at DATETIME NULL AFTER cancelled_at;
+
+CREATE INDEX idx_status_confirm_started ON payments (status, confirm_started_at);
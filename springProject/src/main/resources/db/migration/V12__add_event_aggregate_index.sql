@@ -0,0 +1,3 @@
+-- aggregate 단위 발행 순서 확인
+-- 선점 시 같은 aggregate의 앞선 미발행 이벤트 존재 여부, 저장 시 즉시 발행 가능 여부를 인덱스 범위로 확인
+CREATE INDEX idx_aggregate_status ON payment_events (aggregate_id, status);
@@ -0,0 +1,3 @@
+-- 보관 이벤트에도 발행 실패 이력 유지 (재시도 끝에 발행된 이벤트의 이력이 보관 시 사라지지 않도록)
+ALTER TABLE payment_events_archive
+    ADD COLUMN error_history TEXT NULL COMMENT '발행 실패 이력' AFTER error_message;
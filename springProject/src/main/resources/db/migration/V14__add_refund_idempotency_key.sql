@@ -0,0 +1,6 @@
+-- 환불 시도 단위 토스 취소 멱등성 키 (결과 미확정 시도를 다시 요청할 때만 같은 키 재사용)
+-- 토스 취소 요청은 트랜잭션 밖에서 수행되므로 결과가 확정되지 않은 APPROVED 환불을 결제 단위로 찾을 수 있도록 인덱스 추가
+ALTER TABLE refunds
+    ADD COLUMN toss_idempotency_key VARCHAR(64) NULL;
+
+CREATE INDEX idx_refund_payment_status ON refunds (payment_id, status);
@@ -0,0 +1,11 @@
+-- 실패 이벤트 재발행 예정 시각 (지수 백오프 + 지터)
+ALTER TABLE payment_events
+    ADD COLUMN next_attempt_at DATETIME NULL COMMENT '다음 재발행 시도 시각' AFTER retry_count;
+
+-- 기존 FAILED 이벤트는 즉시 재시도 대상
+UPDATE payment_events
+SET next_attempt_at = CURRENT_TIMESTAMP
+WHERE status = 'FAILED';
+
+-- 재시도 스윕은 기한이 도래한 이벤트만 인덱스 범위로 조회
+CREATE INDEX idx_status_next_attempt ON payment_events (status, next_attempt_at);
@@ -0,0 +1,19 @@
+-- 보존 기간이 지난 PUBLISHED 이벤트 보관 테이블 (Outbox 핫 테이블에서 이동)
+CREATE TABLE payment_events_archive
+(
+    event_id        BIGINT PRIMARY KEY,
+    aggregate_id    VARCHAR(50) NOT NULL COMMENT 'paymentId 또는 reservationId',
+    event_type      VARCHAR(50) NOT NULL,
+    payload         TEXT        NOT NULL COMMENT 'JSON 형식의 이벤트 데이터',
+    status          VARCHAR(20) NOT NULL,
+    retry_count     INT         NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME,
+    created_at      DATETIME    NOT NULL,
+    published_at    DATETIME,
+    error_message   TEXT,
+    archived_at     DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_archive_aggregate (aggregate_id),
+    INDEX idx_archive_created (created_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
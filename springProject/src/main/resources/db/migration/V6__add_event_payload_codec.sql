@@ -0,0 +1,11 @@
+-- 이벤트 payload 압축 저장 (행 단위 코덱 버전)
+-- 기존 행은 JSON_TEXT로 남아 payload(TEXT) 컬럼에서 그대로 읽힘
+ALTER TABLE payment_events
+    MODIFY COLUMN payload TEXT NULL COMMENT 'JSON 형식의 이벤트 데이터 (JSON_TEXT 코덱)',
+    ADD COLUMN payload_codec VARCHAR(20) NOT NULL DEFAULT 'JSON_TEXT' COMMENT 'JSON_TEXT, DEFLATE_DICT_V1' AFTER payload,
+    ADD COLUMN payload_binary BLOB NULL COMMENT '압축된 이벤트 데이터 (바이너리 코덱)' AFTER payload_codec;
+
+ALTER TABLE payment_events_archive
+    MODIFY COLUMN payload TEXT NULL COMMENT 'JSON 형식의 이벤트 데이터 (JSON_TEXT 코덱)',
+    ADD COLUMN payload_codec VARCHAR(20) NOT NULL DEFAULT 'JSON_TEXT' AFTER payload,
+    ADD COLUMN payload_binary BLOB NULL AFTER payload_codec;
@@ -0,0 +1,5 @@
+-- Outbox 선점 임대 (선점 트랜잭션과 Kafka 전송 분리)
+-- 선점 트랜잭션은 임대만 기록하고 바로 커밋, 전송은 트랜잭션 밖에서 수행
+ALTER TABLE payment_events
+    ADD COLUMN claimed_by    VARCHAR(100) NULL COMMENT '선점한 워커 ID' AFTER error_message,
+    ADD COLUMN claimed_until DATETIME     NULL COMMENT '선점 임대 만료 시각' AFTER claimed_by;
@@ -0,0 +1,4 @@
+-- EventType 우선순위 선점 (타입별 할당량만큼 나눠 선점)
+-- 타입 조건이 붙어도 인덱스 범위 스캔 + created_at/next_attempt_at 순서로 바로 LIMIT 적용
+CREATE INDEX idx_status_type_created ON payment_events (status, event_type, created_at);
+CREATE INDEX idx_status_type_next_attempt ON payment_events (status, event_type, next_attempt_at);
@@ -0,0 +1,27 @@
+-- 발행 실패 이력 누적 (재시도마다 "[시각] 에러 메시지" 한 줄씩 추가)
+ALTER TABLE payment_events
+    ADD COLUMN error_history TEXT NULL COMMENT '발행 실패 이력' AFTER error_message;
+
+-- 최대 재시도 횟수를 소진한 이벤트 보관 테이블 (Outbox 핫 테이블에서 이동)
+-- 재발행 시 원래 event_id로 payment_events에 되돌리므로 같은 event_id가 여러 번 적재될 수 있음
+CREATE TABLE payment_events_dlq
+(
+    dlq_id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_id           BIGINT      NOT NULL COMMENT '원본 이벤트 ID',
+    aggregate_id       VARCHAR(50) NOT NULL COMMENT 'paymentId 또는 reservationId',
+    event_type         VARCHAR(50) NOT NULL,
+    payload            TEXT        NULL COMMENT 'JSON 형식의 이벤트 데이터 (JSON_TEXT 코덱)',
+    payload_codec      VARCHAR(20) NOT NULL DEFAULT 'JSON_TEXT',
+    payload_binary     BLOB        NULL,
+    retry_count        INT         NOT NULL,
+    created_at         DATETIME    NOT NULL,
+    last_error_message TEXT,
+    error_history      TEXT,
+    dead_lettered_at   DATETIME    NOT NULL,
+    replayed_at        DATETIME    NULL COMMENT '재발행 시각 (NULL이면 재발행 대상)',
+    INDEX idx_dlq_event_id (event_id),
+    INDEX idx_dlq_aggregate (aggregate_id),
+    INDEX idx_dlq_type_created (event_type, created_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
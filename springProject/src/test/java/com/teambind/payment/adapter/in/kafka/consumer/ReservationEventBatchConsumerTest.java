@@ -0,0 +1,149 @@
+package com.teambind.payment.adapter.in.kafka.consumer;
+
+import com.teambind.payment.adapter.in.kafka.dto.ReservationConfirmedEvent;
+import com.teambind.payment.application.service.PaymentPrepareService;
+import com.teambind.payment.application.service.PaymentPrepareService.BatchPrepareResult;
+import com.teambind.payment.application.service.PaymentPrepareService.PrepareRequest;
+import com.teambind.payment.application.service.PaymentPrepareService.RejectedRequest;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationEventBatchConsumerTest {
+	
+	private static final LocalDateTime CHECK_IN = LocalDateTime.now().plusDays(7);
+	
+	@Mock
+	private PaymentPrepareService paymentPrepareService;
+	
+	@Mock
+	private DeadLetterPublishingRecoverer reservationDeadLetterRecoverer;
+	
+	@Mock
+	private Acknowledgment acknowledgment;
+	
+	private ReservationEventBatchConsumer consumer;
+	
+	@BeforeEach
+	void setUp() {
+		consumer = new ReservationEventBatchConsumer(paymentPrepareService,
+				new ReservationDeadLetterHandler(reservationDeadLetterRecoverer));
+	}
+	
+	@Test
+	@DisplayName("배치 처리 - 검증 실패 레코드는 DLT로 보내고 배치 ACK")
+	void consume_invalidEvent_sentToDeadLetter() {
+		// given
+		ConsumerRecord<String, ReservationConfirmedEvent> invalid = record(1, "RSV-002", -1L);
+		List<ConsumerRecord<String, ReservationConfirmedEvent>> records = List.of(
+				record(0, "RSV-001", 10000L),
+				invalid,
+				record(2, "RSV-003", 30000L)
+		);
+		IllegalArgumentException cause = new IllegalArgumentException("Amount는 0보다 커야 합니다");
+		given(paymentPrepareService.preparePayments(anyList()))
+				.willReturn(new BatchPrepareResult(2, List.of(new RejectedRequest(1, cause))));
+		
+		// when
+		consumer.consumeReservationConfirmedBatch(records, acknowledgment);
+		
+		// then
+		verify(reservationDeadLetterRecoverer).accept(invalid, cause);
+		verify(acknowledgment).acknowledge();
+	}
+	
+	@Test
+	@DisplayName("배치 처리 - 값이 없는 레코드는 요청에서 제외하고 검증 실패 위치를 레코드 위치로 변환")
+	void consume_emptyAndInvalid_mapsRejectedIndexToRecord() {
+		// given
+		ConsumerRecord<String, ReservationConfirmedEvent> empty =
+				new ConsumerRecord<>("complete-reservation-info", 0, 0L, "RSV-000", null);
+		ConsumerRecord<String, ReservationConfirmedEvent> invalid = record(2, "RSV-002", -1L);
+		List<ConsumerRecord<String, ReservationConfirmedEvent>> records = List.of(
+				empty,
+				record(1, "RSV-001", 10000L),
+				invalid
+		);
+		IllegalArgumentException cause = new IllegalArgumentException("Amount는 0보다 커야 합니다");
+		given(paymentPrepareService.preparePayments(List.of(
+				new PrepareRequest("RSV-001", 10000L, CHECK_IN),
+				new PrepareRequest("RSV-002", -1L, CHECK_IN))))
+				.willReturn(new BatchPrepareResult(1, List.of(new RejectedRequest(1, cause))));
+		
+		// when
+		consumer.consumeReservationConfirmedBatch(records, acknowledgment);
+		
+		// then
+		verify(reservationDeadLetterRecoverer).accept(invalid, cause);
+		verify(acknowledgment).acknowledge();
+	}
+	
+	@Test
+	@DisplayName("배치 처리 - 건별 재처리 중 검증 실패 레코드는 DLT로 보내고 나머지를 처리")
+	void consume_oneByOneInvalidEvent_sentToDeadLetter() {
+		// given
+		ConsumerRecord<String, ReservationConfirmedEvent> invalid = record(0, "RSV-001", -1L);
+		List<ConsumerRecord<String, ReservationConfirmedEvent>> records = List.of(
+				invalid,
+				record(1, "RSV-002", 20000L)
+		);
+		IllegalArgumentException cause = new IllegalArgumentException("Amount는 0보다 커야 합니다");
+		given(paymentPrepareService.preparePayments(anyList())).willThrow(new IllegalStateException("db unavailable"));
+		willThrow(cause).given(paymentPrepareService).preparePayment("RSV-001", -1L, CHECK_IN);
+		
+		// when
+		consumer.consumeReservationConfirmedBatch(records, acknowledgment);
+		
+		// then
+		verify(reservationDeadLetterRecoverer).accept(invalid, cause);
+		verify(paymentPrepareService).preparePayment("RSV-002", 20000L, CHECK_IN);
+		verify(acknowledgment).acknowledge();
+	}
+	
+	@Test
+	@DisplayName("배치 처리 - 검증 실패 레코드의 DLT 발행 실패 시 해당 레코드 위치를 에러 핸들러에 전달")
+	void consume_deadLetterFailure_throwsBatchListenerFailedException() {
+		// given
+		ConsumerRecord<String, ReservationConfirmedEvent> invalid = record(1, "RSV-002", -1L);
+		List<ConsumerRecord<String, ReservationConfirmedEvent>> records = List.of(
+				record(0, "RSV-001", 10000L),
+				invalid
+		);
+		IllegalArgumentException cause = new IllegalArgumentException("Amount는 0보다 커야 합니다");
+		given(paymentPrepareService.preparePayments(anyList()))
+				.willReturn(new BatchPrepareResult(1, List.of(new RejectedRequest(1, cause))));
+		willThrow(new KafkaException("dlt unavailable")).given(reservationDeadLetterRecoverer).accept(invalid, cause);
+		
+		// when & then
+		assertThatThrownBy(() -> consumer.consumeReservationConfirmedBatch(records, acknowledgment))
+				.isInstanceOf(BatchListenerFailedException.class)
+				.satisfies(e -> assertThat(((BatchListenerFailedException) e).getIndex()).isEqualTo(1));
+		verify(acknowledgment, never()).acknowledge();
+	}
+	
+	private ConsumerRecord<String, ReservationConfirmedEvent> record(long offset, String reservationId, Long totalPrice) {
+		ReservationConfirmedEvent event = new ReservationConfirmedEvent(
+				"complete-reservation-info", "ReservationConfirmed", reservationId, totalPrice, CHECK_IN, LocalDateTime.now());
+		return new ConsumerRecord<>("complete-reservation-info", 0, offset, reservationId, event);
+	}
+}
@@ -0,0 +1,188 @@
+package com.teambind.payment.adapter.in.kafka.consumer;
+
+import com.teambind.payment.adapter.in.kafka.dto.ReservationConfirmedEvent;
+import com.teambind.payment.application.service.PaymentPrepareService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationEventParallelConsumerTest {
+	
+	private static final LocalDateTime CHECK_IN = LocalDateTime.now().plusDays(7);
+	
+	@Mock
+	private PaymentPrepareService paymentPrepareService;
+	
+	@Mock
+	private ReservationDeadLetterHandler reservationDeadLetterHandler;
+	
+	@Mock
+	private Acknowledgment acknowledgment;
+	
+	private ReservationEventParallelConsumer consumer;
+	
+	@BeforeEach
+	void setUp() {
+		consumer = new ReservationEventParallelConsumer(paymentPrepareService, reservationDeadLetterHandler, 4, 100);
+	}
+	
+	@AfterEach
+	void tearDown() {
+		consumer.shutdown();
+	}
+	
+	@Test
+	@DisplayName("병렬 처리 - 같은 예약의 레코드는 순서대로 처리하고 전체 성공 시 배치 ACK")
+	void consume_allSucceeded_acknowledgesBatch() throws InterruptedException {
+		// given
+		List<ConsumerRecord<String, ReservationConfirmedEvent>> records = List.of(
+				record(0, "RSV-001", 10000L),
+				record(1, "RSV-002", 20000L),
+				record(2, "RSV-001", 30000L)
+		);
+		
+		// when
+		consumer.consumeReservationConfirmedInParallel(records, acknowledgment);
+		
+		// then
+		InOrder inOrder = inOrder(paymentPrepareService);
+		inOrder.verify(paymentPrepareService).preparePayment("RSV-001", 10000L, CHECK_IN);
+		inOrder.verify(paymentPrepareService).preparePayment("RSV-001", 30000L, CHECK_IN);
+		verify(paymentPrepareService).preparePayment("RSV-002", 20000L, CHECK_IN);
+		verify(acknowledgment).acknowledge();
+	}
+	
+	@Test
+	@DisplayName("병렬 처리 - 실패 시 가장 앞선 실패 위치 이전까지만 커밋하고 같은 예약의 후속 레코드는 처리하지 않음")
+	void consume_failure_nacksFromLowestFailedIndex() throws InterruptedException {
+		// given
+		List<ConsumerRecord<String, ReservationConfirmedEvent>> records = List.of(
+				record(0, "RSV-001", 10000L),
+				record(1, "RSV-002", 20000L),
+				record(2, "RSV-002", 30000L),
+				record(3, "RSV-003", 40000L)
+		);
+		willThrow(new IllegalStateException("db unavailable"))
+				.given(paymentPrepareService).preparePayment("RSV-002", 20000L, CHECK_IN);
+		
+		// when
+		consumer.consumeReservationConfirmedInParallel(records, acknowledgment);
+		
+		// then
+		verify(paymentPrepareService, never()).preparePayment("RSV-002", 30000L, CHECK_IN);
+		verify(acknowledgment).nack(eq(1), any(Duration.class));
+		verify(acknowledgment, never()).acknowledge();
+	}
+	
+	@Test
+	@DisplayName("병렬 처리 - 검증 실패 레코드는 재전달하지 않고 DLT로 보낸 뒤 같은 예약의 다음 레코드를 처리")
+	void consume_invalidEvent_sentToDeadLetter() throws InterruptedException {
+		// given
+		ConsumerRecord<String, ReservationConfirmedEvent> invalid = record(0, "RSV-001", -1L);
+		List<ConsumerRecord<String, ReservationConfirmedEvent>> records = List.of(
+				invalid,
+				record(1, "RSV-001", 10000L)
+		);
+		IllegalArgumentException cause = new IllegalArgumentException("Amount는 0보다 커야 합니다");
+		willThrow(cause).given(paymentPrepareService).preparePayment("RSV-001", -1L, CHECK_IN);
+		
+		// when
+		consumer.consumeReservationConfirmedInParallel(records, acknowledgment);
+		
+		// then
+		verify(reservationDeadLetterHandler).handleInvalid(invalid, cause);
+		verify(paymentPrepareService).preparePayment("RSV-001", 10000L, CHECK_IN);
+		verify(acknowledgment).acknowledge();
+		verify(acknowledgment, never()).nack(anyInt(), any(Duration.class));
+	}
+	
+	@Test
+	@DisplayName("병렬 처리 - 검증 실패 레코드의 DLT 발행 실패 시 해당 레코드부터 재전달")
+	void consume_invalidEventDeadLetterFailure_nacksFromInvalidRecord() throws InterruptedException {
+		// given
+		ConsumerRecord<String, ReservationConfirmedEvent> invalid = record(1, "RSV-002", -1L);
+		List<ConsumerRecord<String, ReservationConfirmedEvent>> records = List.of(
+				record(0, "RSV-001", 10000L),
+				invalid
+		);
+		IllegalArgumentException cause = new IllegalArgumentException("Amount는 0보다 커야 합니다");
+		willThrow(cause).given(paymentPrepareService).preparePayment("RSV-002", -1L, CHECK_IN);
+		willThrow(new KafkaException("dlt unavailable"))
+				.given(reservationDeadLetterHandler).handleInvalid(invalid, cause);
+		
+		// when
+		consumer.consumeReservationConfirmedInParallel(records, acknowledgment);
+		
+		// then
+		verify(acknowledgment).nack(eq(1), any(Duration.class));
+		verify(acknowledgment, never()).acknowledge();
+	}
+	
+	@Test
+	@DisplayName("병렬 처리 - 역직렬화 실패 레코드는 DLT로 보내고 나머지를 처리한 뒤 배치 ACK")
+	void consume_undeserializableRecord_sentToDeadLetter() throws InterruptedException {
+		// given
+		ConsumerRecord<String, ReservationConfirmedEvent> undeserializable =
+				new ConsumerRecord<>("complete-reservation-info", 0, 0L, "RSV-001", null);
+		List<ConsumerRecord<String, ReservationConfirmedEvent>> records = List.of(
+				undeserializable,
+				record(1, "RSV-002", 20000L)
+		);
+		
+		// when
+		consumer.consumeReservationConfirmedInParallel(records, acknowledgment);
+		
+		// then
+		verify(reservationDeadLetterHandler).handleUndeserializable(undeserializable);
+		verify(paymentPrepareService).preparePayment("RSV-002", 20000L, CHECK_IN);
+		verify(acknowledgment).acknowledge();
+	}
+	
+	@Test
+	@DisplayName("병렬 처리 - DLT 발행 실패 시 역직렬화 실패 레코드부터 재전달")
+	void consume_deadLetterFailure_nacksFromUndeserializableRecord() throws InterruptedException {
+		// given
+		ConsumerRecord<String, ReservationConfirmedEvent> undeserializable =
+				new ConsumerRecord<>("complete-reservation-info", 0, 1L, "RSV-002", null);
+		List<ConsumerRecord<String, ReservationConfirmedEvent>> records = List.of(
+				record(0, "RSV-001", 10000L),
+				undeserializable
+		);
+		willThrow(new KafkaException("dlt unavailable"))
+				.given(reservationDeadLetterHandler).handleUndeserializable(undeserializable);
+		
+		// when
+		consumer.consumeReservationConfirmedInParallel(records, acknowledgment);
+		
+		// then
+		verify(acknowledgment).nack(eq(1), any(Duration.class));
+		verify(acknowledgment, never()).acknowledge();
+	}
+	
+	private ConsumerRecord<String, ReservationConfirmedEvent> record(long offset, String reservationId, Long totalPrice) {
+		ReservationConfirmedEvent event = new ReservationConfirmedEvent(
+				"complete-reservation-info", "ReservationConfirmed", reservationId, totalPrice, CHECK_IN, LocalDateTime.now());
+		return new ConsumerRecord<>("complete-reservation-info", 0, offset, reservationId, event);
+	}
+}
@@ -0,0 +1,88 @@
+package com.teambind.payment.adapter.in.kafka.wire;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.teambind.payment.adapter.in.kafka.dto.ReservationConfirmedEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReservationConfirmedEventDeserializerTest {
+	
+	private static final String TOPIC = "complete-reservation-info";
+	
+	private final ReservationConfirmedEventDeserializer deserializer = new ReservationConfirmedEventDeserializer();
+	
+	@Test
+	@DisplayName("기존 Jackson 매핑과 동일한 결과 - 모르는 필드(중첩 포함)는 건너뜀")
+	void deserialize_sameAsJacksonMapping() throws Exception {
+		// given
+		String json = """
+				{"topic":"complete-reservation-info","eventType":"RESERVATION_CONFIRMED",
+				 "extra":{"nested":[1,2,{"deep":true}]},"reservationId":"RSV-001","totalPrice":50000,
+				 "checkInDate":"2025-01-15T14:00:00","occurredAt":"2025-01-10T09:30:15.123456789","tags":["a","b"]}
+				""";
+		ObjectMapper objectMapper = new ObjectMapper()
+				.registerModule(new JavaTimeModule())
+				.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		
+		// when
+		ReservationConfirmedEvent event = deserializer.deserialize(TOPIC, json.getBytes(StandardCharsets.UTF_8));
+		
+		// then
+		assertThat(event).isEqualTo(objectMapper.readValue(json, ReservationConfirmedEvent.class));
+		assertThat(event.checkInDate()).isEqualTo(LocalDateTime.of(2025, 1, 15, 14, 0));
+		assertThat(event.occurredAt()).isEqualTo(LocalDateTime.of(2025, 1, 10, 9, 30, 15, 123_456_789));
+	}
+	
+	@Test
+	@DisplayName("재시도 토픽으로 발행된 레코드(배열 형식 날짜)도 그대로 복원")
+	void deserialize_retryTopicRecord_roundTrips() {
+		// given
+		ReservationConfirmedEvent original = new ReservationConfirmedEvent(TOPIC, "RESERVATION_CONFIRMED", "RSV-002",
+				70000L, LocalDateTime.of(2025, 3, 1, 15, 0), LocalDateTime.of(2025, 2, 20, 8, 5, 7, 1_000));
+		byte[] retryPayload = new JsonSerializer<ReservationConfirmedEvent>().noTypeInfo()
+				.serialize(TOPIC + "-retry-0", original);
+		
+		// when
+		ReservationConfirmedEvent event = deserializer.deserialize(TOPIC + "-retry-0", retryPayload);
+		
+		// then
+		assertThat(event).isEqualTo(original);
+	}
+	
+	@Test
+	@DisplayName("잘못된 JSON/날짜는 SerializationException (ErrorHandlingDeserializer가 DLT로 전달)")
+	void deserialize_malformed_throwsSerializationException() {
+		// given
+		byte[] brokenJson = "{\"reservationId\":\"RSV-003\",".getBytes(StandardCharsets.UTF_8);
+		byte[] invalidDate = "{\"checkInDate\":\"2025-13-01T10:00:00\"}".getBytes(StandardCharsets.UTF_8);
+		
+		// when & then
+		assertThatThrownBy(() -> deserializer.deserialize(TOPIC, brokenJson))
+				.isInstanceOf(SerializationException.class);
+		assertThatThrownBy(() -> deserializer.deserialize(TOPIC, invalidDate))
+				.isInstanceOf(SerializationException.class);
+	}
+	
+	@Test
+	@DisplayName("문자열 금액 - 숫자는 변환하고 숫자가 아니면 0이 아닌 SerializationException")
+	void deserialize_stringTotalPrice() {
+		// given
+		byte[] numericPrice = "{\"reservationId\":\"RSV-004\",\"totalPrice\":\"50000\"}".getBytes(StandardCharsets.UTF_8);
+		byte[] malformedPrice = "{\"reservationId\":\"RSV-005\",\"totalPrice\":\"abc\"}".getBytes(StandardCharsets.UTF_8);
+		
+		// when & then
+		assertThat(deserializer.deserialize(TOPIC, numericPrice).totalPrice()).isEqualTo(50000L);
+		assertThatThrownBy(() -> deserializer.deserialize(TOPIC, malformedPrice))
+				.isInstanceOf(SerializationException.class);
+	}
+}
@@ -0,0 +1,88 @@
+package com.teambind.payment.adapter.out.kafka.wire;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.teambind.payment.adapter.out.kafka.dto.RefundCompletedEvent;
+import com.teambind.payment.domain.EventType;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PaymentEventWireEncoder 테스트")
+class PaymentEventWireEncoderTest {
+	
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+	
+	private final PaymentEventSchemaRegistry schemaRegistry = new PaymentEventSchemaRegistry();
+	
+	private PaymentEventWireEncoder wireEncoder;
+	
+	@BeforeEach
+	void setUp() {
+		wireEncoder = new PaymentEventWireEncoder(
+				objectMapper,
+				schemaRegistry,
+				WireFormat.JSON,
+				WireFormat.JSON,
+				WireFormat.AVRO
+		);
+	}
+	
+	@Test
+	@DisplayName("AVRO 토픽 - 고정값 필드를 제외한 바이너리로 변환하고 schema-id 헤더 부착")
+	void toRecord_avroTopic_encodesWithSchemaId() throws Exception {
+		// given
+		RefundCompletedEvent event = new RefundCompletedEvent(
+				"refund-completed", "RefundCompleted", "REF-001", "PAY-001", "RSV-001",
+				50000L, 45000L, "사용자 요청", LocalDateTime.of(2025, 1, 1, 10, 0, 0));
+		byte[] json = objectMapper.writeValueAsBytes(event);
+		
+		// when
+		ProducerRecord<String, byte[]> record = wireEncoder.toRecord("refund-completed", EventType.REFUND_COMPLETED, 10L, "PAY-001", json);
+		
+		// then
+		assertThat(record.value().length).isLessThan(json.length / 2);
+		assertThat(new String(record.headers().lastHeader(PaymentEventWireEncoder.SCHEMA_ID_HEADER).value(), StandardCharsets.UTF_8))
+				.isEqualTo(schemaRegistry.get(EventType.REFUND_COMPLETED).schemaId());
+		
+		RefundCompletedEvent decoded = wireEncoder.fromAvro(record.value(), EventType.REFUND_COMPLETED, RefundCompletedEvent.class);
+		assertThat(decoded.refundId()).isEqualTo("REF-001");
+		assertThat(decoded.refundAmount()).isEqualTo(45000L);
+		assertThat(decoded.completedAt()).isEqualTo(LocalDateTime.of(2025, 1, 1, 10, 0, 0));
+		assertThat(decoded.topic()).isNull();
+	}
+	
+	@Test
+	@DisplayName("JSON 토픽 - 저장된 payload를 그대로 전송하고 event-id 헤더만 부착")
+	void toRecord_jsonTopic_passesThrough() {
+		// given
+		byte[] json = "{\"paymentId\":\"PAY-001\",\"amount\":50000}".getBytes(StandardCharsets.UTF_8);
+		
+		// when
+		ProducerRecord<String, byte[]> record = wireEncoder.toRecord("payment-completed", EventType.PAYMENT_COMPLETED, 11L, "PAY-001", json);
+		
+		// then
+		assertThat(record.value()).isSameAs(json);
+		assertThat(record.headers().lastHeader(PaymentEventWireEncoder.SCHEMA_ID_HEADER)).isNull();
+		assertThat(new String(record.headers().lastHeader(PaymentEventWireEncoder.EVENT_ID_HEADER).value(), StandardCharsets.UTF_8))
+				.isEqualTo("11");
+	}
+	
+	@Test
+	@DisplayName("schema-id로 스키마 조회 - 컨슈머 측 해석")
+	void findBySchemaId_returnsRegisteredSchema() {
+		// given
+		String schemaId = schemaRegistry.get(EventType.PAYMENT_COMPLETED).schemaId();
+		
+		// when & then
+		assertThat(schemaRegistry.findBySchemaId(schemaId))
+				.hasValueSatisfying(eventSchema -> assertThat(eventSchema.avroSchema().getAvroSchema().getName())
+						.isEqualTo("PaymentCompleted"));
+	}
+}
@@ -2,13 +2,20 @@ package com.teambind.payment.adapter.out.persistence;
 
 import com.teambind.payment.domain.EventStatus;
 import com.teambind.payment.domain.EventType;
+import com.teambind.payment.domain.OutboxLease;
+import com.teambind.payment.domain.PayloadCodec;
 import com.teambind.payment.domain.PaymentEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +34,9 @@ class PaymentEventRepositoryAdapterTest {
 	@Autowired
 	private PaymentEventRepositoryAdapter eventRepository;
 	
+	@Autowired
+	private TestEntityManager entityManager;
+	
 	@Test
 	@DisplayName("이벤트 저장 및 조회 - 성공")
 	void save_AndFindById_Success() {
@@ -49,6 +59,25 @@ class PaymentEventRepositoryAdapterTest {
 		assertThat(foundEvent.get().getStatus()).isEqualTo(EventStatus.PENDING);
 	}
 	
+	@Test
+	@DisplayName("압축 저장 이벤트 조회 - 원본 JSON 바이트로 복원")
+	void save_CompressedPayload_RoundTrip() {
+		// Given
+		String payload = "{\"paymentId\":\"PAY-001\",\"reservationId\":\"RSV-001\",\"amount\":50000}";
+		PaymentEvent event = PaymentEvent.create("PAY-001", EventType.PAYMENT_COMPLETED, payload, PayloadCodec.DEFLATE_DICT_V1);
+		
+		// When
+		PaymentEvent savedEvent = eventRepository.save(event);
+		entityManager.flush();
+		entityManager.clear();
+		PaymentEvent foundEvent = eventRepository.findById(savedEvent.getEventId()).orElseThrow();
+		
+		// Then
+		assertThat(foundEvent.getPayloadCodec()).isEqualTo(PayloadCodec.DEFLATE_DICT_V1);
+		assertThat(foundEvent.getPayload()).isNull();
+		assertThat(foundEvent.getPayloadBytes()).isEqualTo(payload.getBytes(StandardCharsets.UTF_8));
+	}
+	
 	@Test
 	@DisplayName("발행 대기중인 이벤트 조회 - 성공")
 	void findPendingEvents_Success() {
@@ -131,4 +160,179 @@ class PaymentEventRepositoryAdapterTest {
 		// Then
 		assertThat(pendingEvents).isEmpty();
 	}
+	
+	@Test
+	@DisplayName("이벤트 상태 일괄 업데이트 - PUBLISHED / FAILED")
+	void markAll_PublishedAndFailed_Success() {
+		// Given
+		OutboxLease lease = leaseAt(LocalDateTime.now());
+		PaymentEvent event1 = eventRepository.save(leased(PaymentEvent.create("PAY-001", EventType.PAYMENT_COMPLETED, "{\"data\":\"test1\"}"), lease));
+		PaymentEvent event2 = eventRepository.save(leased(PaymentEvent.create("PAY-002", EventType.PAYMENT_COMPLETED, "{\"data\":\"test2\"}"), lease));
+		PaymentEvent event3 = eventRepository.save(leased(PaymentEvent.create("PAY-003", EventType.PAYMENT_COMPLETED, "{\"data\":\"test3\"}"), lease));
+		
+		// When
+		int published = eventRepository.markAllAsPublished(
+				List.of(event1.getEventId(), event2.getEventId()), lease.owner(), LocalDateTime.now());
+		LocalDateTime nextAttemptAt = LocalDateTime.now().plusSeconds(5);
+		int failed = eventRepository.markAllAsFailed(List.of(event3.getEventId()), lease.owner(), "broker unavailable", nextAttemptAt, Duration.ZERO);
+		
+		// Then
+		assertThat(published).isEqualTo(2);
+		assertThat(failed).isEqualTo(1);
+		assertThat(eventRepository.findById(event1.getEventId()).get().getStatus()).isEqualTo(EventStatus.PUBLISHED);
+		assertThat(eventRepository.findById(event2.getEventId()).get().getPublishedAt()).isNotNull();
+		PaymentEvent failedEvent = eventRepository.findById(event3.getEventId()).get();
+		assertThat(failedEvent.getStatus()).isEqualTo(EventStatus.FAILED);
+		assertThat(failedEvent.getRetryCount()).isEqualTo(1);
+		assertThat(failedEvent.getErrorMessage()).isEqualTo("broker unavailable");
+		assertThat(failedEvent.getNextAttemptAt()).isNotNull();
+	}
+	
+	@Test
+	@DisplayName("이벤트 상태 일괄 업데이트 - 함께 실패한 이벤트도 재발행 시각은 지터 범위 안에서 행마다 다름")
+	void markAllAsFailed_JittersEachRow() {
+		// Given
+		OutboxLease lease = leaseAt(LocalDateTime.now());
+		List<Long> eventIds = new ArrayList<>();
+		for (int i = 1; i <= 5; i++) {
+			eventIds.add(eventRepository.save(leased(
+					PaymentEvent.create("PAY-00" + i, EventType.PAYMENT_COMPLETED, "{\"data\":\"test\"}"), lease)).getEventId());
+		}
+		LocalDateTime earliestAttemptAt = LocalDateTime.now().plusSeconds(5).withNano(0);
+		Duration jitter = Duration.ofMinutes(10);
+		
+		// When
+		int failed = eventRepository.markAllAsFailed(eventIds, lease.owner(), "broker unavailable", earliestAttemptAt, jitter);
+		
+		// Then
+		List<LocalDateTime> nextAttempts = eventIds.stream()
+				.map(eventId -> eventRepository.findById(eventId).get().getNextAttemptAt())
+				.toList();
+		assertThat(failed).isEqualTo(5);
+		assertThat(nextAttempts).allSatisfy(nextAttemptAt -> assertThat(nextAttemptAt)
+				.isAfterOrEqualTo(earliestAttemptAt)
+				.isBeforeOrEqualTo(earliestAttemptAt.plus(jitter)));
+		assertThat(nextAttempts).doesNotHaveDuplicates();
+	}
+	
+	@Test
+	@DisplayName("이벤트 상태 일괄 업데이트 - 임대를 잃은 선점의 결과는 재선점/발행 완료된 행을 덮어쓰지 않음")
+	void markAll_StaleOwner_Ignored() {
+		// Given - 즉시 발행 임대가 만료되어 스윕이 재선점 후 발행 완료
+		LocalDateTime now = LocalDateTime.now();
+		OutboxLease fastPathLease = leaseAt(now.minusMinutes(2));
+		PaymentEvent event = eventRepository.save(leased(PaymentEvent.create("PAY-001", EventType.PAYMENT_COMPLETED, "{\"data\":\"test1\"}"), fastPathLease));
+		OutboxLease sweepLease = leaseAt(now);
+		eventRepository.claimPendingEvents(EventType.PAYMENT_COMPLETED, now.plusSeconds(1), sweepLease, 10);
+		eventRepository.markAllAsPublished(List.of(event.getEventId()), sweepLease.owner(), now);
+		
+		// When - 늦게 도착한 즉시 발행 경로의 실패 결과
+		int failed = eventRepository.markAllAsFailed(List.of(event.getEventId()), fastPathLease.owner(), "ack timeout", now.plusSeconds(5), Duration.ZERO);
+		int republished = eventRepository.markAllAsPublished(List.of(event.getEventId()), sweepLease.owner(), now.plusSeconds(1));
+		
+		// Then
+		assertThat(failed).isZero();
+		assertThat(republished).isZero();
+		PaymentEvent stored = eventRepository.findById(event.getEventId()).get();
+		assertThat(stored.getStatus()).isEqualTo(EventStatus.PUBLISHED);
+		assertThat(stored.getRetryCount()).isZero();
+	}
+	
+	@Test
+	@DisplayName("발행 대기 이벤트 선점 - 기준 시각 이전에 생성된 PENDING 이벤트만 선점")
+	void claimPendingEvents_Success() {
+		// Given
+		PaymentEvent pending = eventRepository.save(PaymentEvent.create("PAY-001", EventType.PAYMENT_COMPLETED, "{\"data\":\"test1\"}"));
+		PaymentEvent published = PaymentEvent.create("PAY-002", EventType.PAYMENT_COMPLETED, "{\"data\":\"test2\"}");
+		published.markAsPublished();
+		eventRepository.save(published);
+		
+		// When
+		List<PaymentEvent> claimed = eventRepository.claimPendingEvents(EventType.PAYMENT_COMPLETED, LocalDateTime.now().plusSeconds(1), leaseAt(LocalDateTime.now()), 10);
+		List<PaymentEvent> notYetDue = eventRepository.claimPendingEvents(EventType.PAYMENT_COMPLETED, LocalDateTime.now().minusMinutes(1), leaseAt(LocalDateTime.now()), 10);
+		
+		// Then
+		assertThat(claimed).extracting(PaymentEvent::getEventId).containsExactly(pending.getEventId());
+		assertThat(notYetDue).isEmpty();
+	}
+	
+	@Test
+	@DisplayName("재발행 시각이 도래한 실패 이벤트만 선점")
+	void claimDueFailedEvents_OnlyDueEvents() {
+		// Given
+		PaymentEvent failed = PaymentEvent.create("PAY-001", EventType.PAYMENT_COMPLETED, "{\"data\":\"test1\"}");
+		failed.markAsFailed("Error 1");
+		eventRepository.save(failed);
+		
+		// When
+		List<PaymentEvent> beforeDue = eventRepository.claimDueFailedEvents(EventType.PAYMENT_COMPLETED, 5, leaseAt(LocalDateTime.now().minusSeconds(1)), 10);
+		List<PaymentEvent> afterDue = eventRepository.claimDueFailedEvents(EventType.PAYMENT_COMPLETED, 5, leaseAt(failed.getNextAttemptAt().plusSeconds(1)), 10);
+		
+		// Then
+		assertThat(beforeDue).isEmpty();
+		assertThat(afterDue).extracting(PaymentEvent::getEventId).containsExactly(failed.getEventId());
+	}
+	
+	@Test
+	@DisplayName("발행 대기 이벤트 선점 - 임대 중인 이벤트는 만료 전까지 다시 선점되지 않음")
+	void claimPendingEvents_SkipsLeasedEvents() {
+		// Given
+		PaymentEvent pending = eventRepository.save(PaymentEvent.create("PAY-001", EventType.PAYMENT_COMPLETED, "{\"data\":\"test1\"}"));
+		LocalDateTime now = LocalDateTime.now();
+		eventRepository.claimPendingEvents(EventType.PAYMENT_COMPLETED, now.plusSeconds(1), leaseAt(now), 10);
+		
+		// When
+		List<PaymentEvent> whileLeased = eventRepository.claimPendingEvents(EventType.PAYMENT_COMPLETED, now.plusSeconds(1), leaseAt(now.plusSeconds(30)), 10);
+		List<PaymentEvent> afterExpiry = eventRepository.claimPendingEvents(EventType.PAYMENT_COMPLETED, now.plusSeconds(1), leaseAt(now.plusMinutes(2)), 10);
+		
+		// Then
+		assertThat(whileLeased).isEmpty();
+		assertThat(afterExpiry).extracting(PaymentEvent::getEventId).containsExactly(pending.getEventId());
+	}
+	
+	@Test
+	@DisplayName("발행 대기 이벤트 선점 - 같은 aggregate의 앞선 이벤트가 재시도 대기 중이면 후속 이벤트를 선점하지 않음")
+	void claimPendingEvents_SkipsAggregateWithOlderUnpublishedEvent() {
+		// Given
+		PaymentEvent completed = PaymentEvent.create("PAY-001", EventType.PAYMENT_COMPLETED, "{\"data\":\"test1\"}");
+		completed.markAsFailed("broker unavailable");
+		eventRepository.save(completed);
+		eventRepository.save(PaymentEvent.create("PAY-001", EventType.REFUND_COMPLETED, "{\"data\":\"test2\"}"));
+		PaymentEvent other = eventRepository.save(PaymentEvent.create("PAY-002", EventType.REFUND_COMPLETED, "{\"data\":\"test3\"}"));
+		LocalDateTime now = LocalDateTime.now();
+		
+		// When
+		List<PaymentEvent> claimed = eventRepository.claimPendingEvents(EventType.REFUND_COMPLETED, now.plusSeconds(1), leaseAt(now), 10);
+		
+		// Then
+		assertThat(claimed).extracting(PaymentEvent::getEventId).containsExactly(other.getEventId());
+		assertThat(eventRepository.hasUnpublishedEvents("PAY-001")).isTrue();
+	}
+	
+	@Test
+	@DisplayName("발행 대기 이벤트 선점 - 요청한 EventType의 이벤트만 선점")
+	void claimPendingEvents_OnlyRequestedType() {
+		// Given
+		PaymentEvent completed = eventRepository.save(PaymentEvent.create("PAY-001", EventType.PAYMENT_COMPLETED, "{\"data\":\"test1\"}"));
+		PaymentEvent refunded = eventRepository.save(PaymentEvent.create("PAY-002", EventType.REFUND_COMPLETED, "{\"data\":\"test2\"}"));
+		LocalDateTime now = LocalDateTime.now();
+		
+		// When
+		List<PaymentEvent> claimedRefunds = eventRepository.claimPendingEvents(EventType.REFUND_COMPLETED, now.plusSeconds(1), leaseAt(now), 10);
+		
+		// Then
+		assertThat(claimedRefunds).extracting(PaymentEvent::getEventId).containsExactly(refunded.getEventId());
+		assertThat(eventRepository.claimPendingEvents(EventType.PAYMENT_COMPLETED, now.plusSeconds(1), leaseAt(now), 10))
+				.extracting(PaymentEvent::getEventId).containsExactly(completed.getEventId());
+	}
+	
+	// acquiredAt 기준 1분 임대 (선점마다 다른 owner)
+	private OutboxLease leaseAt(LocalDateTime acquiredAt) {
+		return new OutboxLease("worker-1#" + acquiredAt, acquiredAt, acquiredAt.plusMinutes(1));
+	}
+	
+	private PaymentEvent leased(PaymentEvent event, OutboxLease lease) {
+		event.lease(lease);
+		return event;
+	}
 }
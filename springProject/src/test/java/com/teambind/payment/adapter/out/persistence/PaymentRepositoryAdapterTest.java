@@ -8,11 +8,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @Import(PaymentRepositoryAdapter.class)
@@ -107,4 +111,43 @@ class PaymentRepositoryAdapterTest {
 		assertThat(foundPayment.get().getPaymentKey()).isEqualTo("KEY-001");
 		assertThat(foundPayment.get().getPaidAt()).isNotNull();
 	}
+	
+	@Test
+	@DisplayName("다건 저장 - 이미 준비된 예약 ID는 건너뛰고 기존 결제 유지")
+	void saveAllIgnoringDuplicates_SkipsExistingReservation() {
+		// Given
+		Payment existing = Payment.prepare("RSV-005", Money.of(50000), LocalDateTime.now().plusDays(7));
+		paymentRepository.saveAllIgnoringDuplicates(List.of(existing));
+		
+		Payment duplicate = Payment.prepare("RSV-005", Money.of(70000), LocalDateTime.now().plusDays(7));
+		Payment fresh = Payment.prepare("RSV-006", Money.of(30000), LocalDateTime.now().plusDays(7));
+		
+		// When
+		paymentRepository.saveAllIgnoringDuplicates(List.of(duplicate, fresh));
+		
+		// Then
+		assertThat(paymentRepository.findByReservationId("RSV-005"))
+				.get()
+				.extracting(Payment::getPaymentId)
+				.isEqualTo(existing.getPaymentId());
+		assertThat(paymentRepository.findByReservationId("RSV-006"))
+				.get()
+				.extracting(Payment::getAmount)
+				.isEqualTo(Money.of(30000));
+	}
+	
+	@Test
+	@DisplayName("다건 저장 - 예약 ID 외 키(payment_id) 충돌은 건너뛰지 않고 실패")
+	void saveAllIgnoringDuplicates_OtherKeyCollision_Fails() {
+		// Given
+		Payment existing = Payment.prepare("RSV-007", Money.of(50000), LocalDateTime.now().plusDays(7));
+		paymentRepository.saveAllIgnoringDuplicates(List.of(existing));
+		
+		Payment collision = Payment.prepare("RSV-008", Money.of(30000), LocalDateTime.now().plusDays(7));
+		ReflectionTestUtils.setField(collision, "paymentId", existing.getPaymentId());
+		
+		// When & Then
+		assertThatThrownBy(() -> paymentRepository.saveAllIgnoringDuplicates(List.of(collision)))
+				.isInstanceOf(DataIntegrityViolationException.class);
+	}
 }
@@ -0,0 +1,166 @@
+package com.teambind.payment.adapter.out.toss;
+
+import com.teambind.common.exceptions.ErrorCode;
+import com.teambind.payment.common.exception.TossApiException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TossCallGuardTest {
+	
+	private final CircuitBreaker circuitBreaker = CircuitBreaker.of("tossPayment", CircuitBreakerConfig.custom()
+			.slidingWindowSize(4)
+			.minimumNumberOfCalls(4)
+			.failureRateThreshold(50)
+			.recordException(TossCallGuard::isFailure)
+			.build());
+	
+	private final Retry noRetry = Retry.of("tossPayment", RetryConfig.custom()
+			.maxAttempts(1)
+			.build());
+	
+	private final Retry retry = Retry.of("tossPayment", RetryConfig.custom()
+			.maxAttempts(3)
+			.waitDuration(Duration.ofMillis(1))
+			.retryOnException(TossCallGuard::isRetryable)
+			.build());
+	
+	@Test
+	@DisplayName("서킷이 열리면 토스 호출 없이 unavailable 예외로 즉시 실패")
+	void call_circuitOpen_failsFastWithoutCallingToss() {
+		// given
+		TossCallGuard guard = new TossCallGuard(circuitBreaker, Bulkhead.ofDefaults("tossPayment"), noRetry);
+		for (int i = 0; i < 4; i++) {
+			assertThatThrownBy(() -> guard.call("토스 결제 승인", () -> {
+				throw new IllegalStateException("connection reset");
+			}))
+					.isInstanceOfSatisfying(TossApiException.class, e -> assertThat(e.isOutcomeUnknown()).isTrue());
+		}
+		AtomicInteger calls = new AtomicInteger();
+		
+		// when & then
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThatThrownBy(() -> guard.call("토스 결제 승인", calls::incrementAndGet))
+				.isInstanceOfSatisfying(TossApiException.class, e -> {
+					assertThat(e.isUnavailable()).isTrue();
+					assertThat(e.getErrorCode()).isEqualTo(ErrorCode.TOSS_API_UNAVAILABLE);
+				});
+		assertThat(calls).hasValue(0);
+	}
+	
+	@Test
+	@DisplayName("4xx 거절은 rejected로 변환되고 서킷 실패율에 집계되지 않음")
+	void call_clientError_rejectedAndNotRecordedAsFailure() {
+		// given
+		TossCallGuard guard = new TossCallGuard(circuitBreaker, Bulkhead.ofDefaults("tossPayment"), noRetry);
+		
+		// when
+		for (int i = 0; i < 4; i++) {
+			assertThatThrownBy(() -> guard.call("토스 결제 승인", () -> {
+				throw WebClientResponseException.create(400, "Bad Request", null, null, null);
+			}))
+					.isInstanceOfSatisfying(TossApiException.class, e -> {
+						assertThat(e.isOutcomeUnknown()).isFalse();
+						assertThat(e.getErrorCode()).isEqualTo(ErrorCode.TOSS_API_ERROR);
+					});
+		}
+		
+		// then
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+	}
+	
+	@Test
+	@DisplayName("동시 호출 한도를 넘으면 대기 없이 unavailable 예외로 거절")
+	void call_bulkheadFull_rejectsImmediately() {
+		// given
+		Bulkhead bulkhead = Bulkhead.of("tossPayment", BulkheadConfig.custom()
+				.maxConcurrentCalls(1)
+				.maxWaitDuration(Duration.ZERO)
+				.build());
+		TossCallGuard guard = new TossCallGuard(circuitBreaker, bulkhead, noRetry);
+		
+		// when & then - 첫 호출이 진행 중인 동안 두 번째 호출은 즉시 거절
+		String result = guard.call("토스 결제 승인", () -> {
+			assertThatThrownBy(() -> guard.call("토스 결제 승인", () -> "second"))
+					.isInstanceOfSatisfying(TossApiException.class, e -> assertThat(e.isUnavailable()).isTrue());
+			return "first";
+		});
+		assertThat(result).isEqualTo("first");
+	}
+	
+	@Test
+	@DisplayName("결과를 알 수 없는 오류는 재시도하여 성공 응답 반환")
+	void call_outcomeUnknown_retriedUntilSuccess() {
+		// given
+		TossCallGuard guard = new TossCallGuard(circuitBreaker, Bulkhead.ofDefaults("tossPayment"), retry);
+		AtomicInteger calls = new AtomicInteger();
+		
+		// when
+		String result = guard.call("토스 결제 승인", () -> {
+			if (calls.incrementAndGet() < 3) {
+				throw WebClientResponseException.create(503, "Service Unavailable", null, null, null);
+			}
+			return "approved";
+		});
+		
+		// then
+		assertThat(result).isEqualTo("approved");
+		assertThat(calls).hasValue(3);
+	}
+	
+	@Test
+	@DisplayName("4xx 거절과 서킷 열림은 재시도하지 않음")
+	void call_rejectedOrCircuitOpen_notRetried() {
+		// given
+		TossCallGuard guard = new TossCallGuard(circuitBreaker, Bulkhead.ofDefaults("tossPayment"), retry);
+		AtomicInteger calls = new AtomicInteger();
+		
+		// when & then
+		assertThatThrownBy(() -> guard.call("토스 결제 승인", () -> {
+			calls.incrementAndGet();
+			throw WebClientResponseException.create(400, "Bad Request", null, null, null);
+		}))
+				.isInstanceOfSatisfying(TossApiException.class, e -> assertThat(e.isOutcomeUnknown()).isFalse());
+		assertThat(calls).hasValue(1);
+		
+		circuitBreaker.transitionToOpenState();
+		assertThatThrownBy(() -> guard.call("토스 결제 승인", calls::incrementAndGet))
+				.isInstanceOfSatisfying(TossApiException.class, e -> assertThat(e.isUnavailable()).isTrue());
+		assertThat(retry.getMetrics().getNumberOfFailedCallsWithoutRetryAttempt()).isEqualTo(2);
+	}
+	
+	@Test
+	@DisplayName("타임아웃 후 재시도가 4xx로 끝나면 앞선 시도 결과를 알 수 없으므로 outcomeUnknown")
+	void call_timeoutThenClientError_outcomeUnknown() {
+		// given - 첫 시도는 타임아웃, 같은 멱등성 키의 재시도는 처리 중 중복 요청으로 409
+		TossCallGuard guard = new TossCallGuard(circuitBreaker, Bulkhead.ofDefaults("tossPayment"), retry);
+		AtomicInteger calls = new AtomicInteger();
+		
+		// when & then
+		assertThatThrownBy(() -> guard.call("토스 결제 승인", () -> {
+			if (calls.incrementAndGet() == 1) {
+				throw new IllegalStateException(new TimeoutException("read timeout"));
+			}
+			throw WebClientResponseException.create(409, "Conflict", null, null, null);
+		}))
+				.isInstanceOfSatisfying(TossApiException.class, e -> {
+					assertThat(e.isOutcomeUnknown()).isTrue();
+					assertThat(e.getErrorCode()).isEqualTo(ErrorCode.TOSS_API_TIMEOUT);
+				});
+		assertThat(calls).hasValue(2);
+	}
+}
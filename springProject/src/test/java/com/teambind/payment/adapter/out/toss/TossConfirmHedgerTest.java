@@ -0,0 +1,75 @@
+package com.teambind.payment.adapter.out.toss;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TossConfirmHedgerTest {
+	
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	
+	@Test
+	@DisplayName("첫 응답이 지연되면 헤지 요청을 보내고 먼저 온 성공 응답 반환")
+	void call_slowPrimary_hedgeWins() {
+		// given
+		TossConfirmHedger hedger = new TossConfirmHedger(meterRegistry, true, 50, 10, 100);
+		AtomicInteger subscriptions = new AtomicInteger();
+		Mono<String> request = Mono.defer(() -> subscriptions.incrementAndGet() == 1
+				? Mono.just("primary").delayElement(Duration.ofSeconds(5))
+				: Mono.just("hedge"));
+		
+		// when
+		String result = hedger.call(request);
+		
+		// then
+		assertThat(result).isEqualTo("hedge");
+		assertThat(subscriptions).hasValue(2);
+		assertThat(meterRegistry.counter("toss.payment.confirm.hedged").count()).isEqualTo(1.0);
+	}
+	
+	@Test
+	@DisplayName("첫 요청과 헤지 요청이 모두 실패하면 첫 요청의 오류 전달")
+	void call_bothFail_primaryErrorPropagated() {
+		// given
+		TossConfirmHedger hedger = new TossConfirmHedger(meterRegistry, true, 50, 10, 100);
+		AtomicInteger subscriptions = new AtomicInteger();
+		Mono<String> request = Mono.defer(() -> subscriptions.incrementAndGet() == 1
+				? Mono.delay(Duration.ofMillis(200)).then(Mono.error(
+						WebClientResponseException.create(400, "Bad Request", null, null, null)))
+				: Mono.error(new IllegalStateException("처리 중인 중복 요청")));
+		
+		// when & then
+		assertThatThrownBy(() -> hedger.call(request))
+				.isInstanceOfSatisfying(WebClientResponseException.class,
+						e -> assertThat(e.getStatusCode().value()).isEqualTo(400));
+		assertThat(subscriptions).hasValue(2);
+	}
+	
+	@Test
+	@DisplayName("헤지 비활성화 시 한 번만 요청")
+	void call_disabled_singleRequest() {
+		// given
+		TossConfirmHedger hedger = new TossConfirmHedger(meterRegistry, false, 50, 10, 100);
+		AtomicInteger subscriptions = new AtomicInteger();
+		Mono<String> request = Mono.defer(() -> {
+			subscriptions.incrementAndGet();
+			return Mono.just("primary").delayElement(Duration.ofMillis(200));
+		});
+		
+		// when
+		String result = hedger.call(request);
+		
+		// then
+		assertThat(result).isEqualTo("primary");
+		assertThat(subscriptions).hasValue(1);
+		assertThat(meterRegistry.counter("toss.payment.confirm.hedged").count()).isZero();
+	}
+}
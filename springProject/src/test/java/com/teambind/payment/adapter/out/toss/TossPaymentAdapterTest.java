@@ -2,21 +2,23 @@ package com.teambind.payment.adapter.out.toss;
 
 import com.teambind.payment.adapter.out.toss.dto.TossPaymentConfirmRequest;
 import com.teambind.payment.adapter.out.toss.dto.TossPaymentConfirmResponse;
+import com.teambind.payment.common.exception.TossApiException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
-import java.util.Base64;
+import java.time.OffsetDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -27,10 +29,8 @@ import static org.mockito.BDDMockito.verify;
 @ExtendWith(MockitoExtension.class)
 class TossPaymentAdapterTest {
 	
-	private static final String BASE_URL = "https://api.tosspayments.com";
-	private static final String SECRET_KEY = "test_secret_key";
-	@Mock
-	private WebClient.Builder webClientBuilder;
+	private static final String IDEMPOTENCY_KEY = "idem-key-123";
+	
 	@Mock
 	private WebClient webClient;
 	@Mock
@@ -45,9 +45,11 @@ class TossPaymentAdapterTest {
 	
 	@BeforeEach
 	void setUp() {
-		tossPaymentAdapter = new TossPaymentAdapter(webClientBuilder);
-		ReflectionTestUtils.setField(tossPaymentAdapter, "baseUrl", BASE_URL);
-		ReflectionTestUtils.setField(tossPaymentAdapter, "secretKey", SECRET_KEY);
+		// 재시도/헤지 없이 어댑터 동작만 검증 (재시도는 TossCallGuardTest)
+		tossPaymentAdapter = new TossPaymentAdapter(webClient,
+				new TossCallGuard(CircuitBreaker.ofDefaults("tossPayment"), Bulkhead.ofDefaults("tossPayment"),
+						Retry.of("tossPayment", RetryConfig.custom().maxAttempts(1).build())),
+				new TossConfirmHedger(new SimpleMeterRegistry(), false, 3000, 300, 100));
 	}
 	
 	@Test
@@ -68,34 +70,28 @@ class TossPaymentAdapterTest {
 				100000L,
 				"CARD",
 				"DONE",
-				LocalDateTime.now()
+				OffsetDateTime.now()
 		);
 		
-		String expectedAuthHeader = "Basic " + Base64.getEncoder()
-				.encodeToString((SECRET_KEY + ":").getBytes(StandardCharsets.UTF_8));
-		
-		given(webClientBuilder.build()).willReturn(webClient);
 		given(webClient.post()).willReturn(requestBodyUriSpec);
-		given(requestBodyUriSpec.uri(BASE_URL + "/v1/payments/confirm")).willReturn(requestBodySpec);
-		given(requestBodySpec.header(HttpHeaders.AUTHORIZATION, expectedAuthHeader)).willReturn(requestBodySpec);
-		given(requestBodySpec.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)).willReturn(requestBodySpec);
+		given(requestBodyUriSpec.uri("/v1/payments/confirm")).willReturn(requestBodySpec);
+		given(requestBodySpec.header(TossPaymentAdapter.IDEMPOTENCY_KEY_HEADER, IDEMPOTENCY_KEY)).willReturn(requestBodySpec);
 		given(requestBodySpec.bodyValue(request)).willReturn(requestHeadersSpec);
 		given(requestHeadersSpec.retrieve()).willReturn(responseSpec);
 		given(responseSpec.bodyToMono(TossPaymentConfirmResponse.class)).willReturn(Mono.just(expectedResponse));
 		
 		// when
-		TossPaymentConfirmResponse result = tossPaymentAdapter.confirmPayment(request);
+		TossPaymentConfirmResponse result = tossPaymentAdapter.confirmPayment(request, IDEMPOTENCY_KEY);
 		
 		// then
 		assertThat(result).isNotNull();
 		assertThat(result.paymentKey()).isEqualTo("payment-key-123");
 		assertThat(result.orderId()).isEqualTo("order-123");
-		assertThat(result.transactionId()).isEqualTo("transaction-123");
+		assertThat(result.lastTransactionKey()).isEqualTo("transaction-123");
 		assertThat(result.totalAmount()).isEqualTo(100000L);
 		assertThat(result.method()).isEqualTo("CARD");
 		assertThat(result.status()).isEqualTo("DONE");
 		
-		verify(webClientBuilder).build();
 		verify(webClient).post();
 		verify(requestBodySpec).bodyValue(request);
 	}
@@ -110,24 +106,24 @@ class TossPaymentAdapterTest {
 				100000L
 		);
 		
-		given(webClientBuilder.build()).willReturn(webClient);
 		given(webClient.post()).willReturn(requestBodyUriSpec);
 		given(requestBodyUriSpec.uri(anyString())).willReturn(requestBodySpec);
-		given(requestBodySpec.header(anyString(), anyString())).willReturn(requestBodySpec);
+		given(requestBodySpec.header(eq(TossPaymentAdapter.IDEMPOTENCY_KEY_HEADER), anyString())).willReturn(requestBodySpec);
 		given(requestBodySpec.bodyValue(any())).willReturn(requestHeadersSpec);
 		given(requestHeadersSpec.retrieve()).willReturn(responseSpec);
 		given(responseSpec.bodyToMono(TossPaymentConfirmResponse.class))
 				.willReturn(Mono.error(new RuntimeException("토스 API 오류")));
 		
 		// when & then
-		assertThatThrownBy(() -> tossPaymentAdapter.confirmPayment(request))
+		assertThatThrownBy(() -> tossPaymentAdapter.confirmPayment(request, IDEMPOTENCY_KEY))
 				.isInstanceOf(RuntimeException.class)
-				.hasMessageContaining("토스 결제 승인 실패");
+				.hasMessageContaining("토스 결제 승인 실패")
+				.isInstanceOfSatisfying(TossApiException.class, e -> assertThat(e.isOutcomeUnknown()).isTrue());
 	}
 	
 	@Test
-	@DisplayName("Base64 인증 헤더 생성 확인")
-	void confirmPayment_authHeaderEncoding() {
+	@DisplayName("토스 결제 승인 실패 - 4xx 응답은 거절 확정으로 구분")
+	void confirmPayment_clientError_rejected() {
 		// given
 		TossPaymentConfirmRequest request = new TossPaymentConfirmRequest(
 				"payment-key-123",
@@ -135,36 +131,17 @@ class TossPaymentAdapterTest {
 				100000L
 		);
 		
-		TossPaymentConfirmResponse expectedResponse = new TossPaymentConfirmResponse(
-				"payment-key-123",
-				"order-123",
-				"NORMAL",
-				"transaction-123",
-				100000L,
-				"CARD",
-				"DONE",
-				LocalDateTime.now()
-		);
-		
-		// Base64 인코딩 검증을 위한 예상 값
-		String expectedEncodedKey = Base64.getEncoder()
-				.encodeToString((SECRET_KEY + ":").getBytes(StandardCharsets.UTF_8));
-		String expectedAuthHeader = "Basic " + expectedEncodedKey;
-		
-		given(webClientBuilder.build()).willReturn(webClient);
 		given(webClient.post()).willReturn(requestBodyUriSpec);
 		given(requestBodyUriSpec.uri(anyString())).willReturn(requestBodySpec);
-		given(requestBodySpec.header(eq(HttpHeaders.AUTHORIZATION), eq(expectedAuthHeader))).willReturn(requestBodySpec);
-		given(requestBodySpec.header(eq(HttpHeaders.CONTENT_TYPE), anyString())).willReturn(requestBodySpec);
+		given(requestBodySpec.header(eq(TossPaymentAdapter.IDEMPOTENCY_KEY_HEADER), anyString())).willReturn(requestBodySpec);
 		given(requestBodySpec.bodyValue(any())).willReturn(requestHeadersSpec);
 		given(requestHeadersSpec.retrieve()).willReturn(responseSpec);
-		given(responseSpec.bodyToMono(TossPaymentConfirmResponse.class)).willReturn(Mono.just(expectedResponse));
-		
-		// when
-		tossPaymentAdapter.confirmPayment(request);
+		given(responseSpec.bodyToMono(TossPaymentConfirmResponse.class))
+				.willReturn(Mono.error(WebClientResponseException.create(400, "Bad Request", null, null, null)));
 		
-		// then
-		verify(requestBodySpec).header(HttpHeaders.AUTHORIZATION, expectedAuthHeader);
+		// when & then
+		assertThatThrownBy(() -> tossPaymentAdapter.confirmPayment(request, IDEMPOTENCY_KEY))
+				.isInstanceOfSatisfying(TossApiException.class, e -> assertThat(e.isOutcomeUnknown()).isFalse());
 	}
 	
 	@Test
@@ -185,24 +162,24 @@ class TossPaymentAdapterTest {
 				100000L,
 				"CARD",
 				"DONE",
-				LocalDateTime.now()
+				OffsetDateTime.now()
 		);
 		
-		String expectedUri = BASE_URL + "/v1/payments/confirm";
+		String expectedUri = "/v1/payments/confirm";
 		
-		given(webClientBuilder.build()).willReturn(webClient);
 		given(webClient.post()).willReturn(requestBodyUriSpec);
 		given(requestBodyUriSpec.uri(expectedUri)).willReturn(requestBodySpec);
-		given(requestBodySpec.header(anyString(), anyString())).willReturn(requestBodySpec);
+		given(requestBodySpec.header(eq(TossPaymentAdapter.IDEMPOTENCY_KEY_HEADER), anyString())).willReturn(requestBodySpec);
 		given(requestBodySpec.bodyValue(any())).willReturn(requestHeadersSpec);
 		given(requestHeadersSpec.retrieve()).willReturn(responseSpec);
 		given(responseSpec.bodyToMono(TossPaymentConfirmResponse.class)).willReturn(Mono.just(expectedResponse));
 		
 		// when
-		tossPaymentAdapter.confirmPayment(request);
+		tossPaymentAdapter.confirmPayment(request, IDEMPOTENCY_KEY);
 		
 		// then
 		verify(requestBodyUriSpec).uri(expectedUri);
+		verify(requestBodySpec).header(TossPaymentAdapter.IDEMPOTENCY_KEY_HEADER, IDEMPOTENCY_KEY);
 	}
 	
 	@Test
@@ -223,19 +200,18 @@ class TossPaymentAdapterTest {
 				200000L,
 				"EASY_PAY",
 				"DONE",
-				LocalDateTime.now()
+				OffsetDateTime.now()
 		);
 		
-		given(webClientBuilder.build()).willReturn(webClient);
 		given(webClient.post()).willReturn(requestBodyUriSpec);
 		given(requestBodyUriSpec.uri(anyString())).willReturn(requestBodySpec);
-		given(requestBodySpec.header(anyString(), anyString())).willReturn(requestBodySpec);
+		given(requestBodySpec.header(eq(TossPaymentAdapter.IDEMPOTENCY_KEY_HEADER), anyString())).willReturn(requestBodySpec);
 		given(requestBodySpec.bodyValue(request)).willReturn(requestHeadersSpec);
 		given(requestHeadersSpec.retrieve()).willReturn(responseSpec);
 		given(responseSpec.bodyToMono(TossPaymentConfirmResponse.class)).willReturn(Mono.just(expectedResponse));
 		
 		// when
-		TossPaymentConfirmResponse result = tossPaymentAdapter.confirmPayment(request);
+		TossPaymentConfirmResponse result = tossPaymentAdapter.confirmPayment(request, IDEMPOTENCY_KEY);
 		
 		// then
 		assertThat(result.paymentKey()).isEqualTo(request.paymentKey());
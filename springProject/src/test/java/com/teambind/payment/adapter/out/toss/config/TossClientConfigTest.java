@@ -0,0 +1,92 @@
+package com.teambind.payment.adapter.out.toss.config;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TossClientConfigTest {
+	
+	private static final String SECRET_KEY = "test_secret_key";
+	
+	private WireMockServer tossApiServer;
+	private ConnectionProvider connectionProvider;
+	private WebClient tossWebClient;
+	
+	@BeforeEach
+	void setUp() {
+		tossApiServer = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+		tossApiServer.start();
+		
+		TossClientConfig config = new TossClientConfig();
+		ReflectionTestUtils.setField(config, "baseUrl", "http://localhost:" + tossApiServer.port());
+		ReflectionTestUtils.setField(config, "secretKey", SECRET_KEY);
+		ReflectionTestUtils.setField(config, "responseTimeoutMs", 300L);
+		ReflectionTestUtils.setField(config, "connectTimeoutMs", 1000);
+		ReflectionTestUtils.setField(config, "readTimeoutMs", 1000L);
+		ReflectionTestUtils.setField(config, "maxConnections", 2);
+		ReflectionTestUtils.setField(config, "pendingAcquireMaxCount", 10);
+		ReflectionTestUtils.setField(config, "pendingAcquireTimeoutMs", 1000L);
+		ReflectionTestUtils.setField(config, "maxIdleTimeMs", 20000L);
+		ReflectionTestUtils.setField(config, "maxLifeTimeMs", 300000L);
+		
+		connectionProvider = config.tossConnectionProvider();
+		tossWebClient = config.tossWebClient(WebClient.builder(), connectionProvider);
+	}
+	
+	@AfterEach
+	void tearDown() {
+		connectionProvider.dispose();
+		tossApiServer.stop();
+	}
+	
+	@Test
+	@DisplayName("Base64 인증 헤더와 base-url이 모든 요청에 적용")
+	void tossWebClient_appliesAuthHeaderAndBaseUrl() {
+		// given
+		tossApiServer.stubFor(WireMock.post(urlEqualTo("/v1/payments/confirm"))
+				.willReturn(aResponse().withStatus(200).withBody("{}")));
+		String expectedAuthHeader = "Basic " + Base64.getEncoder()
+				.encodeToString((SECRET_KEY + ":").getBytes(StandardCharsets.UTF_8));
+		
+		// when
+		tossWebClient.post().uri("/v1/payments/confirm").bodyValue("{}").retrieve().toBodilessEntity().block();
+		tossWebClient.post().uri("/v1/payments/confirm").bodyValue("{}").retrieve().toBodilessEntity().block();
+		
+		// then
+		tossApiServer.verify(2, postRequestedFor(urlEqualTo("/v1/payments/confirm"))
+				.withHeader("Authorization", equalTo(expectedAuthHeader))
+				.withHeader("Content-Type", equalTo("application/json")));
+		assertThat(TossClientConfig.authorizationHeader(SECRET_KEY)).isEqualTo(expectedAuthHeader);
+	}
+	
+	@Test
+	@DisplayName("응답 타임아웃 초과 시 요청 실패")
+	void tossWebClient_responseTimeout() {
+		// given
+		tossApiServer.stubFor(WireMock.post(urlEqualTo("/v1/payments/confirm"))
+				.willReturn(aResponse().withStatus(200).withBody("{}").withFixedDelay(2000)));
+		
+		// when & then
+		assertThatThrownBy(() -> tossWebClient.post().uri("/v1/payments/confirm")
+				.bodyValue("{}").retrieve().toBodilessEntity().block())
+				.hasRootCauseInstanceOf(ReadTimeoutException.class);
+	}
+}
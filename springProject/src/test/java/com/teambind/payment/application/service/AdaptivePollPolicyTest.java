@@ -0,0 +1,59 @@
+package com.teambind.payment.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptivePollPolicyTest {
+	
+	private final AdaptivePollPolicy policy = new AdaptivePollPolicy(
+			100, 1000, Duration.ofMillis(200), Duration.ofSeconds(10));
+	
+	@Test
+	@DisplayName("가득 찬 배치 - 즉시 재폴링하고 배치 크기를 최대치까지 2배씩 확장")
+	void onPolled_fullBatch_growsAndRepollsImmediately() {
+		// when
+		policy.onPolled(100);
+		policy.onPolled(200);
+		policy.onPolled(400);
+		policy.onPolled(800);
+		
+		// then
+		assertThat(policy.batchSize()).isEqualTo(1000);
+		assertThat(policy.delay()).isZero();
+	}
+	
+	@Test
+	@DisplayName("일부만 채운 배치 - 배치 크기를 절반으로 줄이고 짧은 주기로 폴링")
+	void onPolled_partialBatch_shrinksToBusyDelay() {
+		// given
+		policy.onPolled(100);
+		policy.onPolled(200);
+		
+		// when
+		policy.onPolled(50);
+		
+		// then
+		assertThat(policy.batchSize()).isEqualTo(200);
+		assertThat(policy.delay()).isEqualTo(Duration.ofMillis(200));
+	}
+	
+	@Test
+	@DisplayName("빈 배치 - 최소 배치 크기로 돌아가고 유휴 주기까지 2배씩 후퇴")
+	void onPolled_empty_backsOffToIdleDelay() {
+		// given
+		policy.onPolled(100);
+		
+		// when
+		for (int i = 0; i < 10; i++) {
+			policy.onPolled(0);
+		}
+		
+		// then
+		assertThat(policy.batchSize()).isEqualTo(100);
+		assertThat(policy.delay()).isEqualTo(Duration.ofSeconds(10));
+	}
+}
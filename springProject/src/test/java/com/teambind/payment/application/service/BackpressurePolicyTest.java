@@ -0,0 +1,69 @@
+package com.teambind.payment.application.service;
+
+import com.teambind.payment.application.service.BackpressurePolicy.Transition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.OptionalDouble;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BackpressurePolicyTest {
+	
+	private final BackpressurePolicy policy = new BackpressurePolicy(0.3,
+			Duration.ofMillis(200), Duration.ofMillis(20), Duration.ofMillis(1000), 5, Duration.ofSeconds(5));
+	
+	@Test
+	@DisplayName("순간 스파이크는 무시하고 풀 대기가 지속되면 소비 중단")
+	void evaluate_sustainedPoolWait_pausesAfterSmoothing() {
+		// given
+		policy.evaluate(0, 0, OptionalDouble.empty(), 0);
+		
+		// when
+		Transition spike = policy.evaluate(500, 0, OptionalDouble.empty(), 1_000);
+		Transition sustained = policy.evaluate(500, 0, OptionalDouble.empty(), 2_000);
+		
+		// then
+		assertThat(spike).isEqualTo(Transition.NONE);
+		assertThat(sustained).isEqualTo(Transition.PAUSE);
+		assertThat(policy.isPaused()).isTrue();
+	}
+	
+	@Test
+	@DisplayName("커넥션 대기 스레드 누적 또는 준비 지연 초과 시 즉시 중단")
+	void evaluate_pendingThreadsOrPrepareLatency_pauses() {
+		// given
+		BackpressurePolicy latencyPolicy = new BackpressurePolicy(0.3,
+				Duration.ofMillis(200), Duration.ofMillis(20), Duration.ofMillis(1000), 5, Duration.ofSeconds(5));
+		
+		// when
+		Transition byPendingThreads = policy.evaluate(0, 5, OptionalDouble.empty(), 0);
+		Transition byLatency = latencyPolicy.evaluate(0, 0, OptionalDouble.of(1500), 0);
+		
+		// then
+		assertThat(byPendingThreads).isEqualTo(Transition.PAUSE);
+		assertThat(byLatency).isEqualTo(Transition.PAUSE);
+	}
+	
+	@Test
+	@DisplayName("최소 중단 시간이 지나고 풀이 회복되어야 재개하며 재개 시 준비 지연 평균 초기화")
+	void evaluate_resumesOnlyAfterMinPauseAndPoolRecovery() {
+		// given
+		BackpressurePolicy unsmoothed = new BackpressurePolicy(1.0,
+				Duration.ofMillis(200), Duration.ofMillis(20), Duration.ofMillis(1000), 5, Duration.ofSeconds(5));
+		unsmoothed.evaluate(300, 0, OptionalDouble.of(1500), 0);
+		
+		// when
+		Transition beforeMinPause = unsmoothed.evaluate(0, 0, OptionalDouble.empty(), 1_000);
+		Transition threadsWaiting = unsmoothed.evaluate(0, 2, OptionalDouble.empty(), 6_000);
+		Transition recovered = unsmoothed.evaluate(0, 0, OptionalDouble.empty(), 7_000);
+		
+		// then
+		assertThat(beforeMinPause).isEqualTo(Transition.NONE);
+		assertThat(threadsWaiting).isEqualTo(Transition.NONE);
+		assertThat(recovered).isEqualTo(Transition.RESUME);
+		assertThat(unsmoothed.isPaused()).isFalse();
+		assertThat(unsmoothed.prepareLatencyMs()).isZero();
+	}
+}
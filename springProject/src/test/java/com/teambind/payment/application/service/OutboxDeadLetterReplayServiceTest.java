@@ -0,0 +1,96 @@
+package com.teambind.payment.application.service;
+
+import com.teambind.payment.application.port.out.PaymentEventDeadLetterRepository;
+import com.teambind.payment.domain.DeadLetterReplayFilter;
+import com.teambind.payment.domain.EventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDeadLetterReplayServiceTest {
+	
+	private static final DeadLetterReplayFilter FILTER = new DeadLetterReplayFilter(
+			EventType.REFUND_COMPLETED, null, null, null, 3);
+	
+	@Mock
+	private PaymentEventDeadLetterRepository deadLetterRepository;
+	
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	
+	@Test
+	@DisplayName("DLQ 재발행 - 상한 dlqId까지 청크 단위로 재발행하고 최대 건수에서 중단")
+	void replay_stopsAtLimit() {
+		// given
+		OutboxDeadLetterReplayService service = new OutboxDeadLetterReplayService(deadLetterRepository, meterRegistry, 1000, 2);
+		given(deadLetterRepository.findMaxReplayableDlqId()).willReturn(Optional.of(10L));
+		given(deadLetterRepository.findReplayableDlqIds(FILTER, 0L, 10L, 2)).willReturn(List.of(1L, 2L));
+		given(deadLetterRepository.findReplayableDlqIds(FILTER, 2L, 10L, 1)).willReturn(List.of(5L));
+		given(deadLetterRepository.replay(List.of(1L, 2L))).willReturn(2);
+		given(deadLetterRepository.replay(List.of(5L))).willReturn(1);
+		
+		// when
+		long replayed = service.replay(FILTER, count -> {
+		});
+		
+		// then
+		assertThat(replayed).isEqualTo(3);
+		verify(deadLetterRepository, never()).findReplayableDlqIds(eq(FILTER), eq(5L), anyLong(), anyInt());
+		assertThat(meterRegistry.counter("outbox.dlq.replayed").count()).isEqualTo(3);
+	}
+	
+	@Test
+	@DisplayName("DLQ 재발행 - 초당 허용 건수를 넘지 않도록 청크 사이에 대기")
+	void replay_throttlesToConfiguredRate() {
+		// given
+		OutboxDeadLetterReplayService service = new OutboxDeadLetterReplayService(deadLetterRepository, meterRegistry, 20, 10);
+		DeadLetterReplayFilter filter = new DeadLetterReplayFilter(null, null, null, null, 20);
+		given(deadLetterRepository.findMaxReplayableDlqId()).willReturn(Optional.of(100L));
+		given(deadLetterRepository.findReplayableDlqIds(filter, 0L, 100L, 10))
+				.willReturn(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L));
+		given(deadLetterRepository.findReplayableDlqIds(filter, 10L, 100L, 10))
+				.willReturn(List.of(11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L, 20L));
+		given(deadLetterRepository.replay(anyList())).willReturn(10);
+		
+		// when
+		long startedAt = System.nanoTime();
+		long replayed = service.replay(filter, count -> {
+		});
+		long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+		
+		// then
+		assertThat(replayed).isEqualTo(20);
+		assertThat(elapsedMs).isGreaterThanOrEqualTo(450);
+	}
+	
+	@Test
+	@DisplayName("DLQ 재발행 - 재발행 대상이 없으면 아무 것도 하지 않음")
+	void replay_emptyDeadLetterQueue_doesNothing() {
+		// given
+		OutboxDeadLetterReplayService service = new OutboxDeadLetterReplayService(deadLetterRepository, meterRegistry, 50, 50);
+		given(deadLetterRepository.findMaxReplayableDlqId()).willReturn(Optional.empty());
+		
+		// when
+		long replayed = service.replay(FILTER, count -> {
+		});
+		
+		// then
+		assertThat(replayed).isZero();
+		verify(deadLetterRepository, never()).replay(anyList());
+	}
+}
@@ -0,0 +1,59 @@
+package com.teambind.payment.application.service;
+
+import com.teambind.payment.application.port.out.PaymentEventDeadLetterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDeadLetterSchedulerTest {
+	
+	@Mock
+	private PaymentEventDeadLetterRepository deadLetterRepository;
+	
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	
+	@Test
+	@DisplayName("DLQ 이동 - 재시도 소진 이벤트를 청크 단위로 이동하고 덜 찬 청크에서 종료")
+	void moveExhausted_movesChunksUntilPartial() {
+		// given
+		OutboxDeadLetterScheduler scheduler = new OutboxDeadLetterScheduler(deadLetterRepository, meterRegistry, 2);
+		given(deadLetterRepository.findExhaustedEventIds(OutboxEventScheduler.MAX_RETRY_COUNT, 2))
+				.willReturn(List.of(1L, 2L), List.of(3L));
+		given(deadLetterRepository.moveToDeadLetter(List.of(1L, 2L), OutboxEventScheduler.MAX_RETRY_COUNT)).willReturn(2);
+		given(deadLetterRepository.moveToDeadLetter(List.of(3L), OutboxEventScheduler.MAX_RETRY_COUNT)).willReturn(1);
+		
+		// when
+		long moved = scheduler.moveExhausted();
+		
+		// then
+		assertThat(moved).isEqualTo(3);
+		verify(deadLetterRepository).moveToDeadLetter(List.of(3L), OutboxEventScheduler.MAX_RETRY_COUNT);
+		assertThat(meterRegistry.counter("outbox.dlq.moved").count()).isEqualTo(3);
+	}
+	
+	@Test
+	@DisplayName("DLQ 이동 - 잠금 경합으로 하나도 옮기지 못하면 다음 주기로 미룸")
+	void moveExhausted_noProgress_stops() {
+		// given
+		OutboxDeadLetterScheduler scheduler = new OutboxDeadLetterScheduler(deadLetterRepository, meterRegistry, 2);
+		given(deadLetterRepository.findExhaustedEventIds(OutboxEventScheduler.MAX_RETRY_COUNT, 2))
+				.willReturn(List.of(1L, 2L));
+		given(deadLetterRepository.moveToDeadLetter(List.of(1L, 2L), OutboxEventScheduler.MAX_RETRY_COUNT)).willReturn(0);
+		
+		// when
+		long moved = scheduler.moveExhausted();
+		
+		// then
+		assertThat(moved).isZero();
+	}
+}
@@ -0,0 +1,264 @@
+package com.teambind.payment.application.service;
+
+import com.teambind.payment.application.port.out.PaymentEventRepository;
+import com.teambind.payment.domain.EventType;
+import com.teambind.payment.domain.OutboxLease;
+import com.teambind.payment.domain.PaymentEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.KafkaException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventDispatcherTest {
+	
+	private static final OutboxLease LEASE = OutboxLease.acquire("worker-1", Duration.ofMinutes(1));
+	
+	@Mock
+	private PaymentEventRepository paymentEventRepository;
+	
+	@Mock
+	private PaymentEventPublisher paymentEventPublisher;
+	
+	private OutboxDispatchLanes dispatchLanes;
+	
+	private OutboxEventDispatcher outboxEventDispatcher;
+	
+	@BeforeEach
+	void setUp() {
+		dispatchLanes = new OutboxDispatchLanes(2, 100, new OutboxPriorityPolicy(
+				List.of(EventType.PAYMENT_COMPLETED, EventType.PAYMENT_CANCELLED, EventType.REFUND_COMPLETED), 60, 20, 20));
+		outboxEventDispatcher = new OutboxEventDispatcher(
+				paymentEventRepository,
+				paymentEventPublisher,
+				dispatchLanes,
+				Runnable::run,
+				TransactionOperations.withoutTransaction(),
+				new SimpleMeterRegistry(),
+				1000L
+		);
+	}
+	
+	@AfterEach
+	void tearDown() {
+		dispatchLanes.shutdown();
+	}
+	
+	@Test
+	@DisplayName("배치 발행 - 모든 이벤트 ACK 성공 시 단일 UPDATE로 PUBLISHED 처리")
+	void dispatch_allAcked_marksPublishedInBulk() {
+		// given
+		PaymentEvent event1 = eventWithId(1L);
+		PaymentEvent event2 = eventWithId(2L);
+		
+		given(paymentEventPublisher.sendEventToKafka(any(PaymentEvent.class)))
+				.willReturn(CompletableFuture.completedFuture(null));
+		
+		// when
+		OutboxEventDispatcher.DispatchResult result = outboxEventDispatcher.dispatch(List.of(event1, event2), LEASE, OutboxDispatchPath.SWEEP);
+		
+		// then
+		assertThat(result.publishedCount()).isEqualTo(2);
+		assertThat(result.failedCount()).isZero();
+		verify(paymentEventRepository).markAllAsPublished(eq(List.of(1L, 2L)), eq(LEASE.owner()), any(LocalDateTime.class));
+		verify(paymentEventRepository, never()).markAllAsFailed(anyList(), anyString(), anyString(), any(LocalDateTime.class), any(Duration.class));
+	}
+	
+	@Test
+	@DisplayName("배치 발행 - 실패 이벤트는 에러 메시지별로 묶어 FAILED 처리")
+	void dispatch_partialFailure_marksFailedGroupedByError() {
+		// given
+		PaymentEvent event1 = eventWithId(1L);
+		PaymentEvent event2 = eventWithId(2L);
+		PaymentEvent event3 = eventWithId(3L);
+		
+		given(paymentEventPublisher.sendEventToKafka(event1))
+				.willReturn(CompletableFuture.completedFuture(null));
+		given(paymentEventPublisher.sendEventToKafka(event2))
+				.willReturn(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+		given(paymentEventPublisher.sendEventToKafka(event3))
+				.willReturn(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+		
+		// when
+		OutboxEventDispatcher.DispatchResult result = outboxEventDispatcher.dispatch(List.of(event1, event2, event3), LEASE, OutboxDispatchPath.SWEEP);
+		
+		// then
+		assertThat(result.publishedCount()).isEqualTo(1);
+		assertThat(result.failedCount()).isEqualTo(2);
+		verify(paymentEventRepository).markAllAsPublished(eq(List.of(1L)), eq(LEASE.owner()), any(LocalDateTime.class));
+		verify(paymentEventRepository).markAllAsFailed(eq(List.of(2L, 3L)), eq(LEASE.owner()), eq("broker unavailable"), any(LocalDateTime.class), any(Duration.class));
+	}
+	
+	@Test
+	@DisplayName("배치 발행 - ACK 대기 시간 초과 시 FAILED 처리")
+	void dispatch_ackTimeout_marksFailed() {
+		// given
+		PaymentEvent event = eventWithId(1L);
+		
+		given(paymentEventPublisher.sendEventToKafka(event)).willReturn(new CompletableFuture<>());
+		
+		// when
+		OutboxEventDispatcher.DispatchResult result = outboxEventDispatcher.dispatch(List.of(event), LEASE, OutboxDispatchPath.SWEEP);
+		
+		// then
+		assertThat(result.failedCount()).isEqualTo(1);
+		verify(paymentEventRepository).markAllAsFailed(eq(List.of(1L)), eq(LEASE.owner()), eq("Kafka ACK 대기 시간 초과"), any(LocalDateTime.class), any(Duration.class));
+	}
+	
+	@Test
+	@DisplayName("배치 발행 - 같은 aggregate의 선행 이벤트 실패 시 후속 이벤트는 전송하지 않고 임대만 해제")
+	void dispatch_sameAggregateFailure_holdsBackLaterEvents() {
+		// given
+		PaymentEvent completed = eventWithId(1L, "PAY-001", EventType.PAYMENT_COMPLETED);
+		PaymentEvent refunded = eventWithId(2L, "PAY-001", EventType.REFUND_COMPLETED);
+		PaymentEvent other = eventWithId(3L, "PAY-002", EventType.PAYMENT_COMPLETED);
+		
+		given(paymentEventPublisher.sendEventToKafka(completed))
+				.willReturn(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+		given(paymentEventPublisher.sendEventToKafka(other))
+				.willReturn(CompletableFuture.completedFuture(null));
+		
+		// when
+		OutboxEventDispatcher.DispatchResult result = outboxEventDispatcher.dispatch(
+				List.of(refunded, completed, other), LEASE, OutboxDispatchPath.SWEEP);
+		
+		// then
+		assertThat(result.publishedCount()).isEqualTo(1);
+		assertThat(result.failedCount()).isEqualTo(2);
+		verify(paymentEventPublisher, never()).sendEventToKafka(refunded);
+		verify(paymentEventRepository).markAllAsPublished(eq(List.of(3L)), eq(LEASE.owner()), any(LocalDateTime.class));
+		verify(paymentEventRepository).markAllAsFailed(eq(List.of(1L)), eq(LEASE.owner()), eq("broker unavailable"), any(LocalDateTime.class), any(Duration.class));
+		verify(paymentEventRepository).releaseAll(List.of(2L), LEASE.owner());
+	}
+	
+	@Test
+	@DisplayName("배치 발행 - 선행 이벤트 실패로 보류된 이벤트는 재시도 횟수를 소모하지 않음")
+	void dispatch_blockedEvent_keepsRetryCount() {
+		// given
+		PaymentEvent completed = eventWithId(1L, "PAY-001", EventType.PAYMENT_COMPLETED);
+		PaymentEvent refunded = eventWithId(2L, "PAY-001", EventType.REFUND_COMPLETED);
+		ReflectionTestUtils.setField(refunded, "retryCount", 3);
+		
+		given(paymentEventPublisher.sendEventToKafka(completed))
+				.willReturn(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+		
+		// when
+		outboxEventDispatcher.dispatch(List.of(completed, refunded), LEASE, OutboxDispatchPath.RETRY);
+		
+		// then
+		verify(paymentEventPublisher, never()).sendEventToKafka(refunded);
+		verify(paymentEventRepository, never()).markAllAsFailed(
+				argThat(eventIds -> eventIds.contains(2L)), anyString(), anyString(), any(LocalDateTime.class), any(Duration.class));
+		verify(paymentEventRepository).releaseAll(List.of(2L), LEASE.owner());
+		assertThat(refunded.getRetryCount()).isEqualTo(3);
+	}
+	
+	@Test
+	@DisplayName("배치 발행 - 같은 aggregate의 이벤트는 앞선 이벤트 ACK 이후 eventId 순서대로 전송")
+	void dispatch_sameAggregate_sendsInOrder() {
+		// given
+		PaymentEvent completed = eventWithId(1L, "PAY-001", EventType.PAYMENT_COMPLETED);
+		PaymentEvent refunded = eventWithId(2L, "PAY-001", EventType.REFUND_COMPLETED);
+		
+		given(paymentEventPublisher.sendEventToKafka(any(PaymentEvent.class)))
+				.willReturn(CompletableFuture.completedFuture(null));
+		
+		// when
+		outboxEventDispatcher.dispatch(List.of(refunded, completed), LEASE, OutboxDispatchPath.SWEEP);
+		
+		// then
+		InOrder inOrder = inOrder(paymentEventPublisher);
+		inOrder.verify(paymentEventPublisher).sendEventToKafka(completed);
+		inOrder.verify(paymentEventPublisher).sendEventToKafka(refunded);
+	}
+	
+	@Test
+	@DisplayName("트랜잭션 모드 - 레인 배치를 한 트랜잭션으로 전송하고 커밋 성공 시 전체 PUBLISHED")
+	void dispatch_transactional_commitsLaneBatch() {
+		// given
+		PaymentEvent completed = eventWithId(1L, "PAY-001", EventType.PAYMENT_COMPLETED);
+		PaymentEvent refunded = eventWithId(2L, "PAY-001", EventType.REFUND_COMPLETED);
+		
+		given(paymentEventPublisher.isTransactional()).willReturn(true);
+		
+		// when
+		OutboxEventDispatcher.DispatchResult result = outboxEventDispatcher.dispatch(
+				List.of(refunded, completed), LEASE, OutboxDispatchPath.SWEEP);
+		
+		// then
+		assertThat(result.publishedCount()).isEqualTo(2);
+		verify(paymentEventPublisher).sendEventsInTransaction(List.of(completed, refunded));
+		verify(paymentEventPublisher, never()).sendEventToKafka(any(PaymentEvent.class));
+		verify(paymentEventRepository).markAllAsPublished(eq(List.of(1L, 2L)), eq(LEASE.owner()), any(LocalDateTime.class));
+	}
+	
+	@Test
+	@DisplayName("트랜잭션 모드 - 트랜잭션 중단 시 배치 전체를 FAILED 처리 (모든 이벤트가 전송 시도됨)")
+	void dispatch_transactionalAbort_marksWholeBatchFailed() {
+		// given
+		PaymentEvent completed = eventWithId(1L, "PAY-001", EventType.PAYMENT_COMPLETED);
+		PaymentEvent refunded = eventWithId(2L, "PAY-001", EventType.REFUND_COMPLETED);
+		
+		given(paymentEventPublisher.isTransactional()).willReturn(true);
+		willThrow(new KafkaException("transaction aborted"))
+				.given(paymentEventPublisher).sendEventsInTransaction(anyList());
+		
+		// when
+		OutboxEventDispatcher.DispatchResult result = outboxEventDispatcher.dispatch(
+				List.of(completed, refunded), LEASE, OutboxDispatchPath.SWEEP);
+		
+		// then
+		assertThat(result.failedCount()).isEqualTo(2);
+		verify(paymentEventRepository).markAllAsFailed(eq(List.of(1L, 2L)), eq(LEASE.owner()), eq("transaction aborted"), any(LocalDateTime.class), any(Duration.class));
+	}
+	
+	@Test
+	@DisplayName("배치 발행 - 빈 배치는 아무 것도 하지 않음")
+	void dispatch_emptyBatch_doesNothing() {
+		// when
+		OutboxEventDispatcher.DispatchResult result = outboxEventDispatcher.dispatch(List.of(), LEASE, OutboxDispatchPath.SWEEP);
+		
+		// then
+		assertThat(result.totalCount()).isZero();
+		verify(paymentEventRepository, never()).markAllAsPublished(anyList(), anyString(), any(LocalDateTime.class));
+	}
+	
+	private PaymentEvent eventWithId(Long eventId) {
+		return eventWithId(eventId, "PAY-" + eventId, EventType.PAYMENT_COMPLETED);
+	}
+	
+	private PaymentEvent eventWithId(Long eventId, String aggregateId, EventType eventType) {
+		PaymentEvent event = PaymentEvent.create(
+				aggregateId,
+				eventType,
+				"{\"paymentId\":\"" + aggregateId + "\"}"
+		);
+		ReflectionTestUtils.setField(event, "eventId", eventId);
+		return event;
+	}
+}
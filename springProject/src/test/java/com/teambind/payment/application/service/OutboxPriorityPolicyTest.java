@@ -0,0 +1,120 @@
+package com.teambind.payment.application.service;
+
+import com.teambind.payment.domain.EventType;
+import com.teambind.payment.domain.PaymentEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboxPriorityPolicyTest {
+	
+	private final OutboxPriorityPolicy policy = new OutboxPriorityPolicy(
+			List.of(EventType.PAYMENT_COMPLETED, EventType.PAYMENT_CANCELLED, EventType.REFUND_COMPLETED), 60, 20, 20);
+	
+	@Test
+	@DisplayName("환불 폭주 - 결제 완료 이벤트가 할당량과 남은 용량을 먼저 선점하고 환불은 할당량만 보장")
+	void claimByPriority_refundStorm_reservesQuotaForPaymentCompleted() {
+		// given
+		Map<EventType, Integer> backlog = backlog(500, 0, 10_000);
+		
+		// when
+		List<PaymentEvent> claimed = policy.claimByPriority(100, claimer(backlog));
+		
+		// then
+		assertThat(claimed).hasSize(100);
+		assertThat(countOf(claimed, EventType.PAYMENT_COMPLETED)).isEqualTo(80);
+		assertThat(countOf(claimed, EventType.REFUND_COMPLETED)).isEqualTo(20);
+	}
+	
+	@Test
+	@DisplayName("남은 용량 재배분 - 쓰지 않은 할당량은 백로그가 남은 타입에 우선순위 순으로 배분")
+	void claimByPriority_unusedQuota_redistributedInPriorityOrder() {
+		// given
+		Map<EventType, Integer> backlog = backlog(5, 30, 10_000);
+		
+		// when
+		List<PaymentEvent> claimed = policy.claimByPriority(100, claimer(backlog));
+		
+		// then
+		assertThat(claimed).hasSize(100);
+		assertThat(countOf(claimed, EventType.PAYMENT_COMPLETED)).isEqualTo(5);
+		assertThat(countOf(claimed, EventType.PAYMENT_CANCELLED)).isEqualTo(30);
+		assertThat(countOf(claimed, EventType.REFUND_COMPLETED)).isEqualTo(65);
+	}
+	
+	@Test
+	@DisplayName("할당 비중 0 - 다른 타입이 남긴 용량만 사용")
+	void claimByPriority_zeroWeight_usesOnlySpareCapacity() {
+		// given
+		OutboxPriorityPolicy refundsLast = new OutboxPriorityPolicy(
+				List.of(EventType.PAYMENT_COMPLETED, EventType.PAYMENT_CANCELLED, EventType.REFUND_COMPLETED), 1, 1, 0);
+		Map<EventType, Integer> backlog = backlog(30, 0, 1_000);
+		
+		// when
+		List<PaymentEvent> claimed = refundsLast.claimByPriority(100, claimer(backlog));
+		
+		// then
+		assertThat(countOf(claimed, EventType.PAYMENT_COMPLETED)).isEqualTo(30);
+		assertThat(countOf(claimed, EventType.REFUND_COMPLETED)).isEqualTo(70);
+	}
+	
+	@Test
+	@DisplayName("생명주기를 거스르는 우선순위 설정(환불이 결제 완료보다 앞)은 거부")
+	void constructor_lifecycleViolatingOrder_rejected() {
+		assertThatThrownBy(() -> new OutboxPriorityPolicy(
+				List.of(EventType.REFUND_COMPLETED, EventType.PAYMENT_COMPLETED, EventType.PAYMENT_CANCELLED), 60, 20, 20))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new OutboxPriorityPolicy(List.of(EventType.PAYMENT_CANCELLED), 60, 20, 20))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+	
+	@Test
+	@DisplayName("우선순위 설정에서 빠진 타입은 가장 낮은 순위로 추가")
+	void priorityOrder_missingTypesAppended() {
+		// given
+		OutboxPriorityPolicy partial = new OutboxPriorityPolicy(List.of(EventType.PAYMENT_COMPLETED), 60, 20, 20);
+		
+		// when
+		List<EventType> order = partial.priorityOrder();
+		
+		// then
+		assertThat(order).containsExactly(
+				EventType.PAYMENT_COMPLETED, EventType.PAYMENT_CANCELLED, EventType.REFUND_COMPLETED);
+		assertThat(partial.rankOf(EventType.REFUND_COMPLETED)).isEqualTo(2);
+	}
+	
+	private Map<EventType, Integer> backlog(int completed, int cancelled, int refunded) {
+		Map<EventType, Integer> backlog = new EnumMap<>(EventType.class);
+		backlog.put(EventType.PAYMENT_COMPLETED, completed);
+		backlog.put(EventType.PAYMENT_CANCELLED, cancelled);
+		backlog.put(EventType.REFUND_COMPLETED, refunded);
+		return backlog;
+	}
+	
+	// 타입별 남은 백로그에서 limit만큼 꺼내는 가짜 선점 함수
+	private BiFunction<EventType, Integer, List<PaymentEvent>> claimer(Map<EventType, Integer> backlog) {
+		return (eventType, limit) -> {
+			int count = Math.min(limit, backlog.get(eventType));
+			backlog.put(eventType, backlog.get(eventType) - count);
+			List<PaymentEvent> events = new ArrayList<>();
+			IntStream.range(0, count).forEach(i ->
+					events.add(PaymentEvent.create("PAY-" + i, eventType, "{}")));
+			return events;
+		};
+	}
+	
+	private long countOf(List<PaymentEvent> events, EventType eventType) {
+		return events.stream()
+				.filter(event -> event.getEventType() == eventType)
+				.count();
+	}
+}
@@ -0,0 +1,88 @@
+package com.teambind.payment.application.service;
+
+import com.teambind.payment.application.port.out.PaymentEventRetentionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRetentionSchedulerTest {
+	
+	private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 1, 1, 0, 0);
+	
+	@Mock
+	private PaymentEventRetentionRepository retentionRepository;
+	
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	
+	@Test
+	@DisplayName("보존 정책 - 상한 eventId까지 키셋 청크 단위로 보관 테이블 이동")
+	void purge_archiveMode_movesChunksUntilUpperBound() {
+		// given
+		OutboxRetentionScheduler scheduler = scheduler(OutboxRetentionMode.ARCHIVE);
+		given(retentionRepository.findMaxPublishedEventIdBefore(CUTOFF)).willReturn(Optional.of(5L));
+		given(retentionRepository.findPublishedEventIdsBefore(CUTOFF, 0L, 5L, 2)).willReturn(List.of(1L, 2L));
+		given(retentionRepository.findPublishedEventIdsBefore(CUTOFF, 2L, 5L, 2)).willReturn(List.of(4L, 5L));
+		given(retentionRepository.findPublishedEventIdsBefore(CUTOFF, 5L, 5L, 2)).willReturn(List.of());
+		given(retentionRepository.moveToArchive(anyList())).willReturn(2);
+		
+		// when
+		long purged = scheduler.purge(CUTOFF);
+		
+		// then
+		assertThat(purged).isEqualTo(4);
+		verify(retentionRepository).moveToArchive(List.of(1L, 2L));
+		verify(retentionRepository).moveToArchive(List.of(4L, 5L));
+		verify(retentionRepository, never()).deleteAll(anyList());
+		assertThat(meterRegistry.counter("outbox.retention.rows", "mode", "archive").count()).isEqualTo(4);
+	}
+	
+	@Test
+	@DisplayName("보존 정책 - DELETE 모드는 보관 없이 삭제하고 마지막 청크가 덜 차면 종료")
+	void purge_deleteMode_stopsOnPartialChunk() {
+		// given
+		OutboxRetentionScheduler scheduler = scheduler(OutboxRetentionMode.DELETE);
+		given(retentionRepository.findMaxPublishedEventIdBefore(CUTOFF)).willReturn(Optional.of(3L));
+		given(retentionRepository.findPublishedEventIdsBefore(CUTOFF, 0L, 3L, 2)).willReturn(List.of(3L));
+		given(retentionRepository.deleteAll(List.of(3L))).willReturn(1);
+		
+		// when
+		long purged = scheduler.purge(CUTOFF);
+		
+		// then
+		assertThat(purged).isEqualTo(1);
+		verify(retentionRepository, never()).moveToArchive(anyList());
+	}
+	
+	@Test
+	@DisplayName("보존 정책 - 정리 대상이 없으면 청크 조회를 하지 않음")
+	void purge_noCandidates_doesNothing() {
+		// given
+		OutboxRetentionScheduler scheduler = scheduler(OutboxRetentionMode.ARCHIVE);
+		given(retentionRepository.findMaxPublishedEventIdBefore(CUTOFF)).willReturn(Optional.empty());
+		
+		// when
+		long purged = scheduler.purge(CUTOFF);
+		
+		// then
+		assertThat(purged).isZero();
+		verify(retentionRepository, never()).moveToArchive(anyList());
+	}
+	
+	private OutboxRetentionScheduler scheduler(OutboxRetentionMode mode) {
+		return new OutboxRetentionScheduler(retentionRepository, meterRegistry, true, mode, 30, 2, 0);
+	}
+}
@@ -0,0 +1,110 @@
+package com.teambind.payment.application.service;
+
+import com.teambind.payment.adapter.out.toss.dto.TossPaymentConfirmResponse;
+import com.teambind.payment.application.port.out.PaymentRepository;
+import com.teambind.payment.application.port.out.TossPaymentClient;
+import com.teambind.payment.common.exception.TossApiException;
+import com.teambind.payment.domain.Money;
+import com.teambind.payment.domain.Payment;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentConfirmRecoverySchedulerTest {
+	
+	@Mock
+	private PaymentRepository paymentRepository;
+	
+	@Mock
+	private TossPaymentClient tossPaymentClient;
+	
+	@Mock
+	private PaymentConfirmService paymentConfirmService;
+	
+	private SimpleMeterRegistry meterRegistry;
+	private PaymentConfirmRecoveryScheduler scheduler;
+	
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		scheduler = new PaymentConfirmRecoveryScheduler(
+				paymentRepository, tossPaymentClient, paymentConfirmService, meterRegistry, 60000, 100);
+	}
+	
+	@Test
+	@DisplayName("토스에서 승인된 결제는 완료 처리, 미승인 결제는 PREPARED로 되돌림")
+	void recover_resolvesByTossStatus() {
+		// given
+		Payment approved = confirming("RSV-001", "KEY-001");
+		Payment aborted = confirming("RSV-002", "KEY-002");
+		TossPaymentConfirmResponse done = tossResponse("KEY-001", "DONE");
+		given(paymentRepository.findConfirmingStartedBefore(any(LocalDateTime.class), anyInt()))
+				.willReturn(List.of(approved, aborted));
+		given(tossPaymentClient.getPayment("KEY-001")).willReturn(done);
+		given(tossPaymentClient.getPayment("KEY-002")).willReturn(tossResponse("KEY-002", "ABORTED"));
+		
+		// when
+		int resolved = scheduler.recover();
+		
+		// then
+		assertThat(resolved).isEqualTo(2);
+		verify(paymentConfirmService).completeConfirmation(approved.getPaymentId(), done);
+		verify(paymentConfirmService).releaseConfirmation(aborted.getPaymentId());
+		assertThat(meterRegistry.get("payment.confirm.recovered").tag("outcome", "completed").counter().count())
+				.isEqualTo(1.0);
+	}
+	
+	@Test
+	@DisplayName("조회 결과를 알 수 없거나 서킷이 열려 있으면 다음 주기에 재시도, 조회 거절은 PREPARED로 되돌림")
+	void recover_unknownOutcomeSkipped_rejectedReleased() {
+		// given
+		Payment unknown = confirming("RSV-001", "KEY-001");
+		Payment notFound = confirming("RSV-002", "KEY-002");
+		Payment circuitOpen = confirming("RSV-003", "KEY-003");
+		given(paymentRepository.findConfirmingStartedBefore(any(LocalDateTime.class), anyInt()))
+				.willReturn(List.of(unknown, notFound, circuitOpen));
+		given(tossPaymentClient.getPayment("KEY-001"))
+				.willThrow(TossApiException.outcomeUnknown("토스 결제 조회 실패: timeout", null));
+		given(tossPaymentClient.getPayment("KEY-002"))
+				.willThrow(TossApiException.rejected("토스 결제 조회 실패: 404 Not Found", null));
+		given(tossPaymentClient.getPayment("KEY-003"))
+				.willThrow(TossApiException.unavailable("토스 결제 조회 거절 - 서킷 열림: tossPayment", null));
+		
+		// when
+		int resolved = scheduler.recover();
+		
+		// then
+		assertThat(resolved).isEqualTo(1);
+		verify(paymentConfirmService, never()).releaseConfirmation(unknown.getPaymentId());
+		verify(paymentConfirmService, never()).releaseConfirmation(circuitOpen.getPaymentId());
+		verify(paymentConfirmService).releaseConfirmation(notFound.getPaymentId());
+		verify(paymentConfirmService, never()).completeConfirmation(any(), any());
+	}
+	
+	private Payment confirming(String reservationId, String paymentKey) {
+		Payment payment = Payment.prepare(reservationId, Money.of(50000), LocalDateTime.now().plusDays(7));
+		payment.startConfirmation(reservationId, paymentKey);
+		return payment;
+	}
+	
+	private TossPaymentConfirmResponse tossResponse(String paymentKey, String status) {
+		return new TossPaymentConfirmResponse(
+				paymentKey, "order-123", "NORMAL", "transaction-123", 50000L, "CARD", status, OffsetDateTime.now());
+	}
+}
@@ -5,17 +5,19 @@ import com.teambind.payment.adapter.out.toss.dto.TossPaymentConfirmResponse;
 import com.teambind.payment.application.port.out.PaymentRepository;
 import com.teambind.payment.application.port.out.TossPaymentClient;
 import com.teambind.payment.common.exception.PaymentException;
+import com.teambind.payment.common.exception.TossApiException;
 import com.teambind.payment.domain.Money;
 import com.teambind.payment.domain.Payment;
 import com.teambind.payment.domain.PaymentMethod;
 import com.teambind.payment.domain.PaymentStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
@@ -38,7 +40,6 @@ class PaymentConfirmServiceTest {
 	@Mock
 	private PaymentEventPublisher paymentEventPublisher;
 	
-	@InjectMocks
 	private PaymentConfirmService paymentConfirmService;
 	
 	private Payment payment;
@@ -46,6 +47,14 @@ class PaymentConfirmServiceTest {
 	
 	@BeforeEach
 	void setUp() {
+		paymentConfirmService = new PaymentConfirmService(
+				paymentRepository,
+				tossPaymentClient,
+				paymentEventPublisher,
+				TransactionOperations.withoutTransaction(),
+				new SimpleMeterRegistry()
+		);
+		
 		payment = Payment.prepare("reservation-123", Money.of(100000L), LocalDateTime.now().plusDays(7));
 		
 		tossResponse = new TossPaymentConfirmResponse(
@@ -68,8 +77,9 @@ class PaymentConfirmServiceTest {
 		String paymentKey = "payment-key-123";
 		Long amount = 100000L;
 		
-		given(paymentRepository.findByReservationId(orderId)).willReturn(Optional.of(payment));
-		given(tossPaymentClient.confirmPayment(any(TossPaymentConfirmRequest.class))).willReturn(tossResponse);
+		given(paymentRepository.findByReservationIdForUpdate(orderId)).willReturn(Optional.of(payment));
+		given(paymentRepository.findByIdForUpdate(payment.getPaymentId())).willReturn(Optional.of(payment));
+		given(tossPaymentClient.confirmPayment(any(TossPaymentConfirmRequest.class), anyString())).willReturn(tossResponse);
 		given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
 		
 		// when
@@ -83,15 +93,16 @@ class PaymentConfirmServiceTest {
 		assertThat(result.getMethod()).isEqualTo(PaymentMethod.CARD);
 		
 		verify(paymentRepository).findByReservationId(orderId);
-		verify(tossPaymentClient).confirmPayment(any(TossPaymentConfirmRequest.class));
-		verify(paymentRepository).save(any(Payment.class));
+		verify(tossPaymentClient).confirmPayment(any(TossPaymentConfirmRequest.class), anyString());
+		verify(paymentRepository, times(2)).save(any(Payment.class));
+		verify(paymentEventPublisher).publishPaymentCompletedEvent(any());
 	}
 	
 	@Test
 	@DisplayName("결제 승인 성공 - 간편결제")
 	void confirmPayment_success_easyPay() {
 		// given
-		String paymentId = payment.getPaymentId();
+		String orderId = payment.getReservationId();
 		TossPaymentConfirmResponse easyPayResponse = new TossPaymentConfirmResponse(
 				"payment-key-123",
 				"order-123",
@@ -100,15 +111,16 @@ class PaymentConfirmServiceTest {
 				100000L,
 				"EASY_PAY",
 				"DONE",
-				LocalDateTime.now()
+				OffsetDateTime.now()
 		);
 		
-		given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
-		given(tossPaymentClient.confirmPayment(any(TossPaymentConfirmRequest.class))).willReturn(easyPayResponse);
+		given(paymentRepository.findByReservationIdForUpdate(orderId)).willReturn(Optional.of(payment));
+		given(paymentRepository.findByIdForUpdate(payment.getPaymentId())).willReturn(Optional.of(payment));
+		given(tossPaymentClient.confirmPayment(any(TossPaymentConfirmRequest.class), anyString())).willReturn(easyPayResponse);
 		given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
 		
 		// when
-		Payment result = paymentConfirmService.confirmPayment(paymentId, "order-123", "payment-key-123", 100000L);
+		Payment result = paymentConfirmService.confirmPayment(orderId, "payment-key-123", 100000L);
 		
 		// then
 		assertThat(result.getMethod()).isEqualTo(PaymentMethod.EASY_PAY);
@@ -118,7 +130,7 @@ class PaymentConfirmServiceTest {
 	@DisplayName("결제 승인 성공 - 가상계좌")
 	void confirmPayment_success_virtualAccount() {
 		// given
-		String paymentId = payment.getPaymentId();
+		String orderId = payment.getReservationId();
 		TossPaymentConfirmResponse virtualAccountResponse = new TossPaymentConfirmResponse(
 				"payment-key-123",
 				"order-123",
@@ -127,15 +139,16 @@ class PaymentConfirmServiceTest {
 				100000L,
 				"VIRTUAL_ACCOUNT",
 				"DONE",
-				LocalDateTime.now()
+				OffsetDateTime.now()
 		);
 		
-		given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
-		given(tossPaymentClient.confirmPayment(any(TossPaymentConfirmRequest.class))).willReturn(virtualAccountResponse);
+		given(paymentRepository.findByReservationIdForUpdate(orderId)).willReturn(Optional.of(payment));
+		given(paymentRepository.findByIdForUpdate(payment.getPaymentId())).willReturn(Optional.of(payment));
+		given(tossPaymentClient.confirmPayment(any(TossPaymentConfirmRequest.class), anyString())).willReturn(virtualAccountResponse);
 		given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
 		
 		// when
-		Payment result = paymentConfirmService.confirmPayment(paymentId, "order-123", "payment-key-123", 100000L);
+		Payment result = paymentConfirmService.confirmPayment(orderId, "payment-key-123", 100000L);
 		
 		// then
 		assertThat(result.getMethod()).isEqualTo(PaymentMethod.VIRTUAL_ACCOUNT);
@@ -145,18 +158,17 @@ class PaymentConfirmServiceTest {
 	@DisplayName("결제 승인 실패 - 결제 정보를 찾을 수 없음")
 	void confirmPayment_fail_paymentNotFound() {
 		// given
-		String paymentId = "non-existent-id";
-		given(paymentRepository.findById(paymentId)).willReturn(Optional.empty());
+		String orderId = "non-existent-id";
+		given(paymentRepository.findByReservationIdForUpdate(orderId)).willReturn(Optional.empty());
 		
 		// when & then
 		assertThatThrownBy(() -> paymentConfirmService.confirmPayment(
-				paymentId, "order-123", "payment-key-123", 100000L
+				orderId, "payment-key-123", 100000L
 		))
-				.isInstanceOf(PaymentException.class)
-				.hasMessageContaining("Payment not found");
+				.isInstanceOf(PaymentException.class);
 		
-		verify(paymentRepository).findById(paymentId);
-		verify(tossPaymentClient, never()).confirmPayment(any());
+		verify(paymentRepository).findByReservationId(orderId);
+		verify(tossPaymentClient, never()).confirmPayment(any(), any());
 		verify(paymentRepository, never()).save(any());
 	}
 	
@@ -164,49 +176,122 @@ class PaymentConfirmServiceTest {
 	@DisplayName("결제 승인 실패 - 금액 불일치")
 	void confirmPayment_fail_amountMismatch() {
 		// given
-		String paymentId = payment.getPaymentId();
+		String orderId = payment.getReservationId();
 		Long wrongAmount = 200000L; // 원래 금액과 다름
 		
-		given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
+		given(paymentRepository.findByReservationIdForUpdate(orderId)).willReturn(Optional.of(payment));
 		
 		// when & then
 		assertThatThrownBy(() -> paymentConfirmService.confirmPayment(
-				paymentId, "order-123", "payment-key-123", wrongAmount
+				orderId, "payment-key-123", wrongAmount
 		))
 				.isInstanceOf(IllegalArgumentException.class)
 				.hasMessageContaining("금액이 일치하지 않습니다");
 		
-		verify(paymentRepository).findById(paymentId);
-		verify(tossPaymentClient, never()).confirmPayment(any());
+		verify(paymentRepository).findByReservationId(orderId);
+		verify(tossPaymentClient, never()).confirmPayment(any(), any());
 		verify(paymentRepository, never()).save(any());
 	}
 	
 	@Test
-	@DisplayName("결제 승인 실패 - 토스 API 호출 실패")
+	@DisplayName("결제 승인 실패 - 토스 API 결과 미확정 시 CONFIRMING 유지")
 	void confirmPayment_fail_tossApiError() {
 		// given
-		String paymentId = payment.getPaymentId();
-		given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
-		given(tossPaymentClient.confirmPayment(any(TossPaymentConfirmRequest.class)))
+		String orderId = payment.getReservationId();
+		given(paymentRepository.findByReservationIdForUpdate(orderId)).willReturn(Optional.of(payment));
+		given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
+		given(tossPaymentClient.confirmPayment(any(TossPaymentConfirmRequest.class), anyString()))
 				.willThrow(new RuntimeException("토스 API 오류"));
 		
 		// when & then
 		assertThatThrownBy(() -> paymentConfirmService.confirmPayment(
-				paymentId, "order-123", "payment-key-123", 100000L
+				orderId, "payment-key-123", 100000L
 		))
 				.isInstanceOf(RuntimeException.class)
 				.hasMessageContaining("토스 API 오류");
 		
-		verify(paymentRepository).findById(paymentId);
-		verify(tossPaymentClient).confirmPayment(any(TossPaymentConfirmRequest.class));
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CONFIRMING);
+		verify(tossPaymentClient).confirmPayment(any(TossPaymentConfirmRequest.class), anyString());
+		verify(paymentRepository, times(1)).save(any());
+		verify(paymentEventPublisher, never()).publishPaymentCompletedEvent(any());
+	}
+	
+	@Test
+	@DisplayName("결제 승인 실패 - 토스가 거절하면 PREPARED로 되돌림")
+	void confirmPayment_fail_tossRejected_releasesConfirmation() {
+		// given
+		String orderId = payment.getReservationId();
+		given(paymentRepository.findByReservationIdForUpdate(orderId)).willReturn(Optional.of(payment));
+		given(paymentRepository.findByIdForUpdate(payment.getPaymentId())).willReturn(Optional.of(payment));
+		given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
+		given(tossPaymentClient.confirmPayment(any(TossPaymentConfirmRequest.class), anyString()))
+				.willThrow(TossApiException.rejected("토스 결제 승인 실패: 400 Bad Request", null));
+		
+		// when & then
+		assertThatThrownBy(() -> paymentConfirmService.confirmPayment(
+				orderId, "payment-key-123", 100000L
+		))
+				.isInstanceOf(TossApiException.class);
+		
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PREPARED);
+		assertThat(payment.getPaymentKey()).isNull();
+		verify(paymentRepository, times(2)).save(any());
+	}
+	
+	@Test
+	@DisplayName("중복 승인 - 같은 결제 키로 이미 완료된 결제는 토스를 다시 호출하지 않고 반환")
+	void confirmPayment_duplicate_alreadyCompleted() {
+		// given
+		String orderId = payment.getReservationId();
+		payment.startConfirmation(orderId, "payment-key-123");
+		payment.complete(orderId, "payment-key-123", "transaction-123", PaymentMethod.CARD);
+		given(paymentRepository.findByReservationIdForUpdate(orderId)).willReturn(Optional.of(payment));
+		
+		// when
+		Payment result = paymentConfirmService.confirmPayment(orderId, "payment-key-123", 100000L);
+		
+		// then
+		assertThat(result.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+		verify(tossPaymentClient, never()).confirmPayment(any(), any());
 		verify(paymentRepository, never()).save(any());
 	}
 	
+	@Test
+	@DisplayName("중복 승인 - 다른 노드가 같은 결제 키로 승인 중이면 기다리지 않고 진행 중 예외")
+	void confirmPayment_duplicate_inProgressOnOtherNode() {
+		// given
+		String orderId = payment.getReservationId();
+		payment.startConfirmation(orderId, "payment-key-123");
+		given(paymentRepository.findByReservationIdForUpdate(orderId)).willReturn(Optional.of(payment));
+		
+		// when & then
+		assertThatThrownBy(() -> paymentConfirmService.confirmPayment(orderId, "payment-key-123", 100000L))
+				.isInstanceOf(PaymentException.class)
+				.hasMessageContaining("in progress");
+		verify(tossPaymentClient, never()).confirmPayment(any(), any());
+		verify(paymentRepository, never()).findByReservationId(any());
+	}
+	
+	@Test
+	@DisplayName("중복 승인 - 다른 결제 키로 승인 중이면 충돌 예외")
+	void confirmPayment_duplicate_otherPaymentKeyInProgress() {
+		// given
+		String orderId = payment.getReservationId();
+		payment.startConfirmation(orderId, "payment-key-other");
+		given(paymentRepository.findByReservationIdForUpdate(orderId)).willReturn(Optional.of(payment));
+		
+		// when & then
+		assertThatThrownBy(() -> paymentConfirmService.confirmPayment(orderId, "payment-key-123", 100000L))
+				.isInstanceOf(PaymentException.class)
+				.hasMessageContaining("in progress");
+		verify(tossPaymentClient, never()).confirmPayment(any(), any());
+	}
+	
 	@Test
 	@DisplayName("결제 수단 매핑 - 한글 입력")
 	void confirmPayment_methodMapping_korean() {
 		// given
-		String paymentId = payment.getPaymentId();
+		String orderId = payment.getReservationId();
 		TossPaymentConfirmResponse koreanResponse = new TossPaymentConfirmResponse(
 				"payment-key-123",
 				"order-123",
@@ -215,15 +300,16 @@ class PaymentConfirmServiceTest {
 				100000L,
 				"카드",
 				"DONE",
-				LocalDateTime.now()
+				OffsetDateTime.now()
 		);
 		
-		given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
-		given(tossPaymentClient.confirmPayment(any(TossPaymentConfirmRequest.class))).willReturn(koreanResponse);
+		given(paymentRepository.findByReservationIdForUpdate(orderId)).willReturn(Optional.of(payment));
+		given(paymentRepository.findByIdForUpdate(payment.getPaymentId())).willReturn(Optional.of(payment));
+		given(tossPaymentClient.confirmPayment(any(TossPaymentConfirmRequest.class), anyString())).willReturn(koreanResponse);
 		given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
 		
 		// when
-		Payment result = paymentConfirmService.confirmPayment(paymentId, "order-123", "payment-key-123", 100000L);
+		Payment result = paymentConfirmService.confirmPayment(orderId, "payment-key-123", 100000L);
 		
 		// then
 		assertThat(result.getMethod()).isEqualTo(PaymentMethod.CARD);
@@ -233,7 +319,7 @@ class PaymentConfirmServiceTest {
 	@DisplayName("결제 수단 매핑 - 알 수 없는 결제 수단은 CARD로 기본 처리")
 	void confirmPayment_methodMapping_unknown() {
 		// given
-		String paymentId = payment.getPaymentId();
+		String orderId = payment.getReservationId();
 		TossPaymentConfirmResponse unknownResponse = new TossPaymentConfirmResponse(
 				"payment-key-123",
 				"order-123",
@@ -242,15 +328,16 @@ class PaymentConfirmServiceTest {
 				100000L,
 				"UNKNOWN_METHOD",
 				"DONE",
-				LocalDateTime.now()
+				OffsetDateTime.now()
 		);
 		
-		given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
-		given(tossPaymentClient.confirmPayment(any(TossPaymentConfirmRequest.class))).willReturn(unknownResponse);
+		given(paymentRepository.findByReservationIdForUpdate(orderId)).willReturn(Optional.of(payment));
+		given(paymentRepository.findByIdForUpdate(payment.getPaymentId())).willReturn(Optional.of(payment));
+		given(tossPaymentClient.confirmPayment(any(TossPaymentConfirmRequest.class), anyString())).willReturn(unknownResponse);
 		given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
 		
 		// when
-		Payment result = paymentConfirmService.confirmPayment(paymentId, "order-123", "payment-key-123", 100000L);
+		Payment result = paymentConfirmService.confirmPayment(orderId, "payment-key-123", 100000L);
 		
 		// then
 		assertThat(result.getMethod()).isEqualTo(PaymentMethod.CARD); // 기본값
@@ -0,0 +1,114 @@
+package com.teambind.payment.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.payment.adapter.out.kafka.dto.PaymentCompletedEvent;
+import com.teambind.payment.adapter.out.kafka.wire.PaymentEventSchemaRegistry;
+import com.teambind.payment.adapter.out.kafka.wire.PaymentEventWireEncoder;
+import com.teambind.payment.adapter.out.kafka.wire.WireFormat;
+import com.teambind.payment.application.port.out.PaymentEventRepository;
+import com.teambind.payment.domain.EventType;
+import com.teambind.payment.domain.PayloadCodec;
+import com.teambind.payment.domain.PaymentEvent;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentEventPublisherTest {
+	
+	private static final String PAYMENT_COMPLETED_TOPIC = "payment-completed";
+	
+	@Mock
+	private PaymentEventRepository paymentEventRepository;
+	
+	@Mock
+	private KafkaTemplate<String, byte[]> kafkaTemplate;
+	
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+	
+	private PaymentEventPublisher paymentEventPublisher;
+	
+	@BeforeEach
+	void setUp() {
+		ObjectMapper objectMapper = new ObjectMapper();
+		paymentEventPublisher = new PaymentEventPublisher(
+				paymentEventRepository,
+				kafkaTemplate,
+				objectMapper,
+				applicationEventPublisher,
+				new PaymentEventWireEncoder(
+						objectMapper,
+						new PaymentEventSchemaRegistry(),
+						WireFormat.JSON,
+						WireFormat.JSON,
+						WireFormat.JSON
+				),
+				PayloadCodec.DEFLATE_DICT_V1,
+				60000L,
+				"worker-1"
+		);
+		ReflectionTestUtils.setField(paymentEventPublisher, "paymentCompletedTopic", PAYMENT_COMPLETED_TOPIC);
+	}
+	
+	@Test
+	@DisplayName("Kafka 전송 - 저장된 payload를 재직렬화 없이 바이트 그대로 전송")
+	void sendEventToKafka_sendsStoredPayloadBytes() {
+		// given
+		String payload = "{\"paymentId\":\"PAY-001\",\"amount\":50000,\"paidAt\":\"2025-01-01T10:00:00\"}";
+		PaymentEvent event = PaymentEvent.create("PAY-001", EventType.PAYMENT_COMPLETED, payload);
+		given(kafkaTemplate.send(any(ProducerRecord.class)))
+				.willReturn(new CompletableFuture<>());
+		
+		// when
+		paymentEventPublisher.sendEventToKafka(event);
+		
+		// then
+		ArgumentCaptor<ProducerRecord<String, byte[]>> recordCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
+		verify(kafkaTemplate).send(recordCaptor.capture());
+		ProducerRecord<String, byte[]> record = recordCaptor.getValue();
+		assertThat(record.topic()).isEqualTo(PAYMENT_COMPLETED_TOPIC);
+		assertThat(record.key()).isEqualTo("PAY-001");
+		assertThat(record.value()).isEqualTo(payload.getBytes(StandardCharsets.UTF_8));
+		assertThat(record.headers().lastHeader(PaymentEventWireEncoder.CONTENT_TYPE_HEADER).value())
+				.isEqualTo("application/json".getBytes(StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	@DisplayName("이벤트 저장 - 설정된 저장 코덱(기본 DEFLATE_DICT_V1)으로 payload를 저장하고 발행 시 원본 JSON으로 복원")
+	void publishPaymentCompletedEvent_storesWithConfiguredCodec() {
+		// given
+		PaymentCompletedEvent event = new PaymentCompletedEvent(
+				"PAY-001", "RSV-001", "ORDER-001", "tgen_key", 50000L, "CARD", LocalDateTime.of(2025, 1, 1, 10, 0));
+		
+		// when
+		paymentEventPublisher.publishPaymentCompletedEvent(event);
+		
+		// then
+		ArgumentCaptor<PaymentEvent> eventCaptor = ArgumentCaptor.forClass(PaymentEvent.class);
+		verify(paymentEventRepository).save(eventCaptor.capture());
+		PaymentEvent saved = eventCaptor.getValue();
+		assertThat(saved.getPayloadCodec()).isEqualTo(PayloadCodec.DEFLATE_DICT_V1);
+		assertThat(saved.getPayload()).isNull();
+		assertThat(new String(saved.getPayloadBytes(), StandardCharsets.UTF_8))
+				.isEqualTo("{\"paymentId\":\"PAY-001\",\"reservationId\":\"RSV-001\",\"orderId\":\"ORDER-001\","
+						+ "\"paymentKey\":\"tgen_key\",\"amount\":50000,\"method\":\"CARD\",\"paidAt\":\"2025-01-01T10:00:00\"}");
+	}
+}
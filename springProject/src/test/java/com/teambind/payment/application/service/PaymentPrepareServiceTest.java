@@ -4,14 +4,19 @@ import com.teambind.payment.application.port.out.PaymentRepository;
 import com.teambind.payment.domain.Money;
 import com.teambind.payment.domain.Payment;
 import com.teambind.payment.domain.PaymentStatus;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,9 +33,24 @@ class PaymentPrepareServiceTest {
 	@Mock
 	private PaymentRepository paymentRepository;
 	
-	@InjectMocks
+	@Mock
+	private PreparedReservationFilter preparedReservationFilter;
+	
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+	
 	private PaymentPrepareService paymentPrepareService;
 	
+	@BeforeEach
+	void setUp() {
+		paymentPrepareService = new PaymentPrepareService(
+				paymentRepository,
+				preparedReservationFilter,
+				applicationEventPublisher,
+				TransactionOperations.withoutTransaction()
+		);
+	}
+	
 	@Test
 	@DisplayName("결제 준비 - 신규 예약")
 	void preparePayment_NewReservation_Success() {
@@ -83,6 +103,29 @@ class PaymentPrepareServiceTest {
 		verify(paymentRepository, never()).save(any(Payment.class));
 	}
 	
+	@Test
+	@DisplayName("결제 준비 - 동시 저장으로 유니크 키 위반 시 먼저 저장된 결제 반환")
+	void preparePayment_ConcurrentInsert_ReturnsCommittedPayment() {
+		// Given
+		String reservationId = "RSV-004";
+		Long amount = 50000L;
+		LocalDateTime checkInDate = LocalDateTime.now().plusDays(7);
+		
+		Payment committedPayment = Payment.prepare(reservationId, Money.of(amount), checkInDate);
+		given(paymentRepository.findByReservationId(reservationId))
+				.willReturn(Optional.empty())
+				.willReturn(Optional.of(committedPayment));
+		given(paymentRepository.save(any(Payment.class)))
+				.willThrow(new DataIntegrityViolationException("Duplicate entry for key 'uk_reservation_id'"));
+		
+		// When
+		Payment result = paymentPrepareService.preparePayment(reservationId, amount, checkInDate);
+		
+		// Then
+		assertThat(result).isEqualTo(committedPayment);
+		verify(applicationEventPublisher).publishEvent(new ReservationPreparedEvent(List.of(reservationId)));
+	}
+	
 	@Test
 	@DisplayName("결제 준비 - 다양한 금액")
 	void preparePayment_VariousAmounts_Success() {
@@ -104,4 +147,100 @@ class PaymentPrepareServiceTest {
 		// Then
 		assertThat(result.getAmount()).isEqualTo(Money.of(100000));
 	}
+	
+	@Test
+	@DisplayName("배치 결제 준비 - 건별 조회 없이 한 번에 저장")
+	void preparePayments_SavesAllAtOnce() {
+		// Given
+		LocalDateTime checkInDate = LocalDateTime.now().plusDays(7);
+		List<PaymentPrepareService.PrepareRequest> requests = List.of(
+				new PaymentPrepareService.PrepareRequest("RSV-001", 50000L, checkInDate),
+				new PaymentPrepareService.PrepareRequest("RSV-002", 70000L, checkInDate)
+		);
+		
+		// When
+		PaymentPrepareService.BatchPrepareResult result = paymentPrepareService.preparePayments(requests);
+		
+		// Then
+		assertThat(result.prepared()).isEqualTo(2);
+		ArgumentCaptor<List<Payment>> paymentsCaptor = ArgumentCaptor.forClass(List.class);
+		verify(paymentRepository).saveAllIgnoringDuplicates(paymentsCaptor.capture());
+		assertThat(paymentsCaptor.getValue())
+				.extracting(Payment::getReservationId)
+				.containsExactly("RSV-001", "RSV-002");
+		verify(paymentRepository, never()).findByReservationId(anyString());
+	}
+	
+	@Test
+	@DisplayName("배치 결제 준비 - 같은 배치의 중복 예약은 한 번만 저장")
+	void preparePayments_DeduplicatesWithinBatch() {
+		// Given
+		LocalDateTime checkInDate = LocalDateTime.now().plusDays(7);
+		List<PaymentPrepareService.PrepareRequest> requests = List.of(
+				new PaymentPrepareService.PrepareRequest("RSV-001", 50000L, checkInDate),
+				new PaymentPrepareService.PrepareRequest("RSV-001", 50000L, checkInDate)
+		);
+		
+		// When
+		PaymentPrepareService.BatchPrepareResult result = paymentPrepareService.preparePayments(requests);
+		
+		// Then
+		assertThat(result.prepared()).isEqualTo(2);
+		ArgumentCaptor<List<Payment>> paymentsCaptor = ArgumentCaptor.forClass(List.class);
+		verify(paymentRepository).saveAllIgnoringDuplicates(paymentsCaptor.capture());
+		assertThat(paymentsCaptor.getValue())
+				.extracting(Payment::getReservationId)
+				.containsExactly("RSV-001");
+	}
+	
+	@Test
+	@DisplayName("배치 결제 준비 - 검증 실패 요청은 저장하지 않고 위치와 원인을 반환")
+	void preparePayments_ReportsInvalidRequests() {
+		// Given
+		LocalDateTime checkInDate = LocalDateTime.now().plusDays(7);
+		List<PaymentPrepareService.PrepareRequest> requests = List.of(
+				new PaymentPrepareService.PrepareRequest("RSV-001", null, checkInDate),
+				new PaymentPrepareService.PrepareRequest("RSV-002", 70000L, LocalDateTime.now().minusDays(1)),
+				new PaymentPrepareService.PrepareRequest("RSV-003", 30000L, checkInDate)
+		);
+		
+		// When
+		PaymentPrepareService.BatchPrepareResult result = paymentPrepareService.preparePayments(requests);
+		
+		// Then
+		assertThat(result.prepared()).isEqualTo(1);
+		assertThat(result.rejected())
+				.extracting(PaymentPrepareService.RejectedRequest::index)
+				.containsExactly(0, 1);
+		ArgumentCaptor<List<Payment>> paymentsCaptor = ArgumentCaptor.forClass(List.class);
+		verify(paymentRepository).saveAllIgnoringDuplicates(paymentsCaptor.capture());
+		assertThat(paymentsCaptor.getValue())
+				.extracting(Payment::getReservationId)
+				.containsExactly("RSV-003");
+	}
+	
+	@Test
+	@DisplayName("배치 결제 준비 - 중복 필터에 있는 예약은 INSERT 대상에서 제외")
+	void preparePayments_SkipsRecentlyPreparedReservations() {
+		// Given
+		LocalDateTime checkInDate = LocalDateTime.now().plusDays(7);
+		List<PaymentPrepareService.PrepareRequest> requests = List.of(
+				new PaymentPrepareService.PrepareRequest("RSV-001", 50000L, checkInDate),
+				new PaymentPrepareService.PrepareRequest("RSV-002", 70000L, checkInDate)
+		);
+		given(preparedReservationFilter.isPrepared(anyString()))
+				.willAnswer(invocation -> "RSV-001".equals(invocation.getArgument(0)));
+		
+		// When
+		PaymentPrepareService.BatchPrepareResult result = paymentPrepareService.preparePayments(requests);
+		
+		// Then
+		assertThat(result.prepared()).isEqualTo(2);
+		ArgumentCaptor<List<Payment>> paymentsCaptor = ArgumentCaptor.forClass(List.class);
+		verify(paymentRepository).saveAllIgnoringDuplicates(paymentsCaptor.capture());
+		assertThat(paymentsCaptor.getValue())
+				.extracting(Payment::getReservationId)
+				.containsExactly("RSV-002");
+		verify(applicationEventPublisher).publishEvent(new ReservationPreparedEvent(List.of("RSV-002")));
+	}
 }
@@ -0,0 +1,46 @@
+package com.teambind.payment.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PreparedReservationFilterTest {
+	
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final PreparedReservationFilter filter = new PreparedReservationFilter(meterRegistry, 100, 60_000);
+	
+	@Test
+	@DisplayName("커밋된 준비 이벤트의 예약은 필터에 기록되고 나머지는 DB 확인 대상")
+	void isPrepared_afterPreparedEvent_returnsTrueOnlyForRecordedReservations() {
+		// given
+		filter.onReservationPrepared(new ReservationPreparedEvent(List.of("RSV-001", "RSV-002")));
+		
+		// when & then
+		assertThat(filter.isPrepared("RSV-001")).isTrue();
+		assertThat(filter.isPrepared("RSV-002")).isTrue();
+		assertThat(filter.isPrepared("RSV-003")).isFalse();
+		assertThat(filter.isPrepared(null)).isFalse();
+	}
+	
+	@Test
+	@DisplayName("적중/미적중 횟수를 cache.gets 메트릭으로 노출")
+	void isPrepared_recordsHitAndMissMetrics() {
+		// given
+		filter.onReservationPrepared(new ReservationPreparedEvent(List.of("RSV-001")));
+		
+		// when
+		filter.isPrepared("RSV-001");
+		filter.isPrepared("RSV-001");
+		filter.isPrepared("RSV-999");
+		
+		// then
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "preparedReservations").tag("result", "hit")
+				.functionCounter().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "preparedReservations").tag("result", "miss")
+				.functionCounter().count()).isEqualTo(1);
+	}
+}
@@ -7,22 +7,26 @@ import com.teambind.payment.application.port.out.RefundRepository;
 import com.teambind.payment.application.port.out.TossRefundClient;
 import com.teambind.payment.common.exception.PaymentException;
 import com.teambind.payment.common.exception.RefundException;
+import com.teambind.payment.common.exception.TossApiException;
 import com.teambind.payment.domain.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.lenient;
 
 @ExtendWith(MockitoExtension.class)
 class RefundServiceTest {
@@ -39,14 +43,26 @@ class RefundServiceTest {
 	@Mock
 	private PaymentEventPublisher paymentEventPublisher;
 	
-	@InjectMocks
 	private RefundService refundService;
 	
+	// 저장된 환불 (완료/실패 단계에서 다시 조회)
+	private final Map<String, Refund> savedRefunds = new HashMap<>();
+	
 	private Payment payment;
 	private TossRefundResponse tossRefundResponse;
 	
 	@BeforeEach
 	void setUp() {
+		refundService = new RefundService(paymentRepository, refundRepository, tossRefundClient,
+				paymentEventPublisher, TransactionOperations.withoutTransaction());
+		lenient().when(refundRepository.save(any(Refund.class))).thenAnswer(invocation -> {
+			Refund refund = invocation.getArgument(0);
+			savedRefunds.put(refund.getRefundId(), refund);
+			return refund;
+		});
+		lenient().when(refundRepository.findById(anyString()))
+				.thenAnswer(invocation -> Optional.ofNullable(savedRefunds.get(invocation.<String>getArgument(0))));
+		
 		// 7일 후 체크인 예정 결제
 		LocalDateTime checkInDate = LocalDateTime.now().plusDays(10);
 		payment = Payment.prepare("reservation-123", Money.of(100000L), checkInDate);
@@ -69,9 +85,8 @@ class RefundServiceTest {
 		String paymentId = payment.getPaymentId();
 		String reason = "고객 요청";
 		
-		given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
-		given(refundRepository.save(any(Refund.class))).willAnswer(invocation -> invocation.getArgument(0));
-		given(tossRefundClient.cancelPayment(eq(payment.getPaymentKey()), any(TossRefundRequest.class)))
+		given(paymentRepository.findByIdForUpdate(paymentId)).willReturn(Optional.of(payment));
+		given(tossRefundClient.cancelPayment(eq(payment.getPaymentKey()), any(TossRefundRequest.class), anyString()))
 				.willReturn(tossRefundResponse);
 		given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
 		
@@ -86,9 +101,11 @@ class RefundServiceTest {
 		assertThat(result.getReason()).isEqualTo(reason);
 		assertThat(result.getTransactionId()).isEqualTo("refund-transaction-123");
 		
-		verify(paymentRepository).findById(paymentId);
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+		
 		verify(refundRepository, times(2)).save(any(Refund.class));
-		verify(tossRefundClient).cancelPayment(eq(payment.getPaymentKey()), any(TossRefundRequest.class));
+		verify(tossRefundClient).cancelPayment(eq(payment.getPaymentKey()), any(TossRefundRequest.class),
+				eq(result.getTossIdempotencyKey()));
 		verify(paymentRepository).save(any(Payment.class));
 	}
 	
@@ -109,10 +126,9 @@ class RefundServiceTest {
 				LocalDateTime.now()
 		);
 		
-		given(paymentRepository.findById(partialRefundPayment.getPaymentId()))
+		given(paymentRepository.findByIdForUpdate(partialRefundPayment.getPaymentId()))
 				.willReturn(Optional.of(partialRefundPayment));
-		given(refundRepository.save(any(Refund.class))).willAnswer(invocation -> invocation.getArgument(0));
-		given(tossRefundClient.cancelPayment(eq(partialRefundPayment.getPaymentKey()), any(TossRefundRequest.class)))
+		given(tossRefundClient.cancelPayment(eq(partialRefundPayment.getPaymentKey()), any(TossRefundRequest.class), anyString()))
 				.willReturn(partialResponse);
 		given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
 		
@@ -130,16 +146,15 @@ class RefundServiceTest {
 	void processRefund_fail_paymentNotFound() {
 		// given
 		String paymentId = "non-existent-id";
-		given(paymentRepository.findById(paymentId)).willReturn(Optional.empty());
+		given(paymentRepository.findByIdForUpdate(paymentId)).willReturn(Optional.empty());
 		
 		// when & then
 		assertThatThrownBy(() -> refundService.processRefund(paymentId, "고객 요청"))
 				.isInstanceOf(PaymentException.class)
 				.hasMessageContaining("Payment not found");
 		
-		verify(paymentRepository).findById(paymentId);
 		verify(refundRepository, never()).save(any());
-		verify(tossRefundClient, never()).cancelPayment(any(), any());
+		verify(tossRefundClient, never()).cancelPayment(any(), any(), any());
 	}
 	
 	@Test
@@ -150,7 +165,7 @@ class RefundServiceTest {
 		Payment recentPayment = Payment.prepare("reservation-999", Money.of(100000L), checkInDate);
 		recentPayment.complete("order-999", "payment-key-999", "transaction-999", PaymentMethod.CARD);
 		
-		given(paymentRepository.findById(recentPayment.getPaymentId()))
+		given(paymentRepository.findByIdForUpdate(recentPayment.getPaymentId()))
 				.willReturn(Optional.of(recentPayment));
 		
 		// when & then
@@ -160,13 +175,34 @@ class RefundServiceTest {
 	}
 	
 	@Test
-	@DisplayName("환불 처리 실패 - Toss API 호출 실패")
-	void processRefund_fail_tossApiError() {
+	@DisplayName("환불 처리 실패 - 토스가 거절하면 환불 시도만 실패 처리하고 결제는 완료 상태 유지")
+	void processRefund_fail_tossRejected() {
+		// given
+		String paymentId = payment.getPaymentId();
+		given(paymentRepository.findByIdForUpdate(paymentId)).willReturn(Optional.of(payment));
+		given(tossRefundClient.cancelPayment(eq(payment.getPaymentKey()), any(TossRefundRequest.class), anyString()))
+				.willThrow(TossApiException.rejected("이미 취소된 결제입니다", null));
+		
+		// when & then
+		assertThatThrownBy(() -> refundService.processRefund(paymentId, "고객 요청"))
+				.isInstanceOf(RefundException.class)
+				.hasMessageContaining("Refund processing failed");
+		
+		assertThat(savedRefunds.values())
+				.singleElement()
+				.extracting(Refund::getStatus)
+				.isEqualTo(RefundStatus.FAILED);
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+		verify(paymentRepository, never()).save(any(Payment.class));
+	}
+	
+	@Test
+	@DisplayName("환불 처리 결과 미확정 - 환불 시도를 APPROVED로 남기고 결제 상태는 바꾸지 않음")
+	void processRefund_outcomeUnknown_keepsAttemptInFlight() {
 		// given
 		String paymentId = payment.getPaymentId();
-		given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
-		given(refundRepository.save(any(Refund.class))).willAnswer(invocation -> invocation.getArgument(0));
-		given(tossRefundClient.cancelPayment(eq(payment.getPaymentKey()), any(TossRefundRequest.class)))
+		given(paymentRepository.findByIdForUpdate(paymentId)).willReturn(Optional.of(payment));
+		given(tossRefundClient.cancelPayment(eq(payment.getPaymentKey()), any(TossRefundRequest.class), anyString()))
 				.willThrow(new RuntimeException("토스 API 오류"));
 		
 		// when & then
@@ -174,7 +210,38 @@ class RefundServiceTest {
 				.isInstanceOf(RefundException.class)
 				.hasMessageContaining("Refund processing failed");
 		
-		verify(refundRepository, times(2)).save(any(Refund.class));
+		assertThat(savedRefunds.values())
+				.singleElement()
+				.extracting(Refund::getStatus)
+				.isEqualTo(RefundStatus.APPROVED);
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+		verify(refundRepository, times(1)).save(any(Refund.class));
+		verify(paymentRepository, never()).save(any(Payment.class));
+	}
+	
+	@Test
+	@DisplayName("환불 재요청 - 결과 미확정 시도가 있으면 같은 금액/멱등성 키로 다시 요청")
+	void processRefund_retryAfterUnknownOutcome_reusesAttempt() {
+		// given
+		String paymentId = payment.getPaymentId();
+		Refund inFlight = Refund.request(paymentId, Money.of(100000L), Money.of(100000L), "고객 요청");
+		inFlight.approve();
+		savedRefunds.put(inFlight.getRefundId(), inFlight);
+		
+		given(paymentRepository.findByIdForUpdate(paymentId)).willReturn(Optional.of(payment));
+		given(refundRepository.findInFlightByPaymentId(paymentId)).willReturn(Optional.of(inFlight));
+		given(tossRefundClient.cancelPayment(eq(payment.getPaymentKey()), any(TossRefundRequest.class),
+				eq(inFlight.getTossIdempotencyKey())))
+				.willReturn(tossRefundResponse);
+		given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
+		
+		// when
+		Refund result = refundService.processRefund(paymentId, "다른 사유");
+		
+		// then
+		assertThat(result.getRefundId()).isEqualTo(inFlight.getRefundId());
+		assertThat(result.getStatus()).isEqualTo(RefundStatus.COMPLETED);
+		assertThat(savedRefunds).hasSize(1);
 	}
 	
 	@Test
@@ -183,7 +250,7 @@ class RefundServiceTest {
 		// given
 		Payment preparedPayment = Payment.prepare("reservation-555", Money.of(100000L), LocalDateTime.now().plusDays(10));
 		
-		given(paymentRepository.findById(preparedPayment.getPaymentId()))
+		given(paymentRepository.findByIdForUpdate(preparedPayment.getPaymentId()))
 				.willReturn(Optional.of(preparedPayment));
 		
 		// when & then
@@ -0,0 +1,72 @@
+package com.teambind.payment.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class SingleFlightTest {
+	
+	private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+	
+	@Test
+	@DisplayName("실행 중에 도착한 같은 키의 요청은 실행 없이 결과를 공유")
+	void execute_concurrentSameKey_sharesResult() throws Exception {
+		// given
+		AtomicInteger executions = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<SingleFlight.Result<String>> leader = CompletableFuture.supplyAsync(() ->
+				singleFlight.execute("ORDER-001", () -> {
+					executions.incrementAndGet();
+					awaitQuietly(release);
+					return "PAY-001";
+				}));
+		await().atMost(5, TimeUnit.SECONDS).until(() -> singleFlight.inFlightCount() == 1);
+		
+		// when - 실행 중인 요청이 끝나기 전에 같은 키로 요청
+		CompletableFuture.runAsync(release::countDown, CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS));
+		SingleFlight.Result<String> follower = singleFlight.execute("ORDER-001", () -> {
+			executions.incrementAndGet();
+			return "PAY-002";
+		});
+		
+		// then
+		assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(new SingleFlight.Result<>("PAY-001", false));
+		assertThat(follower).isEqualTo(new SingleFlight.Result<>("PAY-001", true));
+		assertThat(executions).hasValue(1);
+		assertThat(singleFlight.inFlightCount()).isZero();
+	}
+	
+	@Test
+	@DisplayName("실행이 끝난 뒤의 요청은 새로 실행하고, 실패한 실행의 예외는 그대로 전달")
+	void execute_afterCompletion_executesAgain() {
+		// given
+		assertThatThrownBy(() -> singleFlight.execute("ORDER-001", () -> {
+			throw new IllegalStateException("토스 API 오류");
+		}))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("토스 API 오류");
+		
+		// when
+		SingleFlight.Result<String> result = singleFlight.execute("ORDER-001", () -> "PAY-001");
+		
+		// then
+		assertThat(result.value()).isEqualTo("PAY-001");
+		assertThat(result.shared()).isFalse();
+	}
+	
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
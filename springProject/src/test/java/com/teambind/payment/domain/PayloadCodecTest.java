@@ -0,0 +1,111 @@
+package com.teambind.payment.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PayloadCodec 테스트")
+class PayloadCodecTest {
+	
+	@Test
+	@DisplayName("압축 코덱 - 압축 후 해제하면 원본 JSON 바이트와 동일")
+	void deflateDict_RoundTrip() {
+		// Given
+		String json = "{\"paymentId\":\"PAY-1A2B3C4D\",\"reservationId\":\"RSV-001\",\"orderId\":\"ORDER-001\","
+				+ "\"paymentKey\":\"tgen_20250101\",\"amount\":50000,\"method\":\"CARD\",\"paidAt\":\"2025-01-01T10:00:00\"}";
+		
+		// When
+		byte[] encoded = PayloadCodec.DEFLATE_DICT_V1.encode(json);
+		byte[] decoded = PayloadCodec.DEFLATE_DICT_V1.decode(encoded);
+		
+		// Then
+		assertThat(decoded).isEqualTo(json.getBytes(StandardCharsets.UTF_8));
+		assertThat(encoded.length).isLessThan(json.length() / 2);
+	}
+	
+	@Test
+	@DisplayName("압축 코덱 - 실제 이벤트 분포의 코퍼스에서 JSON 대비 60% 미만으로 저장")
+	void deflateDict_CorpusSize() {
+		// Given
+		List<String> corpus = realisticCorpus(3000);
+		
+		// When
+		long jsonBytes = 0;
+		long encodedBytes = 0;
+		for (String json : corpus) {
+			byte[] encoded = PayloadCodec.DEFLATE_DICT_V1.encode(json);
+			assertThat(PayloadCodec.DEFLATE_DICT_V1.decode(encoded)).isEqualTo(json.getBytes(StandardCharsets.UTF_8));
+			jsonBytes += json.getBytes(StandardCharsets.UTF_8).length;
+			encodedBytes += encoded.length;
+		}
+		
+		// Then
+		assertThat((double) encodedBytes / jsonBytes).isLessThan(0.6);
+	}
+	
+	@Test
+	@DisplayName("손상된 압축 데이터 - 예외 발생")
+	void deflateDict_Corrupted_ThrowsException() {
+		// Given
+		byte[] corrupted = {0x7f, 0x00, 0x13, 0x37};
+		
+		// When & Then
+		assertThatThrownBy(() -> PayloadCodec.DEFLATE_DICT_V1.decode(corrupted))
+				.isInstanceOf(IllegalStateException.class);
+	}
+	
+	@Test
+	@DisplayName("이벤트 생성 - 압축 코덱은 BLOB 컬럼에 저장하고 JSON_TEXT는 기존 TEXT 컬럼 유지")
+	void create_StoresByCodec() {
+		// Given
+		String payload = "{\"paymentId\":\"PAY-001\",\"amount\":50000}";
+		
+		// When
+		PaymentEvent compressed = PaymentEvent.create("PAY-001", EventType.PAYMENT_COMPLETED, payload, PayloadCodec.DEFLATE_DICT_V1);
+		PaymentEvent legacy = PaymentEvent.create("PAY-001", EventType.PAYMENT_COMPLETED, payload);
+		
+		// Then
+		assertThat(compressed.getPayload()).isNull();
+		assertThat(compressed.getPayloadBinary()).isNotEmpty();
+		assertThat(compressed.getPayloadBytes()).isEqualTo(payload.getBytes(StandardCharsets.UTF_8));
+		assertThat(legacy.getPayloadCodec()).isEqualTo(PayloadCodec.JSON_TEXT);
+		assertThat(legacy.getPayloadBinary()).isNull();
+		assertThat(legacy.getPayloadBytes()).isEqualTo(payload.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	// 결제 완료 / 결제 취소 / 환불 완료 이벤트를 실제 ID 형식(UUID 기반)으로 생성
+	private List<String> realisticCorpus(int size) {
+		Random random = new Random(42);
+		List<String> corpus = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			String paymentId = "PAY-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+			String reservationId = "RSV-" + random.nextInt(1_000_000);
+			long amount = (random.nextInt(100) + 1) * 1000L;
+			String at = String.format("2025-%02d-%02dT%02d:%02d:%02d",
+					random.nextInt(12) + 1, random.nextInt(28) + 1,
+					random.nextInt(24), random.nextInt(60), random.nextInt(60));
+			corpus.add(switch (i % 3) {
+				case 0 -> "{\"paymentId\":\"" + paymentId + "\",\"reservationId\":\"" + reservationId
+						+ "\",\"orderId\":\"ORDER-" + UUID.randomUUID() + "\",\"paymentKey\":\"tgen_"
+						+ UUID.randomUUID().toString().replace("-", "") + "\",\"amount\":" + amount
+						+ ",\"method\":\"CARD\",\"paidAt\":\"" + at + "\"}";
+				case 1 -> "{\"paymentId\":\"" + paymentId + "\",\"reservationId\":\"" + reservationId
+						+ "\",\"orderId\":\"ORDER-" + UUID.randomUUID() + "\",\"amount\":" + amount
+						+ ",\"cancelledAt\":\"" + at + "\"}";
+				default -> "{\"topic\":\"refund-completed\",\"eventType\":\"RefundCompleted\",\"refundId\":\"REF-"
+						+ random.nextInt(100_000) + "\",\"paymentId\":\"" + paymentId + "\",\"reservationId\":\""
+						+ reservationId + "\",\"originalAmount\":" + amount + ",\"refundAmount\":" + (amount * 9 / 10)
+						+ ",\"reason\":\"사용자 요청\",\"completedAt\":\"" + at + "\"}";
+			});
+		}
+		return corpus;
+	}
+}
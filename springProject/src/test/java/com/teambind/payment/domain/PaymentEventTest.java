@@ -3,6 +3,8 @@ package com.teambind.payment.domain;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -124,6 +126,8 @@ class PaymentEventTest {
 		assertThat(event.getStatus()).isEqualTo(EventStatus.FAILED);
 		assertThat(event.getErrorMessage()).isEqualTo(errorMessage);
 		assertThat(event.getRetryCount()).isEqualTo(1);
+		assertThat(event.getNextAttemptAt()).isAfter(event.getCreatedAt());
+		assertThat(event.getErrorHistory()).endsWith("] " + errorMessage + "\n");
 	}
 	
 	@Test
@@ -334,4 +338,32 @@ class PaymentEventTest {
 		assertThat(event.getRetryCount()).isEqualTo(2);
 		assertThat(event.isPublished()).isTrue();
 	}
+	
+	@Test
+	@DisplayName("재발행 지연 - 재시도 횟수에 따라 지수적으로 증가하고 최대 지연을 넘지 않음")
+	void retryBackoff_GrowsExponentiallyWithCap() {
+		// When & Then - 지연의 절반은 고정, 나머지 절반은 지터
+		assertThat(RetryBackoff.delayFor(1)).isBetween(Duration.ofMillis(2500), Duration.ofSeconds(5));
+		assertThat(RetryBackoff.delayFor(2)).isBetween(Duration.ofSeconds(5), Duration.ofSeconds(10));
+		assertThat(RetryBackoff.delayFor(3)).isBetween(Duration.ofSeconds(10), Duration.ofSeconds(20));
+		assertThat(RetryBackoff.delayFor(30)).isBetween(Duration.ofMinutes(5), Duration.ofMinutes(10));
+	}
+	
+	@Test
+	@DisplayName("재시도 초기화 시 재발행 예정 시각 제거")
+	void resetForRetry_ClearsNextAttemptAt() {
+		// Given
+		PaymentEvent event = PaymentEvent.create(
+				"PAY-12345678",
+				EventType.PAYMENT_COMPLETED,
+				"{\"reservationId\":\"RSV-001\"}"
+		);
+		event.markAsFailed("Kafka connection timeout");
+		
+		// When
+		event.resetForRetry();
+		
+		// Then
+		assertThat(event.getNextAttemptAt()).isNull();
+	}
 }
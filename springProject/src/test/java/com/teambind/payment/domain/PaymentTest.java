@@ -108,6 +108,44 @@ class PaymentTest {
 				.hasMessageContaining("PREPARED 상태에서만 완료 처리 가능합니다");
 	}
 	
+	@Test
+	@DisplayName("승인 시작 - CONFIRMING 전환 후 완료 처리 가능")
+	void startConfirmation_ThenComplete_Success() {
+		// Given
+		Payment payment = Payment.prepare("RSV-001", Money.of(50000), LocalDateTime.now().plusDays(7));
+		
+		// When
+		payment.startConfirmation("ORDER-001", "KEY-001");
+		
+		// Then
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CONFIRMING);
+		assertThat(payment.getConfirmStartedAt()).isNotNull();
+		assertThatThrownBy(() -> payment.startConfirmation("ORDER-001", "KEY-002"))
+				.isInstanceOf(IllegalStateException.class);
+		
+		payment.complete("ORDER-001", "KEY-001", "TXN-001", PaymentMethod.CARD);
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+	}
+	
+	@Test
+	@DisplayName("승인 되돌림 - PREPARED로 복귀하고 승인 정보 초기화")
+	void releaseConfirmation_BackToPrepared() {
+		// Given
+		Payment payment = Payment.prepare("RSV-001", Money.of(50000), LocalDateTime.now().plusDays(7));
+		payment.startConfirmation("ORDER-001", "KEY-001");
+		
+		// When
+		payment.releaseConfirmation();
+		
+		// Then
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PREPARED);
+		assertThat(payment.getPaymentKey()).isNull();
+		assertThat(payment.getConfirmStartedAt()).isNull();
+		assertThatThrownBy(payment::releaseConfirmation)
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("CONFIRMING 상태에서만");
+	}
+	
 	@Test
 	@DisplayName("금액 검증 - 일치하면 성공")
 	void validateAmount_Match_Success() {
@@ -222,4 +260,21 @@ class PaymentTest {
 				.isInstanceOf(IllegalStateException.class)
 				.hasMessageContaining("완료된 결제만 취소할 수 있습니다");
 	}
+	
+	@Test
+	@DisplayName("토스 승인 멱등성 키 - 같은 승인 시도는 같은 키, 다른 결제 키로 재승인하면 다른 키")
+	void confirmIdempotencyKey_StablePerPaymentKey() {
+		// Given
+		Payment payment = Payment.prepare("RSV-001", Money.of(50000), LocalDateTime.now().plusDays(7));
+		payment.startConfirmation("ORDER-001", "KEY-001");
+		String firstKey = payment.confirmIdempotencyKey();
+		
+		// When
+		payment.releaseConfirmation();
+		payment.startConfirmation("ORDER-001", "KEY-002");
+		
+		// Then
+		assertThat(firstKey).isNotEqualTo(payment.confirmIdempotencyKey());
+		assertThat(payment.confirmIdempotencyKey()).isEqualTo(payment.confirmIdempotencyKey());
+	}
 }
@@ -30,6 +30,18 @@ class RefundTest {
 		assertThat(refund.getRequestedAt()).isNotNull();
 	}
 	
+	@Test
+	@DisplayName("환불 요청 - 시도마다 다른 토스 취소 멱등성 키")
+	void request_IdempotencyKeyPerAttempt() {
+		// When
+		Refund first = Refund.request("PAY-12345678", Money.of(50000), Money.of(50000), "고객 취소 요청");
+		Refund second = Refund.request("PAY-12345678", Money.of(50000), Money.of(50000), "고객 취소 요청");
+		
+		// Then
+		assertThat(first.getTossIdempotencyKey()).isNotBlank();
+		assertThat(first.getTossIdempotencyKey()).isNotEqualTo(second.getTossIdempotencyKey());
+	}
+	
 	@Test
 	@DisplayName("환불 요청 - paymentId가 null이면 예외 발생")
 	void request_NullPaymentId_ThrowsException() {